@@ -0,0 +1,109 @@
+package com.travelhub.booking.benchmarks;
+
+import com.travelhub.booking.dto.response.GroupedRateDto;
+import com.travelhub.booking.dto.response.HotelRateResponseDto;
+import com.travelhub.booking.dto.response.RateDto;
+import com.travelhub.booking.dto.response.RoomConfigurationGroupDto;
+import com.travelhub.booking.mapper.HotelDataMapper;
+import com.travelhub.booking.mapper.RateMapper;
+import com.travelhub.booking.mapper.RoomIndex;
+import com.travelhub.connectors.nuitee.dto.response.HotelData;
+import com.travelhub.connectors.nuitee.dto.response.Rate;
+import com.travelhub.connectors.nuitee.dto.response.RoomType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of the rates of one hotel page: offers grouped with their room breakdown, then by room configuration,
+ * and the per-night price computation of every rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotelRateMappingBenchmark {
+
+    private static final int ROOM_TYPES = 40;
+
+    @Param({ "1", "10", "50" })
+    public int ratesPerRoomType;
+
+    /**
+     * Rooms in the hotel content; large resorts list several dozen.
+     */
+    @Param({ "12", "60" })
+    public int rooms;
+
+    private final RateMapper rateMapper = new RateMapper();
+    private final HotelDataMapper hotelDataMapper = new HotelDataMapper();
+    private HotelData hotelData;
+    private RoomIndex roomIndex;
+    private List<RoomType> roomTypes;
+    private Rate rate;
+    private Integer numberOfNights;
+    private List<GroupedRateDto> offers;
+
+    @Setup
+    public void setUp() {
+        hotelData = MapperFixtures.hotelData(rooms);
+        roomIndex = RoomIndex.of(hotelData.getRooms());
+        roomTypes = MapperFixtures.roomTypes(new Random(42), ROOM_TYPES, ratesPerRoomType, rooms);
+        rate = roomTypes.get(0).getRates().get(0);
+        numberOfNights = rateMapper.calculateNumberOfNights(MapperFixtures.CHECKIN, MapperFixtures.CHECKOUT);
+        // groupRatesByConfiguration only sorts lists it creates itself, so the offers can be reused
+        offers = rateMapper.groupByOffer(roomTypes, hotelData.getRooms(), numberOfNights);
+    }
+
+    @Benchmark
+    public HotelRateResponseDto toHotelRateResponseDto() {
+        return hotelDataMapper.toHotelRateResponseDto(hotelData, roomTypes, rateMapper, MapperFixtures.CHECKIN,
+                MapperFixtures.CHECKOUT);
+    }
+
+    /**
+     * Hotel page mapping as served from the hotel content cache, with the room index already built.
+     */
+    @Benchmark
+    public HotelRateResponseDto toHotelRateResponseDtoWithCachedRoomIndex() {
+        return hotelDataMapper.toHotelRateResponseDto(hotelData, roomIndex, roomTypes, rateMapper,
+                MapperFixtures.CHECKIN, MapperFixtures.CHECKOUT);
+    }
+
+    @Benchmark
+    public List<GroupedRateDto> groupByOffer() {
+        return rateMapper.groupByOffer(roomTypes, hotelData.getRooms(), numberOfNights);
+    }
+
+    @Benchmark
+    public List<GroupedRateDto> groupByOfferWithCachedRoomIndex() {
+        return rateMapper.groupByOffer(roomTypes, roomIndex, numberOfNights);
+    }
+
+    @Benchmark
+    public List<RoomConfigurationGroupDto> groupRatesByConfiguration() {
+        return rateMapper.groupRatesByConfiguration(offers);
+    }
+
+    /**
+     * A single rate, dominated by the retail rate mapping and its per-night {@code BigDecimal} division.
+     */
+    @Benchmark
+    public RateDto toRateDto() {
+        return rateMapper.toRateDto(rate, numberOfNights);
+    }
+}
@@ -0,0 +1,31 @@
+package com.travelhub.booking.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Runs the mapper benchmarks with the GC profiler, so every result comes
+ * with its allocation rate ({@code gc.alloc.rate.norm} is bytes allocated per operation).
+ * <p>
+ * Accepts the usual JMH command line, e.g. {@code java -jar benchmarks.jar RateSearch -p hotels=1000}.
+ */
+public final class MapperBenchmarks {
+
+    private MapperBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(MapperBenchmarks.class.getPackageName() + ".*Benchmark");
+        }
+        options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
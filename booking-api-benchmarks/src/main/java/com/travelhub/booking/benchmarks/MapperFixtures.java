@@ -0,0 +1,199 @@
+package com.travelhub.booking.benchmarks;
+
+import com.travelhub.connectors.nuitee.dto.common.Price;
+import com.travelhub.connectors.nuitee.dto.response.CancellationPolicyDetail;
+import com.travelhub.connectors.nuitee.dto.response.CancellationPolicyInfo;
+import com.travelhub.connectors.nuitee.dto.response.HotelData;
+import com.travelhub.connectors.nuitee.dto.response.HotelRate;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import com.travelhub.connectors.nuitee.dto.response.MinimalHotelData;
+import com.travelhub.connectors.nuitee.dto.response.Place;
+import com.travelhub.connectors.nuitee.dto.response.Rate;
+import com.travelhub.connectors.nuitee.dto.response.RetailRateDetail;
+import com.travelhub.connectors.nuitee.dto.response.Room;
+import com.travelhub.connectors.nuitee.dto.response.RoomType;
+import com.travelhub.connectors.nuitee.dto.response.TaxAndFee;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic LiteAPI payloads shaped like real Marrakech searches. A fixed seed keeps every run on the same data.
+ */
+final class MapperFixtures {
+
+    static final String CHECKIN = "2025-06-01";
+    static final String CHECKOUT = "2025-06-04";
+    private static final String[] ROOM_NAMES = { "Chambre Double", "Chambre Twin", "Suite Junior", "Riad Suite",
+            "Chambre Familiale", "Chambre Deluxe Vue Piscine" };
+    private static final String[] BOARDS = { "RO", "BB", "HB", "FB" };
+
+    private MapperFixtures() {
+    }
+
+    static HotelRatesResponse hotelRates(int hotels, int roomTypesPerHotel, int ratesPerRoomType) {
+        Random random = new Random(42);
+        List<HotelRate> data = new ArrayList<>(hotels);
+        for (int h = 0; h < hotels; h++) {
+            HotelRate hotelRate = new HotelRate();
+            hotelRate.setHotelId(hotelId(h));
+            hotelRate.setRoomTypes(roomTypes(random, roomTypesPerHotel, ratesPerRoomType, 6));
+            hotelRate.setEt(10800);
+            data.add(hotelRate);
+        }
+        HotelRatesResponse response = new HotelRatesResponse();
+        response.setData(data);
+        response.setGuestLevel(0);
+        response.setSandbox(true);
+        response.setSessionId("bench-session");
+        return response;
+    }
+
+    static HotelsListResponse hotelsList(int hotels) {
+        Random random = new Random(7);
+        List<MinimalHotelData> data = new ArrayList<>(hotels);
+        List<String> hotelIds = new ArrayList<>(hotels);
+        for (int h = 0; h < hotels; h++) {
+            MinimalHotelData hotel = new MinimalHotelData();
+            hotel.setId(hotelId(h));
+            hotel.setName("Riad " + h);
+            hotel.setAddress(h + " Derb Sidi Bouloukat");
+            hotel.setCity("Marrakech");
+            hotel.setCountryCode("MA");
+            hotel.setStars(2 + random.nextInt(4));
+            hotel.setRating(6 + random.nextInt(40) / 10.0);
+            hotel.setReviewCount(random.nextInt(2000));
+            hotel.setMainPhoto("https://static.cupid.travel/hotels/" + h + ".jpg");
+            hotel.setLatitude(BigDecimal.valueOf(31.60 + random.nextDouble() * 0.06));
+            hotel.setLongitude(BigDecimal.valueOf(-8.03 + random.nextDouble() * 0.06));
+            data.add(hotel);
+            hotelIds.add(hotel.getId());
+        }
+        MinimalHotelData.Location location = new MinimalHotelData.Location();
+        location.setLatitude(BigDecimal.valueOf(31.6258));
+        location.setLongitude(BigDecimal.valueOf(-7.9891));
+        Place place = new Place();
+        place.setPlaceId("ChIJW9fXNZNTtxARkFKxYqDKmAo");
+        place.setDisplayName("Jemaa el-Fna");
+        place.setLocation(location);
+
+        HotelsListResponse response = new HotelsListResponse();
+        response.setData(data);
+        response.setHotelIds(hotelIds);
+        response.setPlace(place);
+        return response;
+    }
+
+    static HotelData hotelData(int rooms) {
+        HotelData hotelData = new HotelData();
+        hotelData.setId(hotelId(0));
+        hotelData.setName("Riad 0");
+        hotelData.setCity("Marrakech");
+        hotelData.setCountry("ma");
+        hotelData.setStarRating(4);
+        hotelData.setRating(BigDecimal.valueOf(8.7));
+        hotelData.setReviewCount(812);
+        List<Room> roomList = new ArrayList<>(rooms);
+        for (int r = 0; r < rooms; r++) {
+            Room room = new Room();
+            room.setId(r + 1);
+            room.setRoomName(ROOM_NAMES[r % ROOM_NAMES.length]);
+            room.setRoomSizeSquare(18 + r * 4);
+            room.setRoomSizeUnit("m2");
+            room.setMaxAdults(2);
+            room.setMaxOccupancy(3);
+            roomList.add(room);
+        }
+        hotelData.setRooms(roomList);
+        return hotelData;
+    }
+
+    static List<RoomType> roomTypes(Random random, int roomTypes, int ratesPerRoomType, int rooms) {
+        List<RoomType> result = new ArrayList<>(roomTypes);
+        for (int t = 0; t < roomTypes; t++) {
+            BigDecimal offerTotal = BigDecimal.ZERO;
+            List<Rate> rates = new ArrayList<>(ratesPerRoomType);
+            String board = BOARDS[random.nextInt(BOARDS.length)];
+            for (int r = 0; r < ratesPerRoomType; r++) {
+                // 90.00 to 989.99 EUR for the stay
+                BigDecimal amount = BigDecimal.valueOf(9_000 + random.nextInt(90_000), 2);
+                offerTotal = offerTotal.add(amount);
+                rates.add(rate(t, r, board, amount, 1 + random.nextInt(rooms)));
+            }
+            RoomType roomType = new RoomType();
+            roomType.setRoomTypeId("rt" + t);
+            roomType.setOfferId("offer-" + t + "-" + random.nextInt(1_000_000));
+            roomType.setSupplier("nuitee");
+            roomType.setSupplierId(2);
+            roomType.setRates(rates);
+            roomType.setOfferRetailRate(price(offerTotal));
+            roomType.setSuggestedSellingPrice(price(offerTotal.multiply(BigDecimal.valueOf(1.1))
+                    .setScale(2, RoundingMode.HALF_UP)));
+            roomType.setOfferInitialPrice(price(offerTotal));
+            roomType.setPriceType("commission");
+            roomType.setRateType("standard");
+            roomType.setPaymentTypes(List.of("NUITEE_PAY"));
+            result.add(roomType);
+        }
+        return result;
+    }
+
+    private static Rate rate(int roomType, int index, String board, BigDecimal amount, long mappedRoomId) {
+        TaxAndFee tax = new TaxAndFee();
+        tax.setIncluded(true);
+        tax.setDescription("City tax");
+        tax.setAmount(BigDecimal.valueOf(4.95));
+        tax.setCurrency("EUR");
+
+        RetailRateDetail retailRate = new RetailRateDetail();
+        retailRate.setTotal(List.of(price(amount)));
+        retailRate.setSuggestedSellingPrice(List.of(price(amount.multiply(BigDecimal.valueOf(1.1))
+                .setScale(2, RoundingMode.HALF_UP))));
+        retailRate.setInitialPrice(List.of(price(amount)));
+        retailRate.setTaxesAndFees(List.of(tax));
+
+        CancellationPolicyInfo cancelInfo = new CancellationPolicyInfo();
+        cancelInfo.setCancelTime("2025-05-29 12:00:00");
+        cancelInfo.setAmount(amount);
+        cancelInfo.setCurrency("EUR");
+        cancelInfo.setType("amount");
+        cancelInfo.setTimezone("GMT");
+        CancellationPolicyDetail cancellation = new CancellationPolicyDetail();
+        cancellation.setCancelPolicyInfos(List.of(cancelInfo));
+        cancellation.setRefundableTag("RFN");
+
+        Rate rate = new Rate();
+        rate.setRateId("rate-" + roomType + "-" + index);
+        rate.setOccupancyNumber(index + 1);
+        rate.setName(ROOM_NAMES[(int) (mappedRoomId - 1) % ROOM_NAMES.length]);
+        rate.setMaxOccupancy(3);
+        rate.setAdultCount(2);
+        rate.setChildCount(0);
+        rate.setBoardType(board);
+        rate.setBoardName(board.equals("BB") ? "Bed and breakfast" : "Room only");
+        rate.setPriceType("commission");
+        rate.setCommission(List.of(price(amount.multiply(BigDecimal.valueOf(0.08)).setScale(2, RoundingMode.HALF_UP))));
+        rate.setRetailRate(retailRate);
+        rate.setCancellationPolicies(cancellation);
+        rate.setMappedRoomId(mappedRoomId);
+        rate.setPaymentTypes(List.of("NUITEE_PAY"));
+        rate.setPerks(List.of());
+        return rate;
+    }
+
+    private static Price price(BigDecimal amount) {
+        Price price = new Price();
+        price.setAmount(amount);
+        price.setCurrency("EUR");
+        price.setSource("providerDirect");
+        return price;
+    }
+
+    private static String hotelId(int index) {
+        return "lp" + Integer.toHexString(0x1a000 + index);
+    }
+}
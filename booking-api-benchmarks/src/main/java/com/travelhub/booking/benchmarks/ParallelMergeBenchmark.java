@@ -0,0 +1,72 @@
+package com.travelhub.booking.benchmarks;
+
+import com.travelhub.booking.config.MappingProperties;
+import com.travelhub.booking.dto.response.RateSearchResponseDto;
+import com.travelhub.booking.mapper.HotelDataMapper;
+import com.travelhub.booking.mapper.RateMapper;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against parallel mapping of a search result, to place {@code travelhub.booking.mapping.parallel-threshold}
+ * at the crossover. Reported as average time per search, since that is the latency a user sees. Run it on a host
+ * with several cores: with a single core the mapper ignores the pool and both variants map sequentially.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelMergeBenchmark {
+
+    @Param({ "25", "50", "100", "200", "500", "1000" })
+    public int hotels;
+
+    @Param({ "1", "10" })
+    public int ratesPerRoomType;
+
+    @Param({ "false", "true" })
+    public boolean parallel;
+
+    private final HotelDataMapper hotelDataMapper = new HotelDataMapper();
+    private ForkJoinPool mappingPool;
+    private RateMapper rateMapper;
+    private HotelRatesResponse hotelRates;
+    private HotelsListResponse hotelsList;
+
+    @Setup
+    public void setUp() {
+        MappingProperties properties = new MappingProperties();
+        properties.setParallelThreshold(parallel ? 1 : Integer.MAX_VALUE);
+        mappingPool = new ForkJoinPool(properties.getParallelism());
+        rateMapper = new RateMapper(mappingPool, properties);
+        hotelRates = MapperFixtures.hotelRates(hotels, 3, ratesPerRoomType);
+        hotelsList = MapperFixtures.hotelsList(hotels);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mappingPool.shutdown();
+    }
+
+    @Benchmark
+    public RateSearchResponseDto toRateSearchResponseDto() {
+        return rateMapper.toRateSearchResponseDto(hotelRates, hotelsList, hotelDataMapper);
+    }
+}
@@ -0,0 +1,56 @@
+package com.travelhub.booking.benchmarks;
+
+import com.travelhub.booking.dto.response.RateSearchResponseDto;
+import com.travelhub.booking.mapper.HotelDataMapper;
+import com.travelhub.booking.mapper.RateMapper;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of a whole rate search: {@link RateMapper#toRateSearchResponseDto} merges the rates of every hotel with
+ * the hotels list and computes the distance to the searched place.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateSearchMappingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int hotels;
+
+    @Param({ "1", "10", "50" })
+    public int ratesPerRoomType;
+
+    private final RateMapper rateMapper = new RateMapper();
+    private final HotelDataMapper hotelDataMapper = new HotelDataMapper();
+    private HotelRatesResponse hotelRates;
+    private HotelsListResponse hotelsList;
+
+    @Setup
+    public void setUp() {
+        // A search asks for the cheapest offer per hotel, so a few room types each
+        hotelRates = MapperFixtures.hotelRates(hotels, 3, ratesPerRoomType);
+        hotelsList = MapperFixtures.hotelsList(hotels);
+    }
+
+    @Benchmark
+    public RateSearchResponseDto toRateSearchResponseDto() {
+        return rateMapper.toRateSearchResponseDto(hotelRates, hotelsList, hotelDataMapper);
+    }
+}
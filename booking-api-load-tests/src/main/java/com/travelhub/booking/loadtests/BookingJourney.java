@@ -0,0 +1,149 @@
+package com.travelhub.booking.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * One virtual user. Runs booking journeys back to back (search, hotel pages, then sometimes prebook, submit and
+ * list) and records every request in the stats of its endpoint. Each step feeds the next one with IDs from the
+ * previous response, so a journey exercises the same paths as a real customer.
+ */
+public class BookingJourney implements Runnable {
+
+    static final String SEARCH = "search";
+    static final String HOTEL_RATES = "hotel-rates";
+    static final String PREBOOK = "prebook";
+    static final String SUBMIT = "submit";
+    static final String LIST = "list";
+
+    static final List<String> ENDPOINTS = List.of(SEARCH, HOTEL_RATES, PREBOOK, SUBMIT, LIST);
+
+    private final LoadTestSettings settings;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Map<String, EndpointStats> stats;
+    private final BooleanSupplier running;
+
+    public BookingJourney(LoadTestSettings settings, HttpClient httpClient, ObjectMapper objectMapper,
+            Map<String, EndpointStats> stats, BooleanSupplier running) {
+        this.settings = settings;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.stats = stats;
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        while (running.getAsBoolean()) {
+            try {
+                runOnce();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void runOnce() throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkin = LocalDate.now().plusDays(settings.getInt("search.check-in-days-ahead"));
+        LocalDate checkout = checkin.plusDays(settings.getInt("search.nights"));
+
+        ObjectNode search = stay(checkin, checkout);
+        search.put("placeId", settings.get("search.place-id"));
+        search.put("currency", settings.get("search.currency"));
+        search.put("guestNationality", settings.get("search.guest-nationality"));
+        JsonNode searchResponse = call(SEARCH, post("/api/v1/rates/search", search));
+        List<String> hotelIds = searchResponse != null
+                ? searchResponse.path("hotels").findValuesAsText("hotelId").stream().distinct().toList()
+                : List.of();
+
+        String offerId = null;
+        for (int i = 0; i < settings.getInt("journey.hotel-pages-per-search") && !hotelIds.isEmpty()
+                && running.getAsBoolean(); i++) {
+            String hotelId = hotelIds.get(random.nextInt(hotelIds.size()));
+            JsonNode hotelResponse = call(HOTEL_RATES, post("/api/v1/rates/" + hotelId, stay(checkin, checkout)));
+            List<String> offerIds = hotelResponse != null ? hotelResponse.findValuesAsText("offerId") : List.of();
+            if (!offerIds.isEmpty()) {
+                offerId = offerIds.get(random.nextInt(offerIds.size()));
+            }
+        }
+
+        if (offerId != null && random.nextDouble() < settings.getDouble("journey.prebook-ratio")
+                && running.getAsBoolean()) {
+            ObjectNode prebook = objectMapper.createObjectNode().put("offerId", offerId);
+            JsonNode prebookResponse = call(PREBOOK, post("/api/v1/booking/prebook", prebook));
+            String simulationId = prebookResponse != null ? prebookResponse.path("simulationId").asText(null) : null;
+
+            if (simulationId != null && random.nextDouble() < settings.getDouble("journey.submit-ratio")) {
+                ObjectNode submit = objectMapper.createObjectNode().put("simulationId", simulationId)
+                        .put("bankingAccount", "4111111111111111");
+                submit.putObject("holder").put("firstName", "Load").put("lastName", "Test")
+                        .put("email", "load.test@example.com").put("phone", "+33600000000");
+                call(SUBMIT, post("/api/v1/booking/submit", submit));
+            }
+        }
+
+        if (random.nextDouble() < settings.getDouble("journey.list-ratio") && running.getAsBoolean()) {
+            call(LIST, request("/api/v1/booking/list").GET().build());
+        }
+    }
+
+    /**
+     * Sends a request and records it; returns the parsed body of a 2xx response, otherwise {@code null}. The
+     * recorded latency stops at the last byte received and does not include parsing.
+     */
+    private JsonNode call(String endpoint, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        long elapsed = -1;
+        JsonNode body = null;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            elapsed = System.nanoTime() - start;
+            if (response.statusCode() / 100 == 2) {
+                body = objectMapper.readTree(response.body());
+            }
+        } catch (IOException e) {
+            // connection failures, timeouts and unparseable bodies all count as failed requests
+        }
+        stats.get(endpoint).record(elapsed >= 0 ? elapsed : System.nanoTime() - start, body != null);
+        return body;
+    }
+
+    private ObjectNode stay(LocalDate checkin, LocalDate checkout) {
+        ObjectNode stay = objectMapper.createObjectNode()
+                .put("checkin", checkin.toString())
+                .put("checkout", checkout.toString());
+        stay.putArray("occupancies").addObject().put("adults", settings.getInt("search.adults"));
+        return stay;
+    }
+
+    private HttpRequest post(String path, JsonNode body) {
+        try {
+            return request(path).header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(settings.baseUrl() + path))
+                .timeout(settings.requestTimeout())
+                .header("Accept", "application/json");
+    }
+}
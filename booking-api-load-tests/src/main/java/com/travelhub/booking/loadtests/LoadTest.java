@@ -0,0 +1,70 @@
+package com.travelhub.booking.loadtests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entry point of {@code load-tests.jar}. Runs {@code concurrency} virtual users against a running booking API,
+ * discards the warmup, then measures for {@code duration}. Exits with status 1 when any endpoint exceeds its
+ * budget, so a CI job fails on a latency or throughput regression.
+ * <p>
+ * Users are a closed loop: a user waits for each response before sending its next request. When the service
+ * slows down the offered load drops with it, so compare runs at the same concurrency.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.load(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        BookingJourney.ENDPOINTS.forEach(endpoint -> stats.put(endpoint, new EndpointStats(endpoint)));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger userCount = new AtomicInteger();
+        ExecutorService users = Executors.newFixedThreadPool(settings.concurrency(),
+                runnable -> new Thread(runnable, "load-user-" + userCount.incrementAndGet()));
+        for (int i = 0; i < settings.concurrency(); i++) {
+            users.submit(new BookingJourney(settings, httpClient, objectMapper, stats, running::get));
+        }
+
+        System.out.printf("%d users against %s, warming up for %s%n", settings.concurrency(), settings.baseUrl(),
+                settings.warmup());
+        Thread.sleep(settings.warmup().toMillis());
+        stats.values().forEach(EndpointStats::reset);
+
+        String startedAt = Instant.now().toString();
+        long start = System.nanoTime();
+        System.out.printf("Measuring for %s%n", settings.duration());
+        Thread.sleep(settings.duration().toMillis());
+        running.set(false);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        // requests in flight at the deadline still complete and are recorded
+        users.shutdown();
+        if (!users.awaitTermination(settings.requestTimeout().toSeconds() + 10, TimeUnit.SECONDS)) {
+            users.shutdownNow();
+        }
+
+        LoadTestReport report = LoadTestReport.evaluate(settings, stats.values(), startedAt, elapsed);
+        report.write(settings.report(), stats.values(), objectMapper);
+        report.print(System.out);
+        System.out.println("Report written to " + settings.report().toAbsolutePath());
+        System.exit(report.passed() ? 0 : 1);
+    }
+}
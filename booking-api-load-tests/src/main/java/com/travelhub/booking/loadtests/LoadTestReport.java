@@ -0,0 +1,116 @@
+package com.travelhub.booking.loadtests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outcome of a run: throughput, latency percentiles and budget violations per endpoint. Written as JSON for CI,
+ * with the full latency distribution of every endpoint next to it in HdrHistogram's {@code .hgrm} format.
+ */
+public record LoadTestReport(String label, String baseUrl, int concurrency, String startedAt,
+        double durationSeconds, boolean passed, List<EndpointResult> endpoints) {
+
+    public static LoadTestReport evaluate(LoadTestSettings settings, Collection<EndpointStats> stats,
+            String startedAt, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        List<EndpointResult> endpoints = new ArrayList<>();
+        for (EndpointStats endpoint : stats) {
+            endpoints.add(EndpointResult.of(endpoint, seconds, settings.budget(endpoint.getName()),
+                    settings.maxErrorRate()));
+        }
+        boolean passed = endpoints.stream().allMatch(endpoint -> endpoint.violations().isEmpty());
+        return new LoadTestReport(settings.label(), settings.baseUrl(), settings.concurrency(), startedAt, seconds,
+                passed, endpoints);
+    }
+
+    public void write(Path report, Collection<EndpointStats> stats, ObjectMapper objectMapper) throws IOException {
+        Path directory = report.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), this);
+        for (EndpointStats endpoint : stats) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    directory.resolve(endpoint.getName() + ".hgrm")))) {
+                // recorded in microseconds, reported in milliseconds
+                endpoint.getLatencies().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    public void print(PrintStream out) {
+        if (!label.isEmpty()) {
+            out.printf("%n%s%n", label);
+        }
+        out.printf("%n%-12s %9s %7s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms",
+                "p95 ms", "p99 ms", "max ms");
+        for (EndpointResult endpoint : endpoints) {
+            out.printf("%-12s %9d %7d %9.2f %9.1f %9.1f %9.1f %9.1f%n", endpoint.endpoint(), endpoint.requests(),
+                    endpoint.errors(), endpoint.throughput(), endpoint.p50Millis(), endpoint.p95Millis(),
+                    endpoint.p99Millis(), endpoint.maxMillis());
+        }
+        out.println();
+        for (EndpointResult endpoint : endpoints) {
+            endpoint.violations().forEach(violation -> out.println("BUDGET EXCEEDED " + endpoint.endpoint()
+                    + ": " + violation));
+        }
+        out.println(passed ? "PASSED" : "FAILED");
+    }
+
+    public record EndpointResult(String endpoint, long requests, long errors, double errorRate, double throughput,
+            double p50Millis, double p95Millis, double p99Millis, double maxMillis, List<String> violations) {
+
+        static EndpointResult of(EndpointStats stats, double seconds, LoadTestSettings.Budget budget,
+                double maxErrorRate) {
+            Histogram latencies = stats.getLatencies();
+            long requests = latencies.getTotalCount();
+            double errorRate = requests > 0 ? (double) stats.getErrors() / requests : 0;
+            double throughput = seconds > 0 ? requests / seconds : 0;
+            double p50 = millis(latencies, 50);
+            double p95 = millis(latencies, 95);
+            double p99 = millis(latencies, 99);
+
+            List<String> violations = new ArrayList<>();
+            boolean budgeted = budget.p50() != null || budget.p95() != null || budget.p99() != null
+                    || budget.minThroughput() != null;
+            if (requests == 0) {
+                if (budgeted) {
+                    violations.add("no requests completed");
+                }
+            } else {
+                checkLatency(violations, "p50", p50, budget.p50());
+                checkLatency(violations, "p95", p95, budget.p95());
+                checkLatency(violations, "p99", p99, budget.p99());
+                if (budget.minThroughput() != null && throughput < budget.minThroughput()) {
+                    violations.add(String.format("throughput %.2f req/s is below %.2f req/s", throughput,
+                            budget.minThroughput()));
+                }
+                if (errorRate > maxErrorRate) {
+                    violations.add(String.format("error rate %.2f%% is above %.2f%%", errorRate * 100,
+                            maxErrorRate * 100));
+                }
+            }
+            return new EndpointResult(stats.getName(), requests, stats.getErrors(), errorRate, throughput, p50, p95,
+                    p99, requests > 0 ? latencies.getMaxValue() / 1000.0 : 0, violations);
+        }
+
+        private static void checkLatency(List<String> violations, String percentile, double actualMillis,
+                Duration budget) {
+            if (budget != null && actualMillis > budget.toMillis()) {
+                violations.add(String.format("%s %.1f ms is above the %d ms budget", percentile, actualMillis,
+                        budget.toMillis()));
+            }
+        }
+
+        private static double millis(Histogram latencies, double percentile) {
+            return latencies.getTotalCount() > 0 ? latencies.getValueAtPercentile(percentile) / 1000.0 : 0;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.travelhub.booking.loadtests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Settings of a load test run: the defaults of {@code load-test.properties}, then an optional
+ * {@code --config=<file>}, then {@code --key=value} arguments.
+ */
+public class LoadTestSettings {
+
+    private final Properties properties;
+
+    LoadTestSettings(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LoadTestSettings load(String[] args) {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadTestSettings.class.getResourceAsStream("/load-test.properties")) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Properties overrides = new Properties();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            overrides.setProperty(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String config = overrides.getProperty("config");
+        if (config != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(config))) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read " + config, e);
+            }
+        }
+        properties.putAll(overrides);
+        return new LoadTestSettings(properties);
+    }
+
+    /**
+     * Free-form name of the run, copied into the report, e.g. {@code platform-threads}.
+     */
+    public String label() {
+        return properties.getProperty("label", "");
+    }
+
+    public String baseUrl() {
+        return stripTrailingSlash(get("base-url"));
+    }
+
+    public int concurrency() {
+        return Integer.parseInt(get("concurrency"));
+    }
+
+    public Duration warmup() {
+        return duration("warmup");
+    }
+
+    public Duration duration() {
+        return duration("duration");
+    }
+
+    public Duration requestTimeout() {
+        return duration("request-timeout");
+    }
+
+    public Path report() {
+        return Path.of(get("report"));
+    }
+
+    public double maxErrorRate() {
+        return Double.parseDouble(get("max-error-rate"));
+    }
+
+    public String get(String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing load test setting: " + key);
+        }
+        return value.trim();
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(get(key));
+    }
+
+    public double getDouble(String key) {
+        return Double.parseDouble(get(key));
+    }
+
+    /**
+     * Budget of an endpoint; limits without a setting are {@code null}.
+     */
+    public Budget budget(String endpoint) {
+        String prefix = "budget." + endpoint + ".";
+        String minThroughput = properties.getProperty(prefix + "min-throughput");
+        return new Budget(optionalDuration(prefix + "p50"), optionalDuration(prefix + "p95"),
+                optionalDuration(prefix + "p99"), minThroughput != null ? Double.valueOf(minThroughput.trim()) : null);
+    }
+
+    private Duration duration(String key) {
+        return parseDuration(get(key));
+    }
+
+    private Duration optionalDuration(String key) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? null : parseDuration(value.trim());
+    }
+
+    /**
+     * Parses {@code 250ms}, {@code 30s}, {@code 2m}, {@code 1h} or an ISO-8601 duration such as {@code PT2M}.
+     */
+    static Duration parseDuration(String value) {
+        String text = value.toLowerCase(Locale.ROOT);
+        if (text.startsWith("pt")) {
+            return Duration.parse(value);
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public record Budget(Duration p50, Duration p95, Duration p99, Double minThroughput) {
+    }
+}
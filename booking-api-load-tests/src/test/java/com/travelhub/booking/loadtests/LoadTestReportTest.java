@@ -0,0 +1,56 @@
+package com.travelhub.booking.loadtests;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoadTestReportTest {
+
+    @Test
+    public void testEvaluate_FailsOnLatencyBudgetAndErrorRate() {
+        LoadTestSettings settings = LoadTestSettings.load(new String[] { "--budget.search.p95=1s",
+                "--budget.search.p99=5s", "--budget.list.p99=1s", "--max-error-rate=0.05" });
+        EndpointStats search = new EndpointStats(BookingJourney.SEARCH);
+        for (int i = 0; i < 90; i++) {
+            search.record(Duration.ofMillis(200).toNanos(), true);
+        }
+        for (int i = 0; i < 10; i++) {
+            search.record(Duration.ofSeconds(2).toNanos(), false);
+        }
+        EndpointStats list = new EndpointStats(BookingJourney.LIST);
+        list.record(Duration.ofMillis(50).toNanos(), true);
+
+        LoadTestReport report = LoadTestReport.evaluate(settings, List.of(search, list), "now",
+                Duration.ofSeconds(10));
+
+        assertThat(report.passed()).isFalse();
+        LoadTestReport.EndpointResult searchResult = report.endpoints().get(0);
+        assertThat(searchResult.throughput()).isEqualTo(10.0);
+        assertThat(searchResult.p50Millis()).isBetween(199.0, 201.0);
+        assertThat(searchResult.violations()).hasSize(2)
+                .anyMatch(violation -> violation.startsWith("p95"))
+                .anyMatch(violation -> violation.startsWith("error rate"));
+        assertThat(report.endpoints().get(1).violations()).isEmpty();
+    }
+
+    @Test
+    public void testEvaluate_BudgetedEndpointWithoutRequestsFails() {
+        LoadTestSettings settings = LoadTestSettings.load(new String[] { "--budget.submit.p95=10s" });
+
+        LoadTestReport report = LoadTestReport.evaluate(settings,
+                List.of(new EndpointStats(BookingJourney.SUBMIT)), "now", Duration.ofSeconds(10));
+
+        assertThat(report.passed()).isFalse();
+        assertThat(report.endpoints().get(0).violations()).containsExactly("no requests completed");
+    }
+
+    @Test
+    public void testParseDuration() {
+        assertThat(LoadTestSettings.parseDuration("250ms")).isEqualTo(Duration.ofMillis(250));
+        assertThat(LoadTestSettings.parseDuration("2m")).isEqualTo(Duration.ofMinutes(2));
+        assertThat(LoadTestSettings.parseDuration("PT1M30S")).isEqualTo(Duration.ofSeconds(90));
+    }
+}
@@ -2,10 +2,12 @@ package com.travelhub.booking;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
-@ComponentScan(basePackages = "com.travelhub")
+@SpringBootApplication(scanBasePackages = "com.travelhub")
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class BookingApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,170 @@
+package com.travelhub.booking.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.travelhub.booking.config.SimulationStoreProperties;
+import com.travelhub.booking.model.BookingSimulation;
+import com.travelhub.booking.repository.BookingSimulationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Prebook simulations, served from memory until they expire and written to {@link BookingSimulationRepository}
+ * behind the request. Prebook does not wait for the database, and booking reads the simulation without a query.
+ * <p>
+ * New simulations are written in batches every {@code flushInterval} and on shutdown. A write that fails is retried
+ * until the simulation expires, since an expired simulation cannot be booked anyway. Simulations that are no longer
+ * in memory, after a restart or an eviction, are read back from the database.
+ */
+@Component
+public class BookingSimulationStore implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingSimulationStore.class);
+    private static final String CACHE_NAME = "bookingSimulations";
+    private final BookingSimulationRepository repository;
+    private final SimulationStoreProperties properties;
+    private final Cache<String, BookingSimulation> simulations;
+    private final Queue<BookingSimulation> unsaved = new ConcurrentLinkedQueue<>();
+
+    public BookingSimulationStore(BookingSimulationRepository repository, SimulationStoreProperties properties,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.simulations = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new ExpiresAt())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, simulations, CACHE_NAME, Collections.emptyList());
+        Gauge.builder("booking.simulations.unsaved", unsaved, Queue::size)
+                .description("Simulations not written to the database yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Assigns the simulation its id and expiry, makes it readable at once and queues it for the database.
+     */
+    public BookingSimulation save(BookingSimulation simulation) {
+        LocalDateTime now = LocalDateTime.now();
+        if (simulation.getId() == null) {
+            simulation.setId(UUID.randomUUID().toString());
+        }
+        simulation.setCreatedAt(now);
+        simulation.setExpiresAt(now.plus(properties.getTimeToLive()));
+        if (simulation.getStatus() == null) {
+            simulation.setStatus("ACTIVE");
+        }
+        simulations.put(simulation.getId(), simulation);
+        unsaved.add(simulation);
+        return simulation;
+    }
+
+    public Optional<BookingSimulation> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        BookingSimulation simulation = simulations.getIfPresent(id);
+        if (simulation != null) {
+            return Optional.of(simulation);
+        }
+        logger.debug("Simulation {} not in memory, reading it from the database", id);
+        return repository.findWithPrebookIdsById(id);
+    }
+
+    /**
+     * Writes queued simulations to the database.
+     */
+    @Scheduled(fixedDelayString = "${travelhub.booking.simulation-store.flush-interval:PT1S}")
+    public synchronized void flush() {
+        List<BookingSimulation> retry = new ArrayList<>();
+        List<BookingSimulation> batch = nextBatch();
+        while (!batch.isEmpty()) {
+            try {
+                repository.saveAll(batch);
+            } catch (RuntimeException e) {
+                logger.warn("Could not write {} simulations in one batch, writing them one by one: {}",
+                        batch.size(), e.getMessage());
+                for (BookingSimulation simulation : batch) {
+                    saveOne(simulation, retry);
+                }
+            }
+            batch = nextBatch();
+        }
+        unsaved.addAll(retry);
+    }
+
+    public long size() {
+        return simulations.estimatedSize();
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        if (!unsaved.isEmpty()) {
+            logger.warn("{} simulations could not be written before shutdown", unsaved.size());
+        }
+    }
+
+    private void saveOne(BookingSimulation simulation, List<BookingSimulation> retry) {
+        try {
+            repository.save(simulation);
+        } catch (RuntimeException e) {
+            if (simulation.isExpired()) {
+                logger.error("Dropping expired simulation {} that could not be written: {}", simulation.getId(),
+                        e.getMessage());
+            } else {
+                logger.error("Could not write simulation {}, retrying: {}", simulation.getId(), e.getMessage());
+                retry.add(simulation);
+            }
+        }
+    }
+
+    private List<BookingSimulation> nextBatch() {
+        List<BookingSimulation> batch = new ArrayList<>(properties.getFlushBatchSize());
+        BookingSimulation simulation;
+        while (batch.size() < properties.getFlushBatchSize() && (simulation = unsaved.poll()) != null) {
+            batch.add(simulation);
+        }
+        return batch;
+    }
+
+    /**
+     * Keeps each simulation until its own {@code expiresAt}; simulations are never updated in place.
+     */
+    private static final class ExpiresAt implements Expiry<String, BookingSimulation> {
+
+        @Override
+        public long expireAfterCreate(String id, BookingSimulation simulation, long currentTime) {
+            return Math.max(0, Duration.between(LocalDateTime.now(), simulation.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, BookingSimulation simulation, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(id, simulation, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, BookingSimulation simulation, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
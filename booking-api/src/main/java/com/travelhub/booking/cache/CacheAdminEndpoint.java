@@ -0,0 +1,96 @@
+package com.travelhub.booking.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.travelhub.booking.dto.response.CacheStatsDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for inspecting and invalidating the in-process caches, at
+ * {@code /actuator/travelhubcaches}. Flushing a cache sends all of its traffic upstream, so the endpoint is not
+ * part of the default web exposure: include it in {@code management.endpoints.web.exposure.include} only when
+ * actuator is served on an internal {@code management.server.port} or behind authentication.
+ */
+@Component
+@Endpoint(id = "travelhubcaches")
+public class CacheAdminEndpoint {
+
+    static final String HOTEL_CONTENT = "hotel-content";
+    static final String SEARCH_RESULTS = "search-results";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheAdminEndpoint.class);
+    private final HotelContentCache hotelContentCache;
+    private final SearchResultCache searchResultCache;
+
+    public CacheAdminEndpoint(HotelContentCache hotelContentCache, SearchResultCache searchResultCache) {
+        this.hotelContentCache = hotelContentCache;
+        this.searchResultCache = searchResultCache;
+    }
+
+    /**
+     * Size, hit, miss and eviction counts of every cache.
+     */
+    @ReadOperation
+    public Map<String, CacheStatsDto> caches() {
+        Map<String, CacheStatsDto> caches = new LinkedHashMap<>();
+        caches.put(HOTEL_CONTENT, toCacheStatsDto(hotelContentCache.size(), hotelContentCache.stats()));
+        caches.put(SEARCH_RESULTS, toCacheStatsDto(searchResultCache.size(), searchResultCache.stats()));
+        return caches;
+    }
+
+    /**
+     * Statistics of one cache, or {@code null} (404) for an unknown cache.
+     */
+    @ReadOperation
+    public CacheStatsDto cache(@Selector String name) {
+        return caches().get(name);
+    }
+
+    /**
+     * Drops every entry of one cache.
+     */
+    @DeleteOperation
+    public void invalidate(@Selector String name) {
+        logger.info("Received cache invalidation request - cache: {}", name);
+        switch (name) {
+            case HOTEL_CONTENT -> hotelContentCache.invalidateAll();
+            case SEARCH_RESULTS -> searchResultCache.invalidateAll();
+            default -> throw unknownCache(name);
+        }
+    }
+
+    /**
+     * Drops every cached language of a single hotel. Only the hotel content cache is keyed by hotel.
+     */
+    @DeleteOperation
+    public void invalidateHotel(@Selector String name, @Selector String hotelId) {
+        if (!HOTEL_CONTENT.equals(name)) {
+            throw unknownCache(name);
+        }
+        logger.info("Received hotel content cache invalidation request - hotelId: {}", hotelId);
+        hotelContentCache.invalidate(hotelId);
+    }
+
+    private static InvalidEndpointRequestException unknownCache(String name) {
+        return new InvalidEndpointRequestException("Unknown cache: " + name, "Unknown cache");
+    }
+
+    private CacheStatsDto toCacheStatsDto(long size, CacheStats stats) {
+        CacheStatsDto response = new CacheStatsDto();
+        response.setSize(size);
+        response.setHitCount(stats.hitCount());
+        response.setMissCount(stats.missCount());
+        response.setHitRate(stats.hitRate());
+        response.setEvictionCount(stats.evictionCount());
+        return response;
+    }
+}
@@ -0,0 +1,17 @@
+package com.travelhub.booking.cache;
+
+import com.travelhub.booking.mapper.RoomIndex;
+import com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse;
+
+/**
+ * A cached hotel content together with the structures derived from it once per load.
+ *
+ * @param details   the hotel details as returned by LiteAPI
+ * @param roomIndex the hotel's rooms indexed by id, for rate enrichment
+ */
+public record HotelContent(HotelDetailsResponse details, RoomIndex roomIndex) {
+
+    static HotelContent of(HotelDetailsResponse details) {
+        return new HotelContent(details, RoomIndex.of(details.getData().getRooms()));
+    }
+}
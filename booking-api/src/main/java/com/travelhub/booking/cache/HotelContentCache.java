@@ -0,0 +1,110 @@
+package com.travelhub.booking.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.travelhub.booking.config.HotelContentCacheProperties;
+import com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of hotel static content (rooms, images, policies, facilities, sentiment) keyed by
+ * (hotelId, language). Entries are bounded in number and expire after a fixed time to live.
+ * <p>
+ * Values are held as futures so concurrent misses for the same hotel share one upstream call, and
+ * failed or empty loads are never cached. Each entry also carries the hotel's {@link com.travelhub.booking.mapper.RoomIndex},
+ * built once when the content is loaded.
+ */
+@Component
+public class HotelContentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelContentCache.class);
+    private static final String CACHE_NAME = "hotelContent";
+    private final AsyncCache<Key, HotelContent> cache;
+
+    public HotelContentCache(HotelContentCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, Collections.emptyList());
+    }
+
+    /**
+     * Returns the cached hotel content, or loads it on the calling thread.
+     */
+    public HotelDetailsResponse get(String hotelId, String language, Supplier<HotelDetailsResponse> loader) {
+        CompletableFuture<HotelDetailsResponse> future = getAsync(hotelId, language, () -> {
+            try {
+                return CompletableFuture.completedFuture(loader.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the cached hotel content, or starts a non-blocking load. The returned future is shared with
+     * other callers of the same key and must not be cancelled.
+     */
+    public CompletableFuture<HotelDetailsResponse> getAsync(String hotelId, String language,
+            Supplier<CompletableFuture<HotelDetailsResponse>> loader) {
+        return getContentAsync(hotelId, language, loader)
+                .thenApply(content -> content != null ? content.details() : null);
+    }
+
+    /**
+     * Same as {@link #getAsync}, returning the hotel details together with their room index.
+     */
+    public CompletableFuture<HotelContent> getContentAsync(String hotelId, String language,
+            Supplier<CompletableFuture<HotelDetailsResponse>> loader) {
+        return cache.get(new Key(hotelId, language), (key, executor) -> loader.get().thenApply(this::cacheable));
+    }
+
+    /**
+     * Drops every cached language of the given hotel.
+     */
+    public void invalidate(String hotelId) {
+        cache.synchronous().asMap().keySet().removeIf(key -> key.hotelId().equals(hotelId));
+        logger.info("Invalidated hotel content cache for hotelId: {}", hotelId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+        logger.info("Invalidated hotel content cache");
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private HotelContent cacheable(HotelDetailsResponse response) {
+        // A null value is not stored by Caffeine, so a hotel without data is fetched again next time
+        return response != null && response.getData() != null ? HotelContent.of(response) : null;
+    }
+
+    private record Key(String hotelId, String language) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.travelhub.booking.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.travelhub.booking.config.HotelContentCacheProperties;
+import com.travelhub.connectors.nuitee.dto.response.MinimalHotelData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * In-process cache of the hotels list entry (name, main photo, thumbnail) of each hotel, keyed by hotel id. Like
+ * {@link HotelContentCache} it holds hotel static content, so it shares its size and time to live.
+ * <p>
+ * Hotels a load does not return are not cached, so they are looked up again next time.
+ */
+@Component
+public class HotelListingCache {
+
+    private static final String CACHE_NAME = "hotelListings";
+    private final Cache<String, MinimalHotelData> cache;
+
+    public HotelListingCache(HotelContentCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, Collections.emptyList());
+    }
+
+    /**
+     * Returns the cached entries of the given hotels, loading the missing ones with a single call of the loader.
+     * Hotels that could not be loaded are absent from the result.
+     */
+    public Map<String, MinimalHotelData> getAll(Collection<String> hotelIds,
+            Function<Set<? extends String>, Map<String, MinimalHotelData>> loader) {
+        return cache.getAll(hotelIds, loader);
+    }
+}
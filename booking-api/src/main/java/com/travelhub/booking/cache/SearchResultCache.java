@@ -0,0 +1,243 @@
+package com.travelhub.booking.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.travelhub.booking.config.SearchResultCacheProperties;
+import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.dto.response.HotelAvailabilityDto;
+import com.travelhub.booking.dto.response.RateSearchResponseDto;
+import com.travelhub.connectors.nuitee.dto.common.Occupancy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Short-lived cache of full rate search results, keyed by a canonical form of the search request.
+ * <p>
+ * Requests that only differ in room order, list order, letter case or by a few hundred meters of coordinates share
+ * one entry, and {@code offset}/{@code limit} are applied to the cached full result, so paging through a search
+ * never goes upstream again. Once an entry is older than {@code refreshAfter} it is still served while a single
+ * background reload replaces it. The total number of cached hotel availabilities is bounded.
+ * <p>
+ * Partial results, missing the hotels of failed upstream calls, and empty results, which upstream trouble can also
+ * produce, are returned but expire at once, so the next request searches again.
+ * <p>
+ * Statistics and invalidation are served by {@link CacheAdminEndpoint} under {@code search-results}.
+ */
+@Component
+public class SearchResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchResultCache.class);
+    private static final String CACHE_NAME = "searchResults";
+    private final SearchResultCacheProperties properties;
+    private final LoadingCache<Key, RateSearchResponseDto> cache;
+
+    public SearchResultCache(SearchResultCacheProperties properties, MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") Executor refreshExecutor) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumHotels())
+                .weigher((Key key, RateSearchResponseDto value) -> Math.max(1,
+                        value.getHotels() != null ? value.getHotels().size() : 0))
+                .expireAfter(new CompleteResultsOnly(properties.getTimeToLive().toNanos()))
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(key -> key.loader.apply(key.request));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, Collections.emptyList());
+    }
+
+    /**
+     * Returns the requested page of the cached search result, loading the full result on the calling thread on a
+     * miss. The loader must ignore {@code offset} and {@code limit}.
+     */
+    public RateSearchResponseDto get(RateSearchRequestDto request,
+            Function<RateSearchRequestDto, RateSearchResponseDto> loader) {
+        if (!properties.isEnabled()) {
+            return page(loader.apply(request), request.getOffset(), request.getLimit());
+        }
+        return page(cache.get(new Key(canonicalKey(request), request, loader)), request.getOffset(),
+                request.getLimit());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        logger.info("Invalidated search result cache");
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Canonical form of everything in the request that changes the full result. Paging and transport options
+     * ({@code offset}, {@code limit}, {@code stream}) are left out.
+     */
+    String canonicalKey(RateSearchRequestDto request) {
+        StringBuilder key = new StringBuilder(256);
+        append(key, "occ", occupancies(request.getOccupancies()));
+        append(key, "in", request.getCheckin());
+        append(key, "out", request.getCheckout());
+        append(key, "ids", sorted(request.getHotelIds()));
+        append(key, "cc", lower(request.getCountryCode()));
+        append(key, "name", lower(request.getHotelName()));
+        append(key, "city", lower(request.getCityName()));
+        append(key, "lat", cell(request.getLatitude()));
+        append(key, "lon", cell(request.getLongitude()));
+        append(key, "radius", request.getRadius());
+        append(key, "iata", lower(request.getIataCode()));
+        append(key, "place", request.getPlaceId());
+        append(key, "ai", request.getAiSearch());
+        append(key, "roomMapping", request.getRoomMapping());
+        append(key, "weather", request.getWeatherInfo());
+        append(key, "refundable", request.getRefundableRatesOnly());
+        append(key, "board", request.getBoardType());
+        append(key, "reviews", request.getMinReviewsCount());
+        append(key, "rating", plain(request.getMinRating()));
+        append(key, "zip", request.getZip());
+        append(key, "feed", request.getFeed());
+        append(key, "stars", sorted(request.getStarRating()));
+        append(key, "chains", sorted(request.getChainIds()));
+        append(key, "types", sorted(request.getHotelTypeIds()));
+        append(key, "facilities", sorted(request.getFacilities()));
+        append(key, "strict", request.getStrictFacilityFiltering());
+        // Sort criteria are applied in order, so their order is part of the key
+        append(key, "sort", request.getSort() == null ? null : request.getSort().stream()
+                .map(criteria -> lower(criteria.getField()) + ":" + lower(criteria.getDirection()))
+                .collect(Collectors.joining(",")));
+        return key.toString();
+    }
+
+    private RateSearchResponseDto page(RateSearchResponseDto full, Integer offset, Integer limit) {
+        if (full == null || full.getHotels() == null || (offset == null && limit == null)) {
+            return full;
+        }
+        List<HotelAvailabilityDto> hotels = full.getHotels();
+        int from = Math.min(Math.max(offset != null ? offset : 0, 0), hotels.size());
+        int to = limit != null ? (int) Math.min((long) from + Math.max(limit, 0), hotels.size()) : hotels.size();
+
+        // Cached results are shared, so every page is a new response over a copy of the slice
+        RateSearchResponseDto page = new RateSearchResponseDto();
+        page.setHotels(new ArrayList<>(hotels.subList(from, to)));
+        page.setGuestLevel(full.getGuestLevel());
+        page.setSandbox(full.getSandbox());
+        page.setSessionId(full.getSessionId());
+        page.setPartial(full.isPartial());
+        return page;
+    }
+
+    private String cell(BigDecimal coordinate) {
+        if (coordinate == null) {
+            return null;
+        }
+        long cell = Math.round(coordinate.doubleValue() / properties.getCoordinateCellDegrees());
+        return Long.toString(cell);
+    }
+
+    private static String occupancies(List<Occupancy> occupancies) {
+        if (occupancies == null) {
+            return null;
+        }
+        return occupancies.stream()
+                .map(occupancy -> occupancy.getAdults() + "a" + Objects.toString(sorted(occupancy.getChildren()), ""))
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static String sorted(Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.stream().filter(Objects::nonNull).map(String::valueOf).sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static String plain(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : null;
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static void append(StringBuilder key, String name, Object value) {
+        if (value != null) {
+            key.append(name).append('=').append(value).append(';');
+        }
+    }
+
+    /**
+     * Equality is the canonical key only; the request and loader of the first caller are kept to refresh the entry.
+     */
+    private static final class Key {
+        private final String canonical;
+        private final RateSearchRequestDto request;
+        private final Function<RateSearchRequestDto, RateSearchResponseDto> loader;
+
+        private Key(String canonical, RateSearchRequestDto request,
+                Function<RateSearchRequestDto, RateSearchResponseDto> loader) {
+            this.canonical = canonical;
+            this.request = request;
+            this.loader = loader;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && canonical.equals(key.canonical);
+        }
+
+        @Override
+        public int hashCode() {
+            return canonical.hashCode();
+        }
+    }
+
+    /**
+     * Keeps complete, non-empty results for the time to live, including those a refresh brings in.
+     */
+    private static final class CompleteResultsOnly implements Expiry<Key, RateSearchResponseDto> {
+        private final long timeToLiveNanos;
+
+        private CompleteResultsOnly(long timeToLiveNanos) {
+            this.timeToLiveNanos = timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Key key, RateSearchResponseDto result, long currentTime) {
+            return result.isPartial() || result.getHotels() == null || result.getHotels().isEmpty() ? 0
+                    : timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, RateSearchResponseDto result, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, result, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, RateSearchResponseDto result, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "travelhub.booking.bookings")
+public class BookingProperties {
+
+    /**
+     * Bookings per page of the booking list when the client does not ask for a size.
+     */
+    private int listPageSize = 20;
+
+    /**
+     * Largest page of the booking list a client can ask for.
+     */
+    private int listMaxPageSize = 100;
+
+    /**
+     * Deadline of the hotel thumbnail lookups of a booking list page. Thumbnails not found by then are looked up
+     * again on the next list.
+     */
+    private Duration listDeadline = Duration.ofSeconds(10);
+
+    /**
+     * Hotel lookups in flight at once for a single booking list page.
+     */
+    private int listConcurrency = 8;
+
+    /**
+     * Hotel IDs per hotels lookup, which keeps the query string of each request well within URL length limits.
+     */
+    private int hotelIdsBatchSize = 50;
+
+    /**
+     * Workers confirming asynchronously submitted bookings with the provider. Stays below the book bulkhead.
+     */
+    private int submitConcurrency = 16;
+
+    /**
+     * Asynchronous submissions waiting for a worker; beyond that, submissions are refused.
+     */
+    private int submitQueueCapacity = 500;
+
+    /**
+     * How long shutdown waits for queued and running submissions. Longer than the booking read timeout, so a
+     * running confirmation can finish.
+     */
+    private Duration submitDrainTimeout = Duration.ofSeconds(90);
+
+    public int getListPageSize() {
+        return listPageSize;
+    }
+
+    public void setListPageSize(int listPageSize) {
+        this.listPageSize = listPageSize;
+    }
+
+    public int getListMaxPageSize() {
+        return listMaxPageSize;
+    }
+
+    public void setListMaxPageSize(int listMaxPageSize) {
+        this.listMaxPageSize = listMaxPageSize;
+    }
+
+    public Duration getListDeadline() {
+        return listDeadline;
+    }
+
+    public void setListDeadline(Duration listDeadline) {
+        this.listDeadline = listDeadline;
+    }
+
+    public int getListConcurrency() {
+        return listConcurrency;
+    }
+
+    public void setListConcurrency(int listConcurrency) {
+        this.listConcurrency = listConcurrency;
+    }
+
+    public int getHotelIdsBatchSize() {
+        return hotelIdsBatchSize;
+    }
+
+    public void setHotelIdsBatchSize(int hotelIdsBatchSize) {
+        this.hotelIdsBatchSize = hotelIdsBatchSize;
+    }
+
+    public int getSubmitConcurrency() {
+        return submitConcurrency;
+    }
+
+    public void setSubmitConcurrency(int submitConcurrency) {
+        this.submitConcurrency = submitConcurrency;
+    }
+
+    public int getSubmitQueueCapacity() {
+        return submitQueueCapacity;
+    }
+
+    public void setSubmitQueueCapacity(int submitQueueCapacity) {
+        this.submitQueueCapacity = submitQueueCapacity;
+    }
+
+    public Duration getSubmitDrainTimeout() {
+        return submitDrainTimeout;
+    }
+
+    public void setSubmitDrainTimeout(Duration submitDrainTimeout) {
+        this.submitDrainTimeout = submitDrainTimeout;
+    }
+}
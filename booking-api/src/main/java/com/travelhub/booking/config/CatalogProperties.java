@@ -0,0 +1,101 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "travelhub.booking.catalog")
+public class CatalogProperties {
+
+    /**
+     * Whether the local hotel catalog is synced and used to answer search filters.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Countries mirrored locally; the first one is used when a search does not name a country.
+     */
+    private List<String> countryCodes = List.of("MA");
+
+    /**
+     * Page size of the /data/hotels calls made while syncing.
+     */
+    private int pageSize = 1000;
+
+    /**
+     * Delay between two incremental syncs. Also read by {@code @Scheduled}, so use the ISO-8601 form (e.g. PT1H).
+     */
+    private Duration syncInterval = Duration.ofHours(1);
+
+    /**
+     * Delay before the first sync after startup. Also read by {@code @Scheduled}, so use the ISO-8601 form.
+     */
+    private Duration initialDelay = Duration.ofMinutes(1);
+
+    /**
+     * How long the hotels LiteAPI returned for a place are reused before the place is resolved remotely again.
+     */
+    private Duration placeTtl = Duration.ofDays(7);
+
+    /**
+     * Maximum number of hotels a local search returns, mirroring the upstream hotels list page.
+     */
+    private int maxHotels = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getCountryCodes() {
+        return countryCodes;
+    }
+
+    public void setCountryCodes(List<String> countryCodes) {
+        this.countryCodes = countryCodes;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Duration getSyncInterval() {
+        return syncInterval;
+    }
+
+    public void setSyncInterval(Duration syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    public Duration getPlaceTtl() {
+        return placeTtl;
+    }
+
+    public void setPlaceTtl(Duration placeTtl) {
+        this.placeTtl = placeTtl;
+    }
+
+    public int getMaxHotels() {
+        return maxHotels;
+    }
+
+    public void setMaxHotels(int maxHotels) {
+        this.maxHotels = maxHotels;
+    }
+}
@@ -0,0 +1,35 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "travelhub.booking.hotel-content-cache")
+public class HotelContentCacheProperties {
+
+    /**
+     * Maximum number of (hotelId, language) entries kept in memory.
+     */
+    private long maximumSize = 5000;
+
+    /**
+     * How long hotel static content is served from memory before it is fetched again.
+     */
+    private Duration timeToLive = Duration.ofHours(6);
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+}
@@ -0,0 +1,63 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "travelhub.booking.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Whether requests carrying an {@code Idempotency-Key} header are deduplicated.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long the outcome of a request is replayed for retries with the same key.
+     */
+    private Duration timeToLive = Duration.ofHours(24);
+
+    /**
+     * Maximum number of completed keys kept in memory; the least recently used are evicted first. Keys of requests
+     * still running do not count.
+     */
+    private long maximumKeys = 10000;
+
+    /**
+     * How long a duplicate waits for the first request with its key to finish before getting a 409. Longer than
+     * the booking read timeout.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(90);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public long getMaximumKeys() {
+        return maximumKeys;
+    }
+
+    public void setMaximumKeys(long maximumKeys) {
+        this.maximumKeys = maximumKeys;
+    }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+}
@@ -0,0 +1,34 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "travelhub.booking.mapping")
+public class MappingProperties {
+
+    /**
+     * Number of hotels from which a search result is mapped in parallel. Smaller results are mapped on the calling
+     * thread, where the fork/join overhead would outweigh the gain.
+     */
+    private int parallelThreshold = 200;
+
+    /**
+     * Worker threads of the dedicated mapping pool.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+}
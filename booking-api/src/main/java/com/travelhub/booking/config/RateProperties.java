@@ -0,0 +1,35 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "travelhub.booking.rates")
+public class RateProperties {
+
+    /**
+     * Overall deadline shared by the hotel details and hotel rates calls of a hotel page.
+     */
+    private Duration hotelRatesDeadline = Duration.ofSeconds(30);
+
+    /**
+     * Deadline of the rates call of a destination search, across all of its parallel chunks.
+     */
+    private Duration searchDeadline = Duration.ofSeconds(30);
+
+    public Duration getHotelRatesDeadline() {
+        return hotelRatesDeadline;
+    }
+
+    public void setHotelRatesDeadline(Duration hotelRatesDeadline) {
+        this.hotelRatesDeadline = hotelRatesDeadline;
+    }
+
+    public Duration getSearchDeadline() {
+        return searchDeadline;
+    }
+
+    public void setSearchDeadline(Duration searchDeadline) {
+        this.searchDeadline = searchDeadline;
+    }
+}
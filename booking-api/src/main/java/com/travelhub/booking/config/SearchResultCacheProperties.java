@@ -0,0 +1,74 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "travelhub.booking.search-result-cache")
+public class SearchResultCacheProperties {
+
+    /**
+     * Whether rate search results are cached. When disabled every search goes upstream.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a search result is served before it is dropped.
+     */
+    private Duration timeToLive = Duration.ofSeconds(60);
+
+    /**
+     * Age after which a served result is refreshed in the background, while the stale result is still returned.
+     */
+    private Duration refreshAfter = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound on the number of hotel availabilities held across all cached results.
+     */
+    private long maximumHotels = 100_000;
+
+    /**
+     * Size in degrees of the grid cell coordinates are rounded to in the cache key (0.01 is about 1.1 km).
+     */
+    private double coordinateCellDegrees = 0.01;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public Duration getRefreshAfter() {
+        return refreshAfter;
+    }
+
+    public void setRefreshAfter(Duration refreshAfter) {
+        this.refreshAfter = refreshAfter;
+    }
+
+    public long getMaximumHotels() {
+        return maximumHotels;
+    }
+
+    public void setMaximumHotels(long maximumHotels) {
+        this.maximumHotels = maximumHotels;
+    }
+
+    public double getCoordinateCellDegrees() {
+        return coordinateCellDegrees;
+    }
+
+    public void setCoordinateCellDegrees(double coordinateCellDegrees) {
+        this.coordinateCellDegrees = coordinateCellDegrees;
+    }
+}
@@ -0,0 +1,89 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "travelhub.booking.simulation-store")
+public class SimulationStoreProperties {
+
+    /**
+     * How long a prebook simulation can be booked against. It is kept in memory until then.
+     */
+    private Duration timeToLive = Duration.ofMinutes(30);
+
+    /**
+     * Maximum number of simulations kept in memory; evicted ones are read back from the database.
+     */
+    private long maximumSize = 50000;
+
+    /**
+     * Delay between two writes of new simulations to the database. Also read by {@code @Scheduled}, so use the
+     * ISO-8601 form (e.g. PT1S).
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Simulations written per database batch.
+     */
+    private int flushBatchSize = 100;
+
+    /**
+     * Delay between two purges of expired simulations from the database. Also read by {@code @Scheduled}, so use
+     * the ISO-8601 form (e.g. PT5M).
+     */
+    private Duration purgeInterval = Duration.ofMinutes(5);
+
+    /**
+     * Expired simulations deleted per transaction, so a purge never holds locks on a large part of the table.
+     */
+    private int purgeBatchSize = 500;
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
+    public void setFlushBatchSize(int flushBatchSize) {
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+
+    public int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+
+    public void setPurgeBatchSize(int purgeBatchSize) {
+        this.purgeBatchSize = purgeBatchSize;
+    }
+}
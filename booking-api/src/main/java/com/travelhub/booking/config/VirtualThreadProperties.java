@@ -0,0 +1,36 @@
+package com.travelhub.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "travelhub.booking.virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * Shortest pinning of a virtual thread to its carrier that is recorded and logged. Pinning happens when a
+     * virtual thread blocks inside a synchronized block or a native frame.
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * Stack frames logged for each pinning, innermost first.
+     */
+    private int pinnedStackDepth = 12;
+
+    public Duration getPinnedThreshold() {
+        return pinnedThreshold;
+    }
+
+    public void setPinnedThreshold(Duration pinnedThreshold) {
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    public int getPinnedStackDepth() {
+        return pinnedStackDepth;
+    }
+
+    public void setPinnedStackDepth(int pinnedStackDepth) {
+        this.pinnedStackDepth = pinnedStackDepth;
+    }
+}
@@ -4,6 +4,7 @@ import com.travelhub.booking.dto.request.PrebookRequestDto;
 import com.travelhub.booking.dto.response.PrebookResponseDto;
 import com.travelhub.booking.dto.response.BookResponseDto;
 import com.travelhub.booking.dto.response.BookingListResponseDto;
+import com.travelhub.booking.idempotency.IdempotencyStore;
 import com.travelhub.booking.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +19,9 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/booking")
 @Tag(name = "Booking", description = "Hotel booking operations")
@@ -25,9 +29,11 @@ public class BookingController {
 
         private static final Logger logger = LoggerFactory.getLogger(BookingController.class);
         private final BookingService bookingService;
+        private final IdempotencyStore idempotencyStore;
 
-        public BookingController(BookingService bookingService) {
+        public BookingController(BookingService bookingService, IdempotencyStore idempotencyStore) {
                 this.bookingService = bookingService;
+                this.idempotencyStore = idempotencyStore;
         }
 
         @PostMapping("/prebook")
@@ -38,13 +44,17 @@ public class BookingController {
                         @ApiResponse(responseCode = "200", description = "Prebook session created successfully"),
                         @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
                         @ApiResponse(responseCode = "404", description = "Offer not found or no longer available"),
+                        @ApiResponse(responseCode = "409", description = "A request with this Idempotency-Key is still being processed"),
+                        @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request"),
                         @ApiResponse(responseCode = "500", description = "Internal server error")
         })
         public ResponseEntity<PrebookResponseDto> prebook(
-                        @Parameter(description = "Prebook request containing offer ID", required = true) @RequestBody PrebookRequestDto request) {
+                        @Parameter(description = "Prebook request containing offer ID", required = true) @RequestBody PrebookRequestDto request,
+                        @Parameter(description = "Client-generated key; retries with the same key return the first response") @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
                 logger.info("Received prebook request for offerId: {}", request.getOfferId());
 
-                PrebookResponseDto response = bookingService.prebook(request);
+                PrebookResponseDto response = idempotencyStore.execute("prebook", idempotencyKey, request,
+                                () -> bookingService.prebook(request));
 
                 logger.info("Prebook successful - offerId: {}",
                                 request.getOfferId());
@@ -57,6 +67,8 @@ public class BookingController {
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Booking initiated successfully"),
                         @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
+                        @ApiResponse(responseCode = "404", description = "Simulation not found"),
+                        @ApiResponse(responseCode = "410", description = "Simulation has expired or is no longer active"),
                         @ApiResponse(responseCode = "500", description = "Internal server error")
         })
         public ResponseEntity<Booking> initiateBooking(
@@ -67,16 +79,31 @@ public class BookingController {
         }
 
         @PostMapping("/submit")
-        @Operation(summary = "Submit a booking", description = "Validates and saves a booking with the provided holder information and simulation ID.")
+        @Operation(summary = "Submit a booking", description = "Validates and saves a booking with the provided holder information and simulation ID. "
+                        + "With async=true the booking is confirmed in the background: the PENDING booking is returned at once and GET /api/v1/booking/{id} reports its status.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Booking submitted successfully"),
+                        @ApiResponse(responseCode = "202", description = "Booking accepted, poll the Location header for its status"),
                         @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
-                        @ApiResponse(responseCode = "500", description = "Internal server error")
+                        @ApiResponse(responseCode = "404", description = "Simulation not found"),
+                        @ApiResponse(responseCode = "409", description = "A request with this Idempotency-Key is still being processed"),
+                        @ApiResponse(responseCode = "410", description = "Simulation has expired or is no longer active"),
+                        @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request"),
+                        @ApiResponse(responseCode = "500", description = "Internal server error"),
+                        @ApiResponse(responseCode = "503", description = "Too many bookings being confirmed, retry later")
         })
         public ResponseEntity<BookResponseDto> submitBooking(
-                        @Parameter(description = "Booking submission request", required = true) @Valid @RequestBody BookingInitiationRequestDto request) {
-                logger.info("Received booking submission request");
-                BookResponseDto booking = bookingService.submitBooking(request);
+                        @Parameter(description = "Booking submission request", required = true) @Valid @RequestBody BookingInitiationRequestDto request,
+                        @Parameter(description = "Confirm the booking in the background") @RequestParam(defaultValue = "false") boolean async,
+                        @Parameter(description = "Client-generated key; retries with the same key return the first booking instead of booking again") @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+                logger.info("Received booking submission request, async: {}", async);
+                BookResponseDto booking = idempotencyStore.execute("submit", idempotencyKey, List.of(request, async),
+                                () -> async ? bookingService.submitBookingAsync(request) : bookingService.submitBooking(request));
+                if (async) {
+                        return ResponseEntity.accepted()
+                                        .location(URI.create("/api/v1/booking/" + booking.getData().getClientReference()))
+                                        .body(booking);
+                }
                 return ResponseEntity.ok(booking);
         }
 
@@ -87,7 +114,8 @@ public class BookingController {
         }
 
         @GetMapping("/list")
-        @Operation(summary = "List bookings", description = "List bookings for a guest or client reference")
+        @Operation(summary = "List bookings", description = "List bookings for a guest or client reference. "
+                        + "Returns every booking at once; GET /api/v2/booking/list returns them page by page.")
         public ResponseEntity<BookingListResponseDto> listBookings() {
                 logger.info("Received list bookings request ");
                 BookingListResponseDto response = bookingService
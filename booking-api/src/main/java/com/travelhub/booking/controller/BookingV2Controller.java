@@ -0,0 +1,46 @@
+package com.travelhub.booking.controller;
+
+import com.travelhub.booking.dto.response.BookingListResponseDto;
+import com.travelhub.booking.service.BookingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Version 2 of the booking endpoints whose response changed: the booking list is returned page by page, from the
+ * booking list summaries.
+ */
+@RestController
+@RequestMapping("/api/v2/booking")
+@Tag(name = "Booking", description = "Hotel booking operations")
+public class BookingV2Controller {
+
+        private static final Logger logger = LoggerFactory.getLogger(BookingV2Controller.class);
+        private final BookingService bookingService;
+
+        public BookingV2Controller(BookingService bookingService) {
+                this.bookingService = bookingService;
+        }
+
+        @GetMapping("/list")
+        @Operation(summary = "List bookings page by page", description = "List bookings for a guest or client reference, by check-in date. "
+                        + "Bookings carry their list fields (references, status, dates, price and hotel); "
+                        + "GET /api/v1/booking/{id} returns the details. "
+                        + "Pages are chained with the nextCursor of the previous page, which is absent on the last page.")
+        public ResponseEntity<BookingListResponseDto> listBookings(
+                        @Parameter(description = "nextCursor of the previous page; omit for the first page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Bookings per page") @RequestParam(required = false) Integer limit) {
+                logger.info("Received list bookings page request");
+                BookingListResponseDto response = bookingService.listBookings(cursor, limit);
+                logger.info("List bookings page request completed - bookings found: {}",
+                                response.getData() != null ? response.getData().size() : 0);
+                return ResponseEntity.ok(response);
+        }
+}
@@ -1,7 +1,9 @@
 package com.travelhub.booking.controller;
 
+import com.travelhub.booking.config.RateProperties;
 import com.travelhub.booking.dto.request.HotelRateRequestDto;
 import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.dto.response.HotelAvailabilityDto;
 import com.travelhub.booking.dto.response.HotelRateResponseDto;
 import com.travelhub.booking.dto.response.RateSearchResponseDto;
 import com.travelhub.booking.service.RateService;
@@ -14,8 +16,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/rates")
@@ -23,10 +34,13 @@ import org.springframework.web.bind.annotation.*;
 public class RateController {
 
         private static final Logger logger = LoggerFactory.getLogger(RateController.class);
+        private static final String SERVER_TIMING_HEADER = "Server-Timing";
         private final RateService rateService;
+        private final RateProperties rateProperties;
 
-        public RateController(RateService rateService) {
+        public RateController(RateService rateService, RateProperties rateProperties) {
                 this.rateService = rateService;
+                this.rateProperties = rateProperties;
         }
 
         @PostMapping("/search")
@@ -51,6 +65,63 @@ public class RateController {
                 return ResponseEntity.ok(response);
         }
 
+        @PostMapping(path = "/search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        @Operation(summary = "Stream hotel rates", description = "Same search as /search, streamed as Server-Sent Events. "
+                        +
+                        "Each hotel is sent as a 'hotel' event as soon as its rates are mapped, followed by a single 'complete' event "
+                        +
+                        "carrying the search metadata, or an 'error' event if no rates could be retrieved.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Stream of hotel availabilities", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = HotelAvailabilityDto.class)))
+        })
+        public SseEmitter streamRates(
+                        @Parameter(description = "Hotel search criteria including dates, location, and guest information") @RequestBody RateSearchRequestDto request) {
+                logger.info("Received rate stream request - placeId: {}, checkin: {}, checkout: {}",
+                                request.getPlaceId(), request.getCheckin(), request.getCheckout());
+
+                SseEmitter emitter = new SseEmitter(rateProperties.getSearchDeadline().toMillis());
+                AtomicInteger hotelCount = new AtomicInteger();
+
+                CompletableFuture<RateSearchResponseDto> stream = rateService.streamRates(request, hotel -> {
+                        try {
+                                emitter.send(SseEmitter.event().name("hotel").data(hotel, MediaType.APPLICATION_JSON));
+                                hotelCount.incrementAndGet();
+                        } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                        }
+                });
+                // Stop the remaining upstream rates calls once the client went away or the emitter timed out
+                emitter.onTimeout(() -> stream.cancel(true));
+                emitter.onError(ex -> stream.cancel(true));
+                emitter.onCompletion(() -> stream.cancel(true));
+
+                stream.whenComplete((summary, ex) -> {
+                        if (stream.isCancelled()) {
+                                logger.info("Rate stream cancelled - placeId: {}, hotels sent: {}",
+                                                request.getPlaceId(), hotelCount.get());
+                                return;
+                        }
+                        try {
+                                if (ex != null) {
+                                        logger.warn("Rate stream failed - placeId: {}: {}", request.getPlaceId(),
+                                                        ex.getMessage());
+                                        emitter.send(SseEmitter.event().name("error").data(ex.getMessage()));
+                                } else {
+                                        emitter.send(SseEmitter.event().name("complete").data(summary,
+                                                        MediaType.APPLICATION_JSON));
+                                }
+                                emitter.complete();
+                        } catch (IOException | IllegalStateException e) {
+                                // Client went away or the emitter timed out
+                                emitter.completeWithError(e);
+                        }
+                        logger.info("Rate stream completed - placeId: {}, hotels sent: {}", request.getPlaceId(),
+                                        hotelCount.get());
+                });
+
+                return emitter;
+        }
+
         @PostMapping("/{hotelId}")
         @Operation(summary = "Get rates for a specific hotel", description = "Retrieves detailed hotel information combined with available rates. "
                         +
@@ -74,6 +145,17 @@ public class RateController {
                 logger.info("Hotel rate request completed - hotelId: {}, grouped offers found: {}",
                                 hotelId, response.getGroupedRates() != null ? response.getGroupedRates().size() : 0);
 
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok()
+                                .header(SERVER_TIMING_HEADER, toServerTiming(response.getPhaseTimings()))
+                                .body(response);
+        }
+
+        private static String toServerTiming(Map<String, Long> phaseTimings) {
+                if (phaseTimings == null) {
+                        return "";
+                }
+                return phaseTimings.entrySet().stream()
+                                .map(entry -> entry.getKey() + ";dur=" + entry.getValue())
+                                .collect(Collectors.joining(", "));
         }
 }
@@ -0,0 +1,78 @@
+package com.travelhub.booking.diagnostics;
+
+import com.travelhub.booking.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, from the JDK's own
+ * {@code jdk.VirtualThreadPinned} flight recorder event. A pinned virtual thread holds a carrier while it blocks,
+ * typically inside a {@code synchronized} block of a driver or client library, and enough of them at once starve
+ * every other virtual thread.
+ * <p>
+ * Each pinning longer than the threshold is timed in {@code jvm.threads.virtual.pinned} and logged with the
+ * innermost frames of its stack, which name the lock holder (H2 sessions, connection pools, and so on). Only
+ * active when {@code spring.threads.virtual.enabled} is set on Java 21 or later.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream recordingStream;
+    private final Timer pinned;
+    private final int stackDepth;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.stackDepth = properties.getPinnedStackDepth();
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(properties.getPinnedThreshold()).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        logger.info("Virtual thread pinning monitor started - threshold: {}", properties.getPinnedThreshold());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        logger.warn("Virtual thread {} pinned for {} ms at:{}",
+                event.getThread() != null ? event.getThread().getJavaName() : "?",
+                event.getDuration().toMillis(), frames(event.getStackTrace()));
+    }
+
+    private String frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return " (no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(stackDepth)
+                .map(VirtualThreadPinningMonitor::frame)
+                .collect(Collectors.joining());
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return "\n\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+}
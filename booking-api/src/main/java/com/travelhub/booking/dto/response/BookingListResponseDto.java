@@ -7,6 +7,7 @@ import java.util.List;
 public class BookingListResponseDto {
 
     private List<BookingDataDto> data;
+    private String nextCursor;
 
     public List<BookingDataDto> getData() {
         return data;
@@ -16,6 +17,17 @@ public class BookingListResponseDto {
         this.data = data;
     }
 
+    /**
+     * Cursor of the next page, or null on the last page. Only set by the paged list.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
     public static class BookingDataDto {
         private String bookingId;
         private String clientReference;
@@ -1,9 +1,11 @@
 package com.travelhub.booking.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 @Schema(description = "Response containing detailed hotel information with available rates")
 public class HotelRateResponseDto {
@@ -71,6 +73,10 @@ public class HotelRateResponseDto {
     @Schema(description = "Sentiment analysis from reviews")
     private SentimentAnalysisDto sentimentAnalysis;
 
+    // Per-phase durations in milliseconds, exposed through the Server-Timing header rather than the body
+    @JsonIgnore
+    private Map<String, Long> phaseTimings;
+
     // Getters and Setters
 
     public String getHotelId() {
@@ -240,4 +246,12 @@ public class HotelRateResponseDto {
     public void setSentimentAnalysis(SentimentAnalysisDto sentimentAnalysis) {
         this.sentimentAnalysis = sentimentAnalysis;
     }
+
+    public Map<String, Long> getPhaseTimings() {
+        return phaseTimings;
+    }
+
+    public void setPhaseTimings(Map<String, Long> phaseTimings) {
+        this.phaseTimings = phaseTimings;
+    }
 }
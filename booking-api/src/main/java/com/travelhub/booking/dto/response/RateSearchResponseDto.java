@@ -1,5 +1,7 @@
 package com.travelhub.booking.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 
 public class RateSearchResponseDto {
@@ -7,6 +9,9 @@ public class RateSearchResponseDto {
     private Integer guestLevel;
     private Boolean sandbox;
     private String sessionId;
+    // Some hotels are missing because part of the upstream search failed
+    @JsonIgnore
+    private boolean partial;
 
     public List<HotelAvailabilityDto> getHotels() {
         return hotels;
@@ -39,5 +44,13 @@ public class RateSearchResponseDto {
     public void setSessionId(String sessionId) {
         this.sessionId = sessionId;
     }
-}
 
+    @JsonIgnore
+    public boolean isPartial() {
+        return partial;
+    }
+
+    public void setPartial(boolean partial) {
+        this.partial = partial;
+    }
+}
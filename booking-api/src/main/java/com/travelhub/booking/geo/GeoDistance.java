@@ -0,0 +1,34 @@
+package com.travelhub.booking.geo;
+
+/**
+ * Great-circle distances on primitive doubles.
+ */
+public final class GeoDistance {
+
+    static final double EARTH_RADIUS_KM = 6371;
+    static final double METERS_PER_DEGREE_LATITUDE = 111_320d;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * Haversine distance in kilometres between two points given in decimal degrees.
+     */
+    public static double haversineKilometers(double lat1, double lon1, double lat2, double lon2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double deltaLat = Math.toRadians(lat2 - lat1);
+        double deltaLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
+                   Math.cos(lat1Rad) * Math.cos(lat2Rad) *
+                   Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_KM * c;
+    }
+
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        return haversineKilometers(lat1, lon1, lat2, lon2) * 1000;
+    }
+}
@@ -0,0 +1,148 @@
+package com.travelhub.booking.geo;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory grid index of hotel coordinates for radius and k-nearest queries.
+ * <p>
+ * Hotels are bucketed into fixed cells of {@value #CELL_DEGREES} degrees (about 5.5 km of latitude). A radius
+ * query only visits the cells overlapping the query's bounding box and computes distances on primitive doubles.
+ * The index is safe for concurrent reads and writes.
+ */
+@Component
+public class HotelGeoIndex {
+
+    static final double CELL_DEGREES = 0.05;
+    private static final double MAX_NEAREST_RADIUS_METERS = 500_000;
+
+    private final Map<String, Point> pointsById = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Point>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * Adds or moves a hotel.
+     */
+    public void put(String hotelId, double latitude, double longitude) {
+        if (hotelId == null || Double.isNaN(latitude) || Double.isNaN(longitude)) {
+            return;
+        }
+        // compute() serializes updates of the same hotel so it never ends up in two cells
+        pointsById.compute(hotelId, (id, previous) -> {
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            Point point = new Point(id, latitude, longitude);
+            cells.computeIfAbsent(cellKey(latitude, longitude), key -> ConcurrentHashMap.newKeySet()).add(point);
+            return point;
+        });
+    }
+
+    public void remove(String hotelId) {
+        pointsById.computeIfPresent(hotelId, (id, previous) -> {
+            removeFromCell(previous);
+            return null;
+        });
+    }
+
+    public int size() {
+        return pointsById.size();
+    }
+
+    /**
+     * Hotels within {@code radiusMeters} of the given point, nearest first.
+     */
+    public List<GeoHit> withinRadius(double latitude, double longitude, double radiusMeters) {
+        double latSpan = radiusMeters / GeoDistance.METERS_PER_DEGREE_LATITUDE;
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double lonSpan = Math.min(180, latSpan / cosLat);
+
+        int minLatCell = cell(Math.max(-90, latitude - latSpan));
+        int maxLatCell = cell(Math.min(90, latitude + latSpan));
+        int minLonCell = cell(longitude - lonSpan);
+        int maxLonCell = cell(longitude + lonSpan);
+
+        List<GeoHit> hits = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                Set<Point> cell = cells.get(cellKey(latCell, wrapLonCell(lonCell)));
+                if (cell == null) {
+                    continue;
+                }
+                for (Point point : cell) {
+                    double distance = GeoDistance.haversineMeters(latitude, longitude, point.latitude, point.longitude);
+                    if (distance <= radiusMeters) {
+                        hits.add(new GeoHit(point.hotelId, distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(GeoHit::distanceMeters));
+        return hits;
+    }
+
+    /**
+     * The {@code k} hotels nearest to the given point, nearest first. Hotels further than 500 km are ignored.
+     */
+    public List<GeoHit> nearest(double latitude, double longitude, int k) {
+        if (k <= 0 || pointsById.isEmpty()) {
+            return List.of();
+        }
+        // Grow the search radius until it holds k hotels: those are then the k nearest overall
+        double radius = CELL_DEGREES * GeoDistance.METERS_PER_DEGREE_LATITUDE;
+        List<GeoHit> hits = withinRadius(latitude, longitude, radius);
+        while (hits.size() < k && radius < MAX_NEAREST_RADIUS_METERS) {
+            radius = Math.min(radius * 2, MAX_NEAREST_RADIUS_METERS);
+            hits = withinRadius(latitude, longitude, radius);
+        }
+        return hits.size() > k ? new ArrayList<>(hits.subList(0, k)) : hits;
+    }
+
+    private void removeFromCell(Point point) {
+        Set<Point> cell = cells.get(cellKey(point.latitude, point.longitude));
+        if (cell != null) {
+            cell.remove(point);
+        }
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static int wrapLonCell(int lonCell) {
+        int cellsAround = (int) Math.round(360 / CELL_DEGREES);
+        int offset = cell(-180);
+        return Math.floorMod(lonCell - offset, cellsAround) + offset;
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return cellKey(cell(latitude), cell(longitude));
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    /**
+     * A hotel found by a geo query, with its distance to the query point.
+     */
+    public record GeoHit(String hotelId, double distanceMeters) {
+    }
+
+    private static final class Point {
+        private final String hotelId;
+        private final double latitude;
+        private final double longitude;
+
+        private Point(String hotelId, double latitude, double longitude) {
+            this.hotelId = hotelId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.travelhub.booking.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.travelhub.booking.config.IdempotencyProperties;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Outcome of requests sent with an {@code Idempotency-Key} header, so that a client retrying after a timeout gets
+ * the first response back instead of running the request again. A retry that arrives while the first request is
+ * still running waits for it. A key reused with a different request body is refused with 422.
+ * <p>
+ * Responses are kept for {@code timeToLive}, and so are failures that may have left a side effect: a booking that
+ * timed out or failed with a 5xx upstream may still have been made, so retrying it must not book again. A failure
+ * known to have changed nothing frees the key for a retry: a 4xx or 503 {@link ResponseStatusException} raised
+ * here, a 4xx from the provider, or a call the circuit breaker or bulkhead never let through. Requests still
+ * running are never evicted to make room for new keys. Replayed responses are shared, so callers must treat them
+ * as read-only. Keys live in this instance's memory, so retries are only deduplicated when they reach the same
+ * instance.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    static final String REQUESTS = "booking.idempotency.requests";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final String CACHE_NAME = "idempotencyKeys";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Entry> entries;
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyProperties properties, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumKeys())
+                // A running request weighs nothing until it completes and is put again
+                .weigher((String key, Entry entry) -> entry.response().isDone() ? 1 : 0)
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME, Collections.emptyList());
+    }
+
+    /**
+     * Runs the call once per operation and key, and returns its response to every request with that key.
+     *
+     * @param operation the endpoint, so one key can be used for different endpoints
+     * @param idempotencyKey the client's key; without one the call simply runs
+     * @param request what identifies the request, compared between requests with the same key
+     * @param call the request's work
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String idempotencyKey, Object request, Supplier<T> call) {
+        if (!properties.isEnabled() || idempotencyKey == null || idempotencyKey.isBlank()) {
+            return call.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    HEADER + " must not be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String key = operation + " " + idempotencyKey;
+        Entry entry = new Entry(fingerprint(request), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(entry.fingerprint())) {
+                count(operation, "MISMATCH");
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        HEADER + " was already used for a different request");
+            }
+            count(operation, existing.response().isDone() ? "REPLAYED" : "JOINED");
+            logger.info("Replaying {} request for idempotency key {}", operation, idempotencyKey);
+            return (T) await(existing.response());
+        }
+
+        count(operation, "EXECUTED");
+        try {
+            T response = call.get();
+            entry.response().complete(response);
+            entries.asMap().replace(key, entry, entry);
+            return response;
+        } catch (RuntimeException | Error e) {
+            entry.response().completeExceptionally(e);
+            if (mayHaveSideEffect(e)) {
+                entries.asMap().replace(key, entry, entry);
+            } else {
+                entries.asMap().remove(key, entry);
+            }
+            throw e;
+        }
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot fingerprint request", e);
+        }
+    }
+
+    /**
+     * Whether a failure may have left something behind that a retry would repeat. Services wrap the failures they
+     * catch, so the causes are looked through for one of a known kind; a failure of no known kind is assumed to have
+     * had an effect.
+     */
+    static boolean mayHaveSideEffect(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResponseStatusException e) {
+                return !e.getStatusCode().is4xxClientError()
+                        && !e.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            if (cause instanceof HttpClientErrorException
+                    || cause instanceof CallNotPermittedException
+                    || cause instanceof BulkheadFullException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object await(CompletableFuture<Object> response) {
+        try {
+            return response.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "A request with this " + HEADER + " is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a request with the same " + HEADER);
+        }
+    }
+
+    private void count(String operation, String outcome) {
+        counters.computeIfAbsent(new CounterKey(operation, outcome), key -> Counter.builder(REQUESTS)
+                .description("Requests carrying an idempotency key, by whether they ran or replayed an earlier one")
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry))
+                .increment();
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Object> response) {
+    }
+
+    private record CounterKey(String operation, String outcome) {
+    }
+}
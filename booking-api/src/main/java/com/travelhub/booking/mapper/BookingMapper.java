@@ -4,6 +4,7 @@ import com.travelhub.booking.dto.request.BookingInitiationRequestDto;
 import com.travelhub.booking.dto.request.PrebookRequestDto;
 import com.travelhub.booking.dto.response.*;
 import com.travelhub.booking.model.Booking;
+import com.travelhub.booking.model.BookingSummary;
 import com.travelhub.connectors.nuitee.dto.request.BookRequest;
 import com.travelhub.connectors.nuitee.dto.request.PrebookRequest;
 import com.travelhub.connectors.nuitee.dto.response.*;
@@ -488,4 +489,30 @@ public class BookingMapper {
 
         return mergedDto;
     }
+
+    /**
+     * Maps a booking list summary. Unconfirmed bookings have no check-in yet.
+     */
+    public BookingListResponseDto.BookingDataDto toBookingData(BookingSummary summary) {
+        BookingListResponseDto.BookingDataDto dto = new BookingListResponseDto.BookingDataDto();
+        dto.setClientReference(summary.getId());
+        dto.setBookingId(summary.getBookingId());
+        dto.setStatus(summary.getStatus());
+        dto.setCheckin(summary.getCheckin().isEmpty() ? null : summary.getCheckin());
+        dto.setCheckout(summary.getCheckout());
+        dto.setPrice(summary.getPrice());
+        dto.setCurrency(summary.getCurrency());
+        dto.setHotelId(summary.getHotelId());
+        dto.setHotelName(summary.getHotelName());
+        dto.setCreatedAt(summary.getCreatedAt());
+        if (summary.getHotelId() != null) {
+            BookingListResponseDto.HotelInfoDto hotel = new BookingListResponseDto.HotelInfoDto();
+            hotel.setHotelId(summary.getHotelId());
+            hotel.setName(summary.getHotelName());
+            hotel.setMainPhoto(summary.getMainPhoto());
+            hotel.setThumbnail(summary.getThumbnail());
+            dto.setHotel(hotel);
+        }
+        return dto;
+    }
 }
@@ -0,0 +1,118 @@
+package com.travelhub.booking.mapper;
+
+import com.travelhub.booking.model.CatalogHotel;
+import com.travelhub.booking.model.CatalogPlace;
+import com.travelhub.connectors.nuitee.dto.response.MinimalHotelData;
+import com.travelhub.connectors.nuitee.dto.response.Place;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class CatalogHotelMapper {
+
+    public CatalogHotel toCatalogHotel(MinimalHotelData hotel, LocalDateTime syncedAt) {
+        if (hotel == null) {
+            return null;
+        }
+        CatalogHotel catalogHotel = new CatalogHotel();
+        catalogHotel.setId(hotel.getId());
+        catalogHotel.setName(hotel.getName() != null ? hotel.getName() : hotel.getId());
+        catalogHotel.setAddress(hotel.getAddress());
+        catalogHotel.setCity(hotel.getCity());
+        catalogHotel.setCountryCode(hotel.getCountryCode());
+        catalogHotel.setZip(hotel.getZip());
+        catalogHotel.setStars(hotel.getStars());
+        catalogHotel.setRating(hotel.getRating());
+        catalogHotel.setReviewCount(hotel.getReviewCount());
+        catalogHotel.setLatitude(hotel.getLatitude() != null ? hotel.getLatitude().doubleValue() : null);
+        catalogHotel.setLongitude(hotel.getLongitude() != null ? hotel.getLongitude().doubleValue() : null);
+        catalogHotel.setChainId(hotel.getChainId());
+        catalogHotel.setHotelTypeId(hotel.getHotelTypeId());
+        catalogHotel.setFacilityIds(toFacilityColumn(hotel.getFacilityIds()));
+        catalogHotel.setMainPhoto(hotel.getMainPhoto());
+        catalogHotel.setThumbnail(hotel.getThumbnail());
+        catalogHotel.setSyncedAt(syncedAt);
+        return catalogHotel;
+    }
+
+    public MinimalHotelData toMinimalHotelData(CatalogHotel catalogHotel) {
+        if (catalogHotel == null) {
+            return null;
+        }
+        MinimalHotelData hotel = new MinimalHotelData();
+        hotel.setId(catalogHotel.getId());
+        hotel.setName(catalogHotel.getName());
+        hotel.setAddress(catalogHotel.getAddress());
+        hotel.setCity(catalogHotel.getCity());
+        hotel.setCountryCode(catalogHotel.getCountryCode());
+        hotel.setZip(catalogHotel.getZip());
+        hotel.setStars(catalogHotel.getStars());
+        hotel.setRating(catalogHotel.getRating());
+        hotel.setReviewCount(catalogHotel.getReviewCount());
+        hotel.setLatitude(catalogHotel.getLatitude() != null ? BigDecimal.valueOf(catalogHotel.getLatitude()) : null);
+        hotel.setLongitude(catalogHotel.getLongitude() != null ? BigDecimal.valueOf(catalogHotel.getLongitude()) : null);
+        hotel.setChainId(catalogHotel.getChainId());
+        hotel.setHotelTypeId(catalogHotel.getHotelTypeId());
+        hotel.setFacilityIds(fromFacilityColumn(catalogHotel.getFacilityIds()));
+        hotel.setMainPhoto(catalogHotel.getMainPhoto());
+        hotel.setThumbnail(catalogHotel.getThumbnail());
+        return hotel;
+    }
+
+    public CatalogPlace toCatalogPlace(String placeId, Place place, List<String> hotelIds, LocalDateTime resolvedAt) {
+        CatalogPlace catalogPlace = new CatalogPlace();
+        catalogPlace.setPlaceId(placeId);
+        catalogPlace.setHotelIds(new ArrayList<>(hotelIds));
+        catalogPlace.setResolvedAt(resolvedAt);
+        if (place != null) {
+            catalogPlace.setDisplayName(place.getDisplayName());
+            if (place.getLocation() != null && place.getLocation().getLatitude() != null
+                    && place.getLocation().getLongitude() != null) {
+                catalogPlace.setLatitude(place.getLocation().getLatitude().doubleValue());
+                catalogPlace.setLongitude(place.getLocation().getLongitude().doubleValue());
+            }
+        }
+        return catalogPlace;
+    }
+
+    public Place toPlace(CatalogPlace catalogPlace) {
+        if (catalogPlace == null) {
+            return null;
+        }
+        Place place = new Place();
+        place.setPlaceId(catalogPlace.getPlaceId());
+        place.setDisplayName(catalogPlace.getDisplayName());
+        if (catalogPlace.getLatitude() != null && catalogPlace.getLongitude() != null) {
+            MinimalHotelData.Location location = new MinimalHotelData.Location();
+            location.setLatitude(BigDecimal.valueOf(catalogPlace.getLatitude()));
+            location.setLongitude(BigDecimal.valueOf(catalogPlace.getLongitude()));
+            place.setLocation(location);
+        }
+        return place;
+    }
+
+    private String toFacilityColumn(List<Integer> facilityIds) {
+        if (facilityIds == null || facilityIds.isEmpty()) {
+            return null;
+        }
+        return facilityIds.stream().map(String::valueOf).collect(Collectors.joining(",", ",", ","));
+    }
+
+    private List<Integer> fromFacilityColumn(String facilityIds) {
+        List<Integer> result = new ArrayList<>();
+        if (facilityIds == null) {
+            return result;
+        }
+        for (String facilityId : facilityIds.split(",")) {
+            if (!facilityId.isEmpty()) {
+                result.add(Integer.valueOf(facilityId));
+            }
+        }
+        return result;
+    }
+}
@@ -1,6 +1,7 @@
 package com.travelhub.booking.mapper;
 
 import com.travelhub.booking.dto.response.*;
+import com.travelhub.booking.geo.GeoDistance;
 import com.travelhub.connectors.nuitee.dto.response.*;
 import org.springframework.stereotype.Component;
 
@@ -52,18 +53,47 @@ public class HotelDataMapper {
         if (hotelData == null) {
             return null;
         }
+        return toHotelRateResponseDto(hotelData, RoomIndex.of(hotelData.getRooms()), roomTypes, rateMapper, checkin,
+                checkout);
+    }
+
+    /**
+     * Same as {@link #toHotelRateResponseDto(HotelData, List, RateMapper, String, String)}, with the hotel's rooms
+     * already indexed, e.g. by the hotel content cache.
+     */
+    public HotelRateResponseDto toHotelRateResponseDto(HotelData hotelData, RoomIndex roomIndex,
+            List<RoomType> roomTypes, RateMapper rateMapper, String checkin, String checkout) {
+        if (hotelData == null) {
+            return null;
+        }
 
         HotelRateResponseDto response = mapHotelData(hotelData);
+        response.setGroupedRates(groupRates(roomTypes, roomIndex, rateMapper, checkin, checkout));
+
+        return response;
+    }
 
+    /**
+     * Maps rates when hotel details could not be retrieved: the response only carries the hotel id
+     * and the grouped rates, without room enrichment.
+     */
+    public HotelRateResponseDto toRatesOnlyResponseDto(String hotelId,
+            List<RoomType> roomTypes, RateMapper rateMapper, String checkin, String checkout) {
+        HotelRateResponseDto response = new HotelRateResponseDto();
+        response.setHotelId(hotelId);
+        response.setGroupedRates(groupRates(roomTypes, RoomIndex.empty(), rateMapper, checkin, checkout));
+        return response;
+    }
+
+    private List<RoomConfigurationGroupDto> groupRates(List<RoomType> roomTypes, RoomIndex roomIndex,
+            RateMapper rateMapper, String checkin, String checkout) {
         // Calculate number of nights
         Integer numberOfNights = rateMapper.calculateNumberOfNights(checkin, checkout);
 
         // Group rates by offerId with room breakdown, then by configuration
-        List<GroupedRateDto> offers = rateMapper.groupByOffer(roomTypes, hotelData.getRooms(), numberOfNights);
-
-        response.setGroupedRates(rateMapper.groupRatesByConfiguration(offers));
+        List<GroupedRateDto> offers = rateMapper.groupByOffer(roomTypes, roomIndex, numberOfNights);
 
-        return response;
+        return rateMapper.groupRatesByConfiguration(offers);
     }
     
     /**
@@ -272,20 +302,9 @@ public class HotelDataMapper {
             return null;
         }
         
-        final int EARTH_RADIUS_KM = 6371;
-        
-        double lat1Rad = Math.toRadians(lat1.doubleValue());
-        double lat2Rad = Math.toRadians(lat2.doubleValue());
-        double deltaLat = Math.toRadians(lat2.doubleValue() - lat1.doubleValue());
-        double deltaLon = Math.toRadians(lon2.doubleValue() - lon1.doubleValue());
-        
-        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-                   Math.cos(lat1Rad) * Math.cos(lat2Rad) *
-                   Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        double distance = EARTH_RADIUS_KM * c;
-        
+        double distance = GeoDistance.haversineKilometers(lat1.doubleValue(), lon1.doubleValue(),
+                lat2.doubleValue(), lon2.doubleValue());
+
         return BigDecimal.valueOf(distance).setScale(2, java.math.RoundingMode.HALF_UP);
     }
 }
@@ -0,0 +1,76 @@
+package com.travelhub.booking.mapper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount in cents, for arithmetic on the rate mapping path. It holds no currency: callers keep the currency
+ * next to the amount, as the DTOs do, and only combine amounts of the same currency.
+ * <p>
+ * LiteAPI amounts carry at most two decimals, so they fit exactly in a {@code long} and can be divided without
+ * going through {@link BigDecimal} arithmetic. Amounts with more decimals or too many digits are not representable:
+ * {@link #of} returns {@code null} and callers stay on {@code BigDecimal}. Conversion back to {@code BigDecimal}
+ * only happens at the DTO boundary.
+ */
+final class Money {
+
+    static final int SCALE = 2;
+    private static final long[] POWERS_OF_TEN = { 1, 10, 100 };
+    // 16 digits times 100 still fits in a long
+    private static final int MAX_PRECISION = 16;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * Returns the amount as money, or {@code null} when it is null or cannot be held exactly in minor units.
+     */
+    static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        int scale = amount.scale();
+        if (scale < 0 || scale > SCALE || amount.precision() > MAX_PRECISION) {
+            return null;
+        }
+        return new Money(amount.unscaledValue().longValue() * POWERS_OF_TEN[SCALE - scale]);
+    }
+
+    /**
+     * {@code total / nights} rounded to cents with {@link RoundingMode#HALF_UP}, on minor units when the total is
+     * representable and on {@code BigDecimal} otherwise. Both give the same result.
+     */
+    static BigDecimal perNight(BigDecimal total, int nights) {
+        Money money = of(total);
+        if (money == null) {
+            return total.divide(BigDecimal.valueOf(nights), SCALE, RoundingMode.HALF_UP);
+        }
+        return money.dividedBy(nights).toBigDecimal();
+    }
+
+    /**
+     * Divides with {@link RoundingMode#HALF_UP}: ties round away from zero.
+     */
+    Money dividedBy(int divisor) {
+        if (divisor <= 0) {
+            throw new ArithmeticException("Divisor must be positive: " + divisor);
+        }
+        long quotient = minorUnits / divisor;
+        long remainder = minorUnits % divisor;
+        if (2 * Math.abs(remainder) >= divisor) {
+            quotient += Long.signum(minorUnits);
+        }
+        return new Money(quotient);
+    }
+
+    long minorUnits() {
+        return minorUnits;
+    }
+
+    BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
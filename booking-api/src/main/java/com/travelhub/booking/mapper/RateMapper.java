@@ -1,23 +1,72 @@
 package com.travelhub.booking.mapper;
 
+import com.travelhub.booking.config.MappingProperties;
 import com.travelhub.booking.dto.request.RateSearchRequestDto;
 import com.travelhub.booking.dto.response.*;
 import com.travelhub.connectors.nuitee.dto.common.Price;
 import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
 import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
 import com.travelhub.connectors.nuitee.dto.response.*;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.stream.Collectors;
 
 @Component
-public class RateMapper {
+public class RateMapper implements DisposableBean {
+
+    private final ForkJoinPool mappingPool;
+    private final int parallelThreshold;
+
+    /**
+     * A mapper that always maps on the calling thread.
+     */
+    public RateMapper() {
+        this.mappingPool = null;
+        this.parallelThreshold = Integer.MAX_VALUE;
+    }
+
+    /**
+     * A mapper with its own pool for parallel mapping of large search results. The pool is kept apart from the
+     * common pool, and is not registered as a bean, so that it neither competes with other parallel streams nor
+     * takes the place of the application task executor.
+     */
+    @Autowired
+    public RateMapper(MappingProperties properties) {
+        this(newMappingPool(properties), properties);
+    }
+
+    /**
+     * A mapper that maps search results of at least {@code parallelThreshold} hotels on the given pool. A pool
+     * with a single worker cannot map anything in parallel, so it is ignored.
+     */
+    public RateMapper(ForkJoinPool mappingPool, MappingProperties properties) {
+        this.mappingPool = mappingPool.getParallelism() > 1 ? mappingPool : null;
+        this.parallelThreshold = Math.max(1, properties.getParallelThreshold());
+    }
+
+    private static ForkJoinPool newMappingPool(MappingProperties properties) {
+        return new ForkJoinPool(Math.max(1, properties.getParallelism()), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("rate-mapping-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @Override
+    public void destroy() {
+        if (mappingPool != null) {
+            mappingPool.shutdown();
+        }
+    }
 
     public HotelRatesRequest toHotelRatesRequest(RateSearchRequestDto request) {
         if (request == null) {
@@ -76,16 +125,29 @@ public class RateMapper {
         hotelsListRequest.setZip(request.getZip());
         hotelsListRequest.setMinReviewsCount(request.getMinReviewsCount());
         hotelsListRequest.setMinRating(request.getMinRating());
-        //hotelsListRequest.setFaciliti(request.getFacilities());  // TODO facilityIds string Comma-separated list of facilities. e.g. '1,2,3'
-        //hotelsListRequest.setHotelTypeIds();  // TODO hotelTypeIds
-        //hotelsListRequest.setChainIds();  // TODO hotelTypeIds
+        // Same filters as the local catalog applies (HotelCatalogServiceImpl), so both paths return the same hotels
+        hotelsListRequest.setFacilityIds(joined(request.getFacilities()));
+        hotelsListRequest.setHotelTypeIds(joined(request.getHotelTypeIds()));
+        hotelsListRequest.setChainIds(joined(request.getChainIds()));
         hotelsListRequest.setStrictFacilitiesFiltering(request.getStrictFacilityFiltering());
-        //hotelsListRequest.setStarRating(request.getStarRating());  // TODO Comma-separated list of star ratings. Note: star ratings have 2 allowed decimals '.0' and '.5' from 1 to 5. e.g. '3.5,4.0,5.0'
+        // LiteAPI star ratings carry a decimal, e.g. '4.0,5.0'
+        hotelsListRequest.setStarRating(request.getStarRating() == null || request.getStarRating().isEmpty() ? null
+                : request.getStarRating().stream().map(stars -> stars + ".0").collect(Collectors.joining(",")));
         // hotelsListRequest.setHotelIds();  // todo Comma-separated list of hotel IDs (e.g., 'lp1897,lp1343') to fetch specific hotels by their IDs. This is a valid main query parameter that can be used instead of other search criteria.
 
         return hotelsListRequest;
     }
 
+    /**
+     * Comma-separated list as LiteAPI expects it, or {@code null} when there is nothing to filter on.
+     */
+    private static String joined(List<?> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.stream().map(value -> String.valueOf(value).trim()).collect(Collectors.joining(","));
+    }
+
     private List<com.travelhub.connectors.nuitee.dto.common.SortCriteria> mapSortCriteria(
             List<com.travelhub.booking.dto.common.SortCriteriaDto> sortDtos) {
         if (sortDtos == null) {
@@ -111,6 +173,18 @@ public class RateMapper {
         return rateSearchResponse;
     }
 
+    /**
+     * Maps the rates of a single chunk to hotel availabilities, for callers that emit hotels incrementally.
+     */
+    public List<HotelAvailabilityDto> toHotelAvailabilityDtos(HotelRatesResponse response,
+            HotelsListResponse hotelsListResponse, HotelDataMapper hotelDataMapper) {
+        if (response == null || response.getData() == null) {
+            return java.util.Collections.emptyList();
+        }
+        return mergeHotelData(response.getData(), hotelsListResponse.getData(), hotelsListResponse.getPlace(),
+                hotelDataMapper);
+    }
+
     private List<HotelAvailabilityDto> mergeHotelData(List<HotelRate> hotelRates, 
             List<MinimalHotelData> hotelInfos, Place place, HotelDataMapper hotelDataMapper) {
         if (hotelRates == null) {
@@ -125,9 +199,17 @@ public class RateMapper {
             }
         }
 
-        return hotelRates.stream()
+        if (mappingPool == null || hotelRates.size() < parallelThreshold) {
+            return hotelRates.stream()
+                    .map(rate -> mergeHotelAvailability(rate, hotelInfoMap.get(rate.getHotelId()), place, hotelDataMapper))
+                    .collect(Collectors.toList());
+        }
+
+        // A parallel stream started from a pool task runs on that pool; the ordered collect keeps the input order
+        return mappingPool.submit(() -> hotelRates.parallelStream()
                 .map(rate -> mergeHotelAvailability(rate, hotelInfoMap.get(rate.getHotelId()), place, hotelDataMapper))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()))
+                .join();
     }
 
     private HotelAvailabilityDto mergeHotelAvailability(HotelRate hotelRate, MinimalHotelData hotelInfo, 
@@ -285,26 +367,31 @@ public class RateMapper {
         retailRateDetailDto.setTaxesAndFees(mapTaxesAndFees(retailRateDetail.getTaxesAndFees()));
         
         // Calculate totalPerNight = total / numberOfNights
-        if (numberOfNights != null && numberOfNights > 0 && totalPrices != null && !totalPrices.isEmpty()) {
-            List<PriceDto> totalPerNightPrices = totalPrices.stream()
-                    .map(price -> {
-                        PriceDto perNightPrice = new PriceDto();
-                        perNightPrice.setCurrency(price.getCurrency());
-                        perNightPrice.setSource(price.getSource());
-                        if (price.getAmount() != null) {
-                            BigDecimal perNightAmount = price.getAmount()
-                                    .divide(BigDecimal.valueOf(numberOfNights), 2, RoundingMode.HALF_UP);
-                            perNightPrice.setAmount(perNightAmount);
-                        }
-                        return perNightPrice;
-                    })
-                    .collect(Collectors.toList());
-            retailRateDetailDto.setTotalPerNight(totalPerNightPrices);
-        }
+        retailRateDetailDto.setTotalPerNight(mapTotalPerNight(totalPrices, numberOfNights));
         
         return retailRateDetailDto;
     }
     
+    /**
+     * Per-night prices of the given totals, or {@code null} when the number of nights is unknown.
+     */
+    private List<PriceDto> mapTotalPerNight(List<PriceDto> totalPrices, Integer numberOfNights) {
+        if (numberOfNights == null || numberOfNights <= 0 || totalPrices == null || totalPrices.isEmpty()) {
+            return null;
+        }
+        List<PriceDto> totalPerNightPrices = new java.util.ArrayList<>(totalPrices.size());
+        for (PriceDto price : totalPrices) {
+            PriceDto perNightPrice = new PriceDto();
+            perNightPrice.setCurrency(price.getCurrency());
+            perNightPrice.setSource(price.getSource());
+            if (price.getAmount() != null) {
+                perNightPrice.setAmount(Money.perNight(price.getAmount(), numberOfNights));
+            }
+            totalPerNightPrices.add(perNightPrice);
+        }
+        return totalPerNightPrices;
+    }
+
     /**
      * Overloaded method for backward compatibility
      */
@@ -372,6 +459,14 @@ public class RateMapper {
      */
     public List<GroupedRateDto> groupByOffer(
             List<com.travelhub.connectors.nuitee.dto.response.RoomType> roomTypes, List<com.travelhub.connectors.nuitee.dto.response.Room> hotelRooms, Integer numberOfNights) {
+        return groupByOffer(roomTypes, RoomIndex.of(hotelRooms), numberOfNights);
+    }
+
+    /**
+     * Same as {@link #groupByOffer(List, List, Integer)}, with rooms looked up in a prebuilt index.
+     */
+    public List<GroupedRateDto> groupByOffer(
+            List<com.travelhub.connectors.nuitee.dto.response.RoomType> roomTypes, RoomIndex roomIndex, Integer numberOfNights) {
         if (roomTypes == null) {
             return null;
         }
@@ -407,11 +502,8 @@ public class RateMapper {
                             rateDto.setOfferId(roomType.getOfferId());
 
                             // Enrich with room details
-                            if (hotelRooms != null && rate.getMappedRoomId() != null) {
-                                com.travelhub.connectors.nuitee.dto.response.Room matchingRoom = hotelRooms.stream()
-                                        .filter(room -> rate.getMappedRoomId().equals(room.getId().longValue()))
-                                        .findFirst()
-                                        .orElse(null);
+                            if (rate.getMappedRoomId() != null) {
+                                com.travelhub.connectors.nuitee.dto.response.Room matchingRoom = roomIndex.get(rate.getMappedRoomId());
                                 if (matchingRoom != null) {
                                     enrichRateWithRoomDetails(rateDto, matchingRoom);
                                 }
@@ -563,22 +655,7 @@ public class RateMapper {
         }
         
         // Calculate totalPerNight = total / numberOfNights
-        if (numberOfNights != null && numberOfNights > 0 && totalPrices != null && !totalPrices.isEmpty()) {
-            List<PriceDto> totalPerNightPrices = totalPrices.stream()
-                    .map(price -> {
-                        PriceDto perNightPrice = new PriceDto();
-                        perNightPrice.setCurrency(price.getCurrency());
-                        perNightPrice.setSource(price.getSource());
-                        if (price.getAmount() != null) {
-                            BigDecimal perNightAmount = price.getAmount()
-                                    .divide(BigDecimal.valueOf(numberOfNights), 2, RoundingMode.HALF_UP);
-                            perNightPrice.setAmount(perNightAmount);
-                        }
-                        return perNightPrice;
-                    })
-                    .collect(Collectors.toList());
-            retailRateDetail.setTotalPerNight(totalPerNightPrices);
-        }
+        retailRateDetail.setTotalPerNight(mapTotalPerNight(totalPrices, numberOfNights));
         
         // Taxes are not explicitly available at offer level in simple Price object,
         // but Total includes them if the connector logic works as expected.
@@ -667,22 +744,7 @@ public class RateMapper {
         bookRetailRateDetailDto.setTaxesAndFees(mapTaxesAndFees(bookRetailRateDetail.getTaxesAndFees()));
         
         // Calculate totalPerNight = total / numberOfNights
-        if (numberOfNights != null && numberOfNights > 0 && totalPrices != null && !totalPrices.isEmpty()) {
-            List<PriceDto> totalPerNightPrices = totalPrices.stream()
-                    .map(price -> {
-                        PriceDto perNightPrice = new PriceDto();
-                        perNightPrice.setCurrency(price.getCurrency());
-                        perNightPrice.setSource(price.getSource());
-                        if (price.getAmount() != null) {
-                            BigDecimal perNightAmount = price.getAmount()
-                                    .divide(BigDecimal.valueOf(numberOfNights), 2, RoundingMode.HALF_UP);
-                            perNightPrice.setAmount(perNightAmount);
-                        }
-                        return perNightPrice;
-                    })
-                    .collect(Collectors.toList());
-            bookRetailRateDetailDto.setTotalPerNight(totalPerNightPrices);
-        }
+        bookRetailRateDetailDto.setTotalPerNight(mapTotalPerNight(totalPrices, numberOfNights));
         
         return bookRetailRateDetailDto;
     }
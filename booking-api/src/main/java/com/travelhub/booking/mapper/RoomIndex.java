@@ -0,0 +1,68 @@
+package com.travelhub.booking.mapper;
+
+import com.travelhub.connectors.nuitee.dto.response.Room;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable lookup of a hotel's rooms by id, used to enrich rates through their {@code mappedRoomId}.
+ * <p>
+ * Ids are kept in a sorted {@code long[]} next to the rooms, so a lookup is a binary search on primitives with no
+ * boxing or allocation. The index is built once per hotel content and cached with it.
+ */
+public final class RoomIndex {
+
+    private static final RoomIndex EMPTY = new RoomIndex(new long[0], new Room[0]);
+
+    private final long[] roomIds;
+    private final Room[] rooms;
+
+    private RoomIndex(long[] roomIds, Room[] rooms) {
+        this.roomIds = roomIds;
+        this.rooms = rooms;
+    }
+
+    public static RoomIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Indexes the given rooms. Rooms without an id are skipped, and for a duplicated id the first room wins, as
+     * with the previous linear lookup.
+     */
+    public static RoomIndex of(List<Room> hotelRooms) {
+        if (hotelRooms == null || hotelRooms.isEmpty()) {
+            return EMPTY;
+        }
+        Room[] sorted = hotelRooms.stream()
+                .filter(room -> room != null && room.getId() != null)
+                .sorted((first, second) -> Long.compare(first.getId(), second.getId())) // stable: first wins
+                .toArray(Room[]::new);
+
+        long[] ids = new long[sorted.length];
+        Room[] rooms = new Room[sorted.length];
+        int size = 0;
+        for (Room room : sorted) {
+            long id = room.getId();
+            if (size == 0 || ids[size - 1] != id) {
+                ids[size] = id;
+                rooms[size] = room;
+                size++;
+            }
+        }
+        return new RoomIndex(Arrays.copyOf(ids, size), Arrays.copyOf(rooms, size));
+    }
+
+    /**
+     * Returns the room with the given id, or {@code null} when the hotel has none.
+     */
+    public Room get(long roomId) {
+        int position = Arrays.binarySearch(roomIds, roomId);
+        return position >= 0 ? rooms[position] : null;
+    }
+
+    public int size() {
+        return roomIds.length;
+    }
+}
@@ -1,18 +1,24 @@
 package com.travelhub.booking.model;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.GenericGenerator;
+import org.springframework.data.domain.Persistable;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * Prebook outcome a booking is submitted against. The id is assigned before the row is written, so simulations can
+ * be used from {@link com.travelhub.booking.cache.BookingSimulationStore} before they are persisted.
+ */
 @Entity
-@Table(name = "booking_simulations")
-public class BookingSimulation {
+@Table(name = "booking_simulations", indexes = {
+        @Index(name = "idx_booking_simulations_expires_at", columnList = "expiresAt")
+})
+public class BookingSimulation implements Persistable<String> {
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
     private String id;
 
     @ElementCollection
@@ -41,15 +47,37 @@ public class BookingSimulation {
     @Column(nullable = false)
     private LocalDateTime expiresAt;
 
+    // Lets save() insert a simulation with an assigned id without selecting it first
+    @Transient
+    private boolean persisted;
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        expiresAt = LocalDateTime.now().plusMinutes(30);
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+        }
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (expiresAt == null) {
+            expiresAt = createdAt.plusMinutes(30);
+        }
         if (status == null) {
             status = "ACTIVE";
         }
     }
 
+    @PostPersist
+    @PostLoad
+    protected void markPersisted() {
+        persisted = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
     // Helper method to check if simulation is expired
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
@@ -57,6 +85,7 @@ public class BookingSimulation {
 
     // Getters and Setters
 
+    @Override
     public String getId() {
         return id;
     }
@@ -0,0 +1,168 @@
+package com.travelhub.booking.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * What the booking list shows of a {@link Booking}, kept up to date by
+ * {@link com.travelhub.booking.service.impl.BookingSummaryProjector}. Only listed bookings have a summary, so FAILED
+ * bookings have none. A page of the list is read from these rows alone, in the order of the index.
+ */
+@Entity
+@Table(name = "booking_summaries", indexes = {
+        @Index(name = "idx_booking_summaries_list_order", columnList = "checkin, createdAt, id")
+})
+public class BookingSummary {
+
+    /**
+     * Same as the booking's id.
+     */
+    @Id
+    private String id;
+
+    @Column(name = "booking_id")
+    private String bookingId;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "hotel_id")
+    private String hotelId;
+
+    @Column(name = "hotel_name")
+    private String hotelName;
+
+    // Empty until the provider confirms the booking, so the list order has no nulls
+    @Column(nullable = false)
+    private String checkin;
+
+    @Column(name = "checkout")
+    private String checkout;
+
+    @Column(name = "price")
+    private BigDecimal price;
+
+    @Column(name = "currency")
+    private String currency;
+
+    @Column(name = "main_photo", length = 1024)
+    private String mainPhoto;
+
+    @Column(name = "thumbnail", length = 1024)
+    private String thumbnail;
+
+    // The booking's creation time, second key of the list order
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(String bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(String hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public String getHotelName() {
+        return hotelName;
+    }
+
+    public void setHotelName(String hotelName) {
+        this.hotelName = hotelName;
+    }
+
+    public String getCheckin() {
+        return checkin;
+    }
+
+    public void setCheckin(String checkin) {
+        this.checkin = checkin;
+    }
+
+    public String getCheckout() {
+        return checkout;
+    }
+
+    public void setCheckout(String checkout) {
+        this.checkout = checkout;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getMainPhoto() {
+        return mainPhoto;
+    }
+
+    public void setMainPhoto(String mainPhoto) {
+        this.mainPhoto = mainPhoto;
+    }
+
+    public String getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
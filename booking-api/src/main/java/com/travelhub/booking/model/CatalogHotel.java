@@ -0,0 +1,195 @@
+package com.travelhub.booking.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Local mirror of the LiteAPI hotel list entry ({@code MinimalHotelData}), kept in sync incrementally so
+ * search filters can be answered without calling {@code /data/hotels}.
+ */
+@Entity
+@Table(name = "catalog_hotels", indexes = {
+        @Index(name = "idx_catalog_hotels_country_city", columnList = "countryCode, city")
+})
+public class CatalogHotel {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String address;
+
+    private String city;
+
+    @Column(length = 2)
+    private String countryCode;
+
+    private String zip;
+
+    private Integer stars;
+
+    private Double rating;
+
+    private Integer reviewCount;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Integer chainId;
+
+    private Integer hotelTypeId;
+
+    // Comma-wrapped facility ids (",1,2,3,") so a single facility can be matched with a LIKE
+    @Column(length = 2000)
+    private String facilityIds;
+
+    @Column(length = 1000)
+    private String mainPhoto;
+
+    @Column(length = 1000)
+    private String thumbnail;
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    // Getters and Setters
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public String getZip() {
+        return zip;
+    }
+
+    public void setZip(String zip) {
+        this.zip = zip;
+    }
+
+    public Integer getStars() {
+        return stars;
+    }
+
+    public void setStars(Integer stars) {
+        this.stars = stars;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+
+    public void setRating(Double rating) {
+        this.rating = rating;
+    }
+
+    public Integer getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(Integer reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Integer getChainId() {
+        return chainId;
+    }
+
+    public void setChainId(Integer chainId) {
+        this.chainId = chainId;
+    }
+
+    public Integer getHotelTypeId() {
+        return hotelTypeId;
+    }
+
+    public void setHotelTypeId(Integer hotelTypeId) {
+        this.hotelTypeId = hotelTypeId;
+    }
+
+    public String getFacilityIds() {
+        return facilityIds;
+    }
+
+    public void setFacilityIds(String facilityIds) {
+        this.facilityIds = facilityIds;
+    }
+
+    public String getMainPhoto() {
+        return mainPhoto;
+    }
+
+    public void setMainPhoto(String mainPhoto) {
+        this.mainPhoto = mainPhoto;
+    }
+
+    public String getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public LocalDateTime getSyncedAt() {
+        return syncedAt;
+    }
+
+    public void setSyncedAt(LocalDateTime syncedAt) {
+        this.syncedAt = syncedAt;
+    }
+}
@@ -0,0 +1,82 @@
+package com.travelhub.booking.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hotels LiteAPI returned for a place, remembered so later searches on the same place can be resolved
+ * from the local catalog.
+ */
+@Entity
+@Table(name = "catalog_places")
+public class CatalogPlace {
+
+    @Id
+    private String placeId;
+
+    private String displayName;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @ElementCollection
+    @CollectionTable(name = "catalog_place_hotels", joinColumns = @JoinColumn(name = "place_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "hotel_id")
+    private List<String> hotelIds;
+
+    @Column(nullable = false)
+    private LocalDateTime resolvedAt;
+
+    // Getters and Setters
+
+    public String getPlaceId() {
+        return placeId;
+    }
+
+    public void setPlaceId(String placeId) {
+        this.placeId = placeId;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public List<String> getHotelIds() {
+        return hotelIds;
+    }
+
+    public void setHotelIds(List<String> hotelIds) {
+        this.hotelIds = hotelIds;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+}
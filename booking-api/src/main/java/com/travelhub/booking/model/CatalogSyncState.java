@@ -0,0 +1,43 @@
+package com.travelhub.booking.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Watermark of the last successful catalog sync for a country, passed back as {@code lastUpdatedAt}.
+ */
+@Entity
+@Table(name = "catalog_sync_state")
+public class CatalogSyncState {
+
+    @Id
+    @Column(length = 2)
+    private String countryCode;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSyncedAt;
+
+    public CatalogSyncState() {
+    }
+
+    public CatalogSyncState(String countryCode, LocalDateTime lastSyncedAt) {
+        this.countryCode = countryCode;
+        this.lastSyncedAt = lastSyncedAt;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public LocalDateTime getLastSyncedAt() {
+        return lastSyncedAt;
+    }
+
+    public void setLastSyncedAt(LocalDateTime lastSyncedAt) {
+        this.lastSyncedAt = lastSyncedAt;
+    }
+}
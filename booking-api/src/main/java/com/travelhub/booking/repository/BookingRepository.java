@@ -1,7 +1,9 @@
 package com.travelhub.booking.repository;
 
 import com.travelhub.booking.model.Booking;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,12 @@ public interface BookingRepository extends JpaRepository<Booking, String> {
      * Find all bookings where status is not 'FAILED'
      */
     List<Booking> findByStatusNotOrderByCheckinAscCreatedAtAsc(String status);
+
+    /**
+     * Listed bookings whose {@link com.travelhub.booking.model.BookingSummary} is missing or was projected from an
+     * earlier status. Every other listed column only changes together with the status.
+     */
+    @Query("select b from Booking b where b.status <> 'FAILED'"
+            + " and not exists (select 1 from BookingSummary s where s.id = b.id and s.status = b.status)")
+    List<Booking> findUnsummarized(Pageable page);
 }
@@ -1,9 +1,36 @@
 package com.travelhub.booking.repository;
 
 import com.travelhub.booking.model.BookingSimulation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BookingSimulationRepository extends JpaRepository<BookingSimulation, String> {
+
+    /**
+     * Loads the simulation with its prebook ids in one query, so it can be used after the session is closed.
+     */
+    @EntityGraph(attributePaths = "connectorPrebookIds")
+    Optional<BookingSimulation> findWithPrebookIdsById(String id);
+
+    @Query("select s.id from BookingSimulation s where s.expiresAt < :cutoff order by s.expiresAt")
+    List<String> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable page);
+
+    @Modifying
+    @Query(value = "delete from simulation_prebook_ids where simulation_id in (:ids)", nativeQuery = true)
+    int deletePrebookIds(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from BookingSimulation s where s.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
 }
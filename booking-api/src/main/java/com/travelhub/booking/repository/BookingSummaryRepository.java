@@ -0,0 +1,39 @@
+package com.travelhub.booking.repository;
+
+import com.travelhub.booking.model.BookingSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookingSummaryRepository extends JpaRepository<BookingSummary, String> {
+
+    @Query("select s from BookingSummary s order by s.checkin, s.createdAt, s.id")
+    List<BookingSummary> findFirstPage(Pageable page);
+
+    /**
+     * Summaries after the given one in list order. The leading {@code checkin >=} lets the database start the
+     * scan at the cursor in the list order index.
+     */
+    @Query("select s from BookingSummary s where s.checkin >= :checkin and (s.checkin > :checkin"
+            + " or (s.checkin = :checkin and (s.createdAt > :createdAt"
+            + " or (s.createdAt = :createdAt and s.id > :id))))"
+            + " order by s.checkin, s.createdAt, s.id")
+    List<BookingSummary> findPageAfter(@Param("checkin") String checkin, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id, Pageable page);
+
+    /**
+     * Removes the summaries of bookings that failed after they were projected.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from BookingSummary s where s.id in (select b.id from Booking b where b.status = 'FAILED')")
+    int deleteFailed();
+}
@@ -0,0 +1,15 @@
+package com.travelhub.booking.repository;
+
+import com.travelhub.booking.model.CatalogHotel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CatalogHotelRepository extends JpaRepository<CatalogHotel, String> {
+
+    List<CatalogHotel> findByCountryCodeIgnoreCase(String countryCode);
+
+    List<CatalogHotel> findByCountryCodeIgnoreCaseAndCityIgnoreCase(String countryCode, String city);
+}
@@ -0,0 +1,9 @@
+package com.travelhub.booking.repository;
+
+import com.travelhub.booking.model.CatalogSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogSyncStateRepository extends JpaRepository<CatalogSyncState, String> {
+}
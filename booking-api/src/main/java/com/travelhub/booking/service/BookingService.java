@@ -15,7 +15,25 @@ public interface BookingService {
 
     BookResponseDto submitBooking(BookingInitiationRequestDto request);
 
+    /**
+     * Saves the booking as PENDING and confirms it with the provider in the background. The returned client
+     * reference is polled through {@link #getBooking(String)} until the booking leaves PENDING.
+     */
+    BookResponseDto submitBookingAsync(BookingInitiationRequestDto request);
+
     BookResponseDto getBooking(String id);
 
+    /**
+     * Every listed booking, ordered by check-in date then creation time.
+     */
     BookingListResponseDto listBookings();
+
+    /**
+     * One page of the booking list, in the order of {@link #listBookings()}. Bookings are read from their list
+     * summaries, so they carry the listed fields only and are not looked up at Nuitee.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or null for the first page
+     * @param limit bookings per page, or null for the configured default
+     */
+    BookingListResponseDto listBookings(String cursor, Integer limit);
 }
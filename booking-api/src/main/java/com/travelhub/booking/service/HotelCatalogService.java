@@ -0,0 +1,33 @@
+package com.travelhub.booking.service;
+
+import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+
+import java.util.Optional;
+
+public interface HotelCatalogService {
+
+    /**
+     * Resolve the hotels of a search from the local catalog.
+     *
+     * @param request the rate search request
+     * @return the hotels list, or empty when the catalog cannot answer this search and LiteAPI must be called
+     */
+    Optional<HotelsListResponse> findHotels(RateSearchRequestDto request);
+
+    /**
+     * Remember the hotels LiteAPI returned for a search: their coordinates go to the geo index, and for an
+     * unfiltered place search the place membership is stored so the next search on that place is local.
+     *
+     * @param request  the rate search request that was sent upstream
+     * @param response the hotels list returned by LiteAPI
+     */
+    void recordHotelsList(RateSearchRequestDto request, HotelsListResponse response);
+
+    /**
+     * Pull hotels changed since the last sync for every mirrored country.
+     *
+     * @return the number of hotels received
+     */
+    int syncCatalog();
+}
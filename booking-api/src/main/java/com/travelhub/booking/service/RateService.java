@@ -2,12 +2,28 @@ package com.travelhub.booking.service;
 
 import com.travelhub.booking.dto.request.HotelRateRequestDto;
 import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.dto.response.HotelAvailabilityDto;
 import com.travelhub.booking.dto.response.HotelRateResponseDto;
 import com.travelhub.booking.dto.response.RateSearchResponseDto;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 public interface RateService {
     RateSearchResponseDto searchRates(RateSearchRequestDto request);
     
     HotelRateResponseDto getHotelRates(String hotelId, HotelRateRequestDto request);
+
+    /**
+     * Searches rates like {@link #searchRates(RateSearchRequestDto)} but hands each hotel to the consumer as soon
+     * as its rates chunk is mapped, instead of buffering the whole result.
+     *
+     * Cancelling the returned future cancels the upstream rates calls still in flight. If the consumer throws, no
+     * further hotels are handed to it and the returned future fails with that exception.
+     *
+     * @return completes with the search metadata (without hotels) once every chunk has been handled
+     */
+    CompletableFuture<RateSearchResponseDto> streamRates(RateSearchRequestDto request,
+            Consumer<HotelAvailabilityDto> hotelConsumer);
 }
 
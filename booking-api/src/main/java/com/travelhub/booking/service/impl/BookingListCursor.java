@@ -0,0 +1,44 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.model.BookingSummary;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the booking list: the (checkin, createdAt, id) of the last booking of a page. Handed to clients as
+ * an opaque URL-safe token.
+ */
+record BookingListCursor(String checkin, LocalDateTime createdAt, String id) {
+
+    private static final char SEPARATOR = '\n';
+
+    static BookingListCursor after(BookingSummary summary) {
+        return new BookingListCursor(summary.getCheckin(), summary.getCreatedAt(), summary.getId());
+    }
+
+    String encode() {
+        String value = checkin + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws ResponseStatusException 400 when the token was not produced by {@link #encode()}
+     */
+    static BookingListCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(String.valueOf(SEPARATOR), -1);
+            if (parts.length == 3) {
+                return new BookingListCursor(parts[0], LocalDateTime.parse(parts[1]), parts[2]);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Reported below
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid booking list cursor");
+    }
+}
@@ -1,5 +1,8 @@
 package com.travelhub.booking.service.impl;
 
+import com.travelhub.booking.cache.BookingSimulationStore;
+import com.travelhub.booking.cache.HotelListingCache;
+import com.travelhub.booking.config.BookingProperties;
 import com.travelhub.booking.dto.request.BookingInitiationRequestDto;
 import com.travelhub.booking.dto.request.PrebookRequestDto;
 import com.travelhub.booking.dto.response.BookResponseDto;
@@ -11,24 +14,32 @@ import com.travelhub.booking.model.Booking;
 import com.travelhub.booking.model.BookingGuest;
 import com.travelhub.booking.model.BookingRoom;
 import com.travelhub.booking.model.BookingSimulation;
+import com.travelhub.booking.model.BookingSummary;
 import com.travelhub.booking.repository.BookingRepository;
-import com.travelhub.booking.repository.BookingSimulationRepository;
+import com.travelhub.booking.repository.BookingSummaryRepository;
 import com.travelhub.booking.service.BookingService;
 import com.travelhub.booking.service.HotelDataService;
 import com.travelhub.connectors.nuitee.NuiteeApiClient;
+import com.travelhub.connectors.nuitee.NuiteeAsyncApiClient;
 import com.travelhub.connectors.nuitee.dto.request.BookRequest;
 import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
 import com.travelhub.connectors.nuitee.dto.request.PrebookRequest;
 import com.travelhub.connectors.nuitee.dto.response.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class BookingServiceImpl implements BookingService {
@@ -37,17 +48,35 @@ public class BookingServiceImpl implements BookingService {
     private final NuiteeApiClient nuiteeApiClient;
     private final BookingMapper bookingMapper;
     private final BookingRepository bookingRepository;
-    private final BookingSimulationRepository bookingSimulationRepository;
+    private final BookingSimulationStore bookingSimulationStore;
     private final HotelDataService hotelDataService;
     private final HotelDataMapper hotelDataMapper;
+    private final NuiteeAsyncApiClient nuiteeAsyncApiClient;
+    private final BookingProperties bookingProperties;
+    private final BookingSubmissionPool bookingSubmissionPool;
+    private final BookingSummaryRepository bookingSummaryRepository;
+    private final BookingSummaryProjector bookingSummaryProjector;
+    private final HotelListingCache hotelListingCache;
+    private final TransactionTemplate transactionTemplate;
 
     public BookingServiceImpl(NuiteeApiClient nuiteeApiClient, BookingMapper bookingMapper,
-            BookingRepository bookingRepository, BookingSimulationRepository bookingSimulationRepository,
-            HotelDataService hotelDataService, HotelDataMapper hotelDataMapper) {
+            BookingRepository bookingRepository, BookingSimulationStore bookingSimulationStore,
+            HotelDataService hotelDataService, HotelDataMapper hotelDataMapper,
+            NuiteeAsyncApiClient nuiteeAsyncApiClient, BookingProperties bookingProperties,
+            BookingSubmissionPool bookingSubmissionPool, BookingSummaryRepository bookingSummaryRepository,
+            BookingSummaryProjector bookingSummaryProjector, HotelListingCache hotelListingCache,
+            TransactionTemplate transactionTemplate) {
         this.nuiteeApiClient = nuiteeApiClient;
+        this.nuiteeAsyncApiClient = nuiteeAsyncApiClient;
+        this.bookingProperties = bookingProperties;
+        this.bookingSubmissionPool = bookingSubmissionPool;
+        this.bookingSummaryRepository = bookingSummaryRepository;
+        this.bookingSummaryProjector = bookingSummaryProjector;
+        this.hotelListingCache = hotelListingCache;
+        this.transactionTemplate = transactionTemplate;
         this.bookingMapper = bookingMapper;
         this.bookingRepository = bookingRepository;
-        this.bookingSimulationRepository = bookingSimulationRepository;
+        this.bookingSimulationStore = bookingSimulationStore;
         this.hotelDataService = hotelDataService;
         this.hotelDataMapper = hotelDataMapper;
     }
@@ -98,7 +127,7 @@ public class BookingServiceImpl implements BookingService {
                 }
             }
 
-            simulation = bookingSimulationRepository.save(simulation);
+            simulation = bookingSimulationStore.save(simulation);
             logger.info("Created booking simulation with ID: {}", simulation.getId());
 
             // Add simulation ID to response
@@ -117,17 +146,7 @@ public class BookingServiceImpl implements BookingService {
         logger.info("Validating booking initiation for holder: {} {}",
                 request.getHolder().getFirstName(), request.getHolder().getLastName());
 
-        // Retrieve and validate simulation
-        BookingSimulation simulation = bookingSimulationRepository.findById(request.getSimulationId())
-                .orElseThrow(() -> new RuntimeException("Simulation not found: " + request.getSimulationId()));
-
-        if (simulation.isExpired()) {
-            throw new RuntimeException("Simulation has expired");
-        }
-
-        if (!"ACTIVE".equals(simulation.getStatus())) {
-            throw new RuntimeException("Simulation is not active");
-        }
+        BookingSimulation simulation = findActiveSimulation(request);
 
         // Create booking entity for validation (NOT saved)
         Booking booking = new Booking();
@@ -148,19 +167,62 @@ public class BookingServiceImpl implements BookingService {
         logger.info("Submitting booking for holder: {} {}",
                 request.getHolder().getFirstName(), request.getHolder().getLastName());
 
-        // Retrieve and validate simulation
-        BookingSimulation simulation = bookingSimulationRepository.findById(request.getSimulationId())
-                .orElseThrow(() -> new RuntimeException("Simulation not found: " + request.getSimulationId()));
+        BookingSimulation simulation = findActiveSimulation(request);
+        Booking savedBooking = createPendingBooking(request, simulation);
+        return confirmBooking(savedBooking, request, simulation);
+    }
+
+    @Override
+    public BookResponseDto submitBookingAsync(BookingInitiationRequestDto request) {
+        logger.info("Submitting booking asynchronously for holder: {} {}",
+                request.getHolder().getFirstName(), request.getHolder().getLastName());
+
+        BookingSimulation simulation = findActiveSimulation(request);
+        Booking savedBooking = createPendingBooking(request, simulation);
+        // Once submitted, the entity belongs to the worker, which may already be confirming it
+        String bookingId = savedBooking.getId();
+        String status = savedBooking.getStatus();
+
+        try {
+            bookingSubmissionPool.submit(() -> {
+                try {
+                    confirmBooking(savedBooking, request, simulation);
+                } catch (RuntimeException e) {
+                    // Already recorded on the booking, which the client polls
+                }
+            });
+        } catch (RuntimeException e) {
+            // Refused, so no worker holds the entity
+            logger.warn("Booking {} refused, no submission worker available", bookingId);
+            savedBooking.setStatus("FAILED");
+            saveBooking(savedBooking);
+            throw e;
+        }
+
+        BookResponseDto.BookDataDto bookData = new BookResponseDto.BookDataDto();
+        bookData.setClientReference(bookingId);
+        bookData.setStatus(status);
+        BookResponseDto responseDto = new BookResponseDto();
+        responseDto.setData(bookData);
+        return responseDto;
+    }
+
+    private BookingSimulation findActiveSimulation(BookingInitiationRequestDto request) {
+        BookingSimulation simulation = bookingSimulationStore.findById(request.getSimulationId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Simulation not found: " + request.getSimulationId()));
 
         if (simulation.isExpired()) {
-            throw new RuntimeException("Simulation has expired");
+            throw new ResponseStatusException(HttpStatus.GONE, "Simulation has expired");
         }
 
         if (!"ACTIVE".equals(simulation.getStatus())) {
-            throw new RuntimeException("Simulation is not active");
+            throw new ResponseStatusException(HttpStatus.GONE, "Simulation is not active");
         }
+        return simulation;
+    }
 
-        // Create and SAVE booking entity
+    private Booking createPendingBooking(BookingInitiationRequestDto request, BookingSimulation simulation) {
         Booking booking = new Booking();
         booking.setHolderFirstName(request.getHolder().getFirstName());
         booking.setHolderLastName(request.getHolder().getLastName());
@@ -170,14 +232,21 @@ public class BookingServiceImpl implements BookingService {
         booking.setBankingAccount(request.getBankingAccount());
         booking.setStatus("PENDING");
 
-        Booking savedBooking = bookingRepository.save(booking);
+        Booking savedBooking = saveBooking(booking);
         logger.info("Booking entity created with ID: {}", savedBooking.getId());
+        return savedBooking;
+    }
 
-        // Now call the connector to confirm the booking with the provider
+    /**
+     * Confirms a pending booking with the provider and records the outcome on it.
+     */
+    private BookResponseDto confirmBooking(Booking savedBooking, BookingInitiationRequestDto request,
+            BookingSimulation simulation) {
         try {
             if (simulation.getConnectorPrebookIds() == null
                     || simulation.getConnectorPrebookIds().isEmpty()) {
-                throw new RuntimeException("Simulation does not have prebook IDs");
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Simulation does not have prebook IDs");
             }
             String prebookId = simulation.getConnectorPrebookIds().get(0);
 
@@ -236,7 +305,7 @@ public class BookingServiceImpl implements BookingService {
                 logger.info("Booking confirmed with provider - BookingID: {}", savedBooking.getBookingId());
 
                 // Save the complete booking with relationships
-                bookingRepository.save(savedBooking);
+                saveBooking(savedBooking);
 
                 // Return the connector response as DTO and set clientReference (database ID)
                 BookResponseDto responseDto = bookingMapper.toBookResponseDto(connectorResponse);
@@ -248,19 +317,19 @@ public class BookingServiceImpl implements BookingService {
                     && !"CONFIRMED".equals(connectorResponse.getData().getStatus())) {
                 logger.warn("Received failed status from connector for booking: {}", savedBooking.getId());
                 savedBooking.setStatus(connectorResponse.getData().getStatus());
-                bookingRepository.save(savedBooking);
+                saveBooking(savedBooking);
                 throw new RuntimeException("Booking confirmation failed");
             } else {
                 logger.warn("Received empty response from connector for booking: {}", savedBooking.getId());
                 savedBooking.setStatus("FAILED");
-                bookingRepository.save(savedBooking);
+                saveBooking(savedBooking);
                 throw new RuntimeException("Booking confirmation failed");
             }
 
         } catch (Exception e) {
             logger.error("Error confirming booking with provider: {}", e.getMessage(), e);
             savedBooking.setStatus("FAILED");
-            bookingRepository.save(savedBooking);
+            saveBooking(savedBooking);
             throw new RuntimeException("Error confirming booking: " + e.getMessage(), e);
         }
     }
@@ -328,86 +397,137 @@ public class BookingServiceImpl implements BookingService {
         List<Booking> bookings = bookingRepository.findByStatusNotOrderByCheckinAscCreatedAtAsc("FAILED");
         logger.info("Found {} bookings in database (excluding FAILED)", bookings.size());
 
-        List<BookingListResponseDto.BookingDataDto> allBookingData = new ArrayList<>();
+        BookingListResponseDto response = new BookingListResponseDto();
+        response.setData(toBookingData(bookings));
+        logger.info("Returning {} total bookings", response.getData().size());
+        return response;
+    }
 
-        for (Booking booking : bookings) {
-            getBooking(allBookingData, booking);
+    @Override
+    public BookingListResponseDto listBookings(String cursor, Integer limit) {
+        int pageSize = Math.min(Math.max(limit != null ? limit : bookingProperties.getListPageSize(), 1),
+                bookingProperties.getListMaxPageSize());
+        // One extra summary tells whether there is a next page
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<BookingSummary> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = bookingSummaryRepository.findFirstPage(page);
+        } else {
+            BookingListCursor after = BookingListCursor.decode(cursor);
+            summaries = bookingSummaryRepository.findPageAfter(after.checkin(), after.createdAt(), after.id(), page);
+        }
+        boolean hasMore = summaries.size() > pageSize;
+        if (hasMore) {
+            summaries = summaries.subList(0, pageSize);
         }
 
-        List<String> uniqueHotelIds = allBookingData.stream()
-                .map(BookingListResponseDto.BookingDataDto::getHotelId)
-                .filter(Objects::nonNull)
-                .distinct()
+        List<BookingListResponseDto.BookingDataDto> data = summaries.stream()
+                .map(bookingMapper::toBookingData)
                 .toList();
+        addMissingHotelImages(data);
 
-        logger.info("Found {} unique hotel IDs across bookings", uniqueHotelIds.size());
-
-        Map<String, MinimalHotelData> hotelDataMap = new HashMap<>();
+        BookingListResponseDto response = new BookingListResponseDto();
+        response.setData(data);
+        if (hasMore) {
+            response.setNextCursor(BookingListCursor.after(summaries.get(summaries.size() - 1)).encode());
+        }
+        logger.info("Returning {} bookings, last page: {}", response.getData().size(), !hasMore);
+        return response;
+    }
 
-        if (!uniqueHotelIds.isEmpty()) {
-            try {
-                HotelsListRequest hotelsRequest = new HotelsListRequest();
-                hotelsRequest.setHotelIds(String.join(",", uniqueHotelIds));
-
-                logger.debug("Fetching hotel details for {} hotels", uniqueHotelIds.size());
-                HotelsListResponse hotelsResponse = nuiteeApiClient
-                        .getHotels(hotelsRequest);
-
-                if (hotelsResponse != null && hotelsResponse.getData() != null) {
-                    for (MinimalHotelData hotelData : hotelsResponse
-                            .getData()) {
-                        if (hotelData.getId() != null) {
-                            hotelDataMap.put(hotelData.getId(), hotelData);
-                        }
-                    }
-                    logger.info("Successfully fetched details for {} hotels", hotelDataMap.size());
-                }
-            } catch (Exception e) {
-                logger.warn("Failed to fetch hotel details: {}", e.getMessage());
-                // Continue without hotel images if API call fails
+    /**
+     * Lists the bookings, each merged over its Nuitee booking, with the images of its hotel. The Nuitee bookings
+     * are looked up while the hotels are; those not back before the list deadline are listed from local data.
+     */
+    private List<BookingListResponseDto.BookingDataDto> toBookingData(List<Booking> bookings) {
+        Deadline deadline = Deadline.after(bookingProperties.getListDeadline());
+        BoundedFanOut<String, BookingListResponse> bookingLookups = BoundedFanOut.start(
+                bookings.stream().map(Booking::getId).toList(), bookingProperties.getListConcurrency(),
+                nuiteeAsyncApiClient::listBookings,
+                (clientReference, e) -> logger.warn("Failed to fetch booking from Nuitee for booking ID {}: {}",
+                        clientReference, e.getMessage()));
+
+        List<String> uniqueHotelIds = bookings.stream()
+                .map(Booking::getHotelId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, MinimalHotelData> hotelDataMap = hotelListingCache.getAll(uniqueHotelIds,
+                hotelIds -> loadHotels(hotelIds, deadline));
+        logger.info("Found details for {} of {} hotels", hotelDataMap.size(), uniqueHotelIds.size());
+
+        Map<String, BookingListResponse> connectorBookings = bookingLookups.await(deadline);
+        if (connectorBookings.size() < bookings.size()) {
+            logger.info("Resolved {} of {} bookings from Nuitee, the others are listed from local data",
+                    connectorBookings.size(), bookings.size());
+        }
+        List<BookingListResponseDto.BookingDataDto> allBookingData = new ArrayList<>();
+        for (Booking booking : bookings) {
+            BookingListResponseDto.BookingDataDto bookingData = toBookingData(booking,
+                    connectorBookings.get(booking.getId()));
+            if (bookingData == null) {
+                continue;
             }
+            if (booking.getHotelId() != null) {
+                setHotelImages(bookingData, hotelDataMap.get(booking.getHotelId()));
+            }
+            allBookingData.add(bookingData);
         }
+        return allBookingData;
+    }
 
-        for (BookingListResponseDto.BookingDataDto bookingData : allBookingData) {
-            if (bookingData.getHotelId() != null && hotelDataMap.containsKey(bookingData.getHotelId())) {
-                MinimalHotelData hotelData = hotelDataMap
-                        .get(bookingData.getHotelId());
-
-                BookingListResponseDto.HotelInfoDto hotelDto = bookingData.getHotel();
-                if (hotelDto == null) {
-                    hotelDto = new BookingListResponseDto.HotelInfoDto();
-                    bookingData.setHotel(hotelDto);
-                }
-
-                if (hotelData.getMainPhoto() != null) {
-                    hotelDto.setMainPhoto(hotelData.getMainPhoto());
-                }
-                if (hotelData.getThumbnail() != null) {
-                    hotelDto.setThumbnail(hotelData.getThumbnail());
-                }
-
-                logger.debug("Enriched booking {} with hotel images", bookingData.getBookingId());
+    /**
+     * Adds the images of the listed bookings' hotels that their summaries do not hold yet, from the hotel listing
+     * cache. Nothing is written back.
+     */
+    private void addMissingHotelImages(List<BookingListResponseDto.BookingDataDto> bookings) {
+        List<String> hotelIds = bookings.stream()
+                .map(BookingListResponseDto.BookingDataDto::getHotel)
+                .filter(hotel -> hotel != null && hotel.getMainPhoto() == null && hotel.getThumbnail() == null)
+                .map(BookingListResponseDto.HotelInfoDto::getHotelId)
+                .distinct()
+                .toList();
+        if (hotelIds.isEmpty()) {
+            return;
+        }
+        Deadline deadline = Deadline.after(bookingProperties.getListDeadline());
+        Map<String, MinimalHotelData> hotelDataMap = hotelListingCache.getAll(hotelIds,
+                missingHotelIds -> loadHotels(missingHotelIds, deadline));
+        for (BookingListResponseDto.BookingDataDto booking : bookings) {
+            if (booking.getHotel() != null && booking.getHotel().getMainPhoto() == null
+                    && booking.getHotel().getThumbnail() == null) {
+                setHotelImages(booking, hotelDataMap.get(booking.getHotel().getHotelId()));
             }
         }
-
-        BookingListResponseDto response = new BookingListResponseDto();
-        response.setData(allBookingData);
-        logger.info("Returning {} total bookings", allBookingData.size());
-
-        return response;
     }
 
-    private void getBooking(List<BookingListResponseDto.BookingDataDto> allBookingData, Booking booking) {
-        try {
-            String clientReference = booking.getId();
-            logger.debug("Fetching booking from Nuitee for clientReference: {}", clientReference);
-
-            BookingListResponse connectorResponse = nuiteeApiClient.listBookings(clientReference);
-
-            BookingListResponseDto.BookingDataDto mergedDto = null;
+    private static void setHotelImages(BookingListResponseDto.BookingDataDto bookingData, MinimalHotelData hotelData) {
+        if (hotelData == null) {
+            return;
+        }
+        BookingListResponseDto.HotelInfoDto hotelDto = bookingData.getHotel();
+        if (hotelDto == null) {
+            hotelDto = new BookingListResponseDto.HotelInfoDto();
+            bookingData.setHotel(hotelDto);
+        }
+        if (hotelData.getMainPhoto() != null) {
+            hotelDto.setMainPhoto(hotelData.getMainPhoto());
+        }
+        if (hotelData.getThumbnail() != null) {
+            hotelDto.setThumbnail(hotelData.getThumbnail());
+        }
+    }
 
-            if (connectorResponse != null && connectorResponse.getData() != null
-                    && !connectorResponse.getData().isEmpty()) {
+    /**
+     * Merges the booking entity over its Nuitee booking; without one (failed or too slow) the entity alone is
+     * listed.
+     */
+    private BookingListResponseDto.BookingDataDto toBookingData(Booking booking,
+            BookingListResponse connectorResponse) {
+        BookingListResponseDto.BookingDataDto mergedDto = null;
+        if (connectorResponse != null && connectorResponse.getData() != null
+                && !connectorResponse.getData().isEmpty()) {
+            try {
                 // Map connector response to DTO - expecting exactly one booking per
                 // clientReference
                 BookingListResponseDto bookingListResponse = bookingMapper.toBookingListResponseDto(connectorResponse);
@@ -415,23 +535,67 @@ public class BookingServiceImpl implements BookingService {
                     // LiteAPI returns exactly one booking per clientReference
                     mergedDto = bookingListResponse.getData().get(0);
                 }
+            } catch (Exception e) {
+                logger.warn("Failed to map Nuitee booking for booking ID {}: {}", booking.getId(), e.getMessage());
             }
+        }
 
-            // Merge Booking entity data with Nuitee response (entity data takes precedence)
-            mergedDto = bookingMapper.mergeBookingEntityData(mergedDto, booking);
+        // Merge Booking entity data with Nuitee response (entity data takes precedence)
+        mergedDto = bookingMapper.mergeBookingEntityData(mergedDto, booking);
+        if (mergedDto != null) {
+            logger.debug("Added booking for clientReference: {} (bookingId: {})", booking.getId(),
+                    mergedDto.getBookingId());
+        } else {
+            logger.debug("No booking data available for clientReference: {}", booking.getId());
+        }
+        return mergedDto;
+    }
 
-            if (mergedDto != null) {
-                allBookingData.add(mergedDto);
-                logger.debug("Added booking for clientReference: {} (bookingId: {})",
-                        clientReference,
-                        mergedDto.getBookingId());
-            } else {
-                logger.debug("No booking data available for clientReference: {}", clientReference);
+    /**
+     * Looks the hotels up in batches, keeping those found before the deadline.
+     */
+    private Map<String, MinimalHotelData> loadHotels(Collection<? extends String> hotelIds, Deadline deadline) {
+        Map<List<String>, HotelsListResponse> hotelsResponses = BoundedFanOut.start(
+                batches(List.copyOf(hotelIds), bookingProperties.getHotelIdsBatchSize()),
+                bookingProperties.getListConcurrency(), this::getHotels,
+                (batch, e) -> logger.warn("Failed to fetch hotel details for {} hotels: {}", batch.size(),
+                        e.getMessage()))
+                .await(deadline);
+        Map<String, MinimalHotelData> hotels = new HashMap<>();
+        for (HotelsListResponse hotelsResponse : hotelsResponses.values()) {
+            if (hotelsResponse.getData() != null) {
+                for (MinimalHotelData hotelData : hotelsResponse.getData()) {
+                    if (hotelData.getId() != null) {
+                        hotels.put(hotelData.getId(), hotelData);
+                    }
+                }
             }
-        } catch (Exception e) {
-            logger.warn("Failed to fetch booking from Nuitee for booking ID {}: {}", booking.getId(),
-                    e.getMessage());
-            // Continue with other bookings even if one fails
         }
+        return hotels;
+    }
+
+    private CompletableFuture<HotelsListResponse> getHotels(List<String> hotelIds) {
+        HotelsListRequest hotelsRequest = new HotelsListRequest();
+        hotelsRequest.setHotelIds(String.join(",", hotelIds));
+        return nuiteeAsyncApiClient.getHotels(hotelsRequest);
+    }
+
+    /**
+     * Saves the booking and brings its list summary up to date, in one transaction.
+     */
+    private Booking saveBooking(Booking booking) {
+        return transactionTemplate.execute(status -> {
+            Booking saved = bookingRepository.save(booking);
+            bookingSummaryProjector.project(saved);
+            return saved;
+        });
+    }
+
+    private static <T> List<List<T>> batches(List<T> items, int batchSize) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += batchSize) {
+            batches.add(items.subList(from, Math.min(items.size(), from + batchSize)));
+        }
+        return batches;
     }
 }
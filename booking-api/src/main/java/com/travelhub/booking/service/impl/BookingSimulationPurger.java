@@ -0,0 +1,96 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.config.SimulationStoreProperties;
+import com.travelhub.booking.repository.BookingSimulationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes expired booking simulations, which can no longer be booked, so {@code booking_simulations} and
+ * {@code simulation_prebook_ids} stay the size of the last {@code timeToLive} of prebooks. Rows are removed with
+ * set-based deletes, one transaction per batch of ids.
+ */
+@Component
+public class BookingSimulationPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingSimulationPurger.class);
+    private final BookingSimulationRepository repository;
+    private final SimulationStoreProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purgedSimulations;
+    private final Counter purgedPrebookIds;
+    private final Timer purgeTimer;
+
+    public BookingSimulationPurger(BookingSimulationRepository repository, SimulationStoreProperties properties,
+            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.purgedSimulations = Counter.builder("booking.simulations.purged")
+                .description("Expired simulation rows deleted")
+                .tag("table", "booking_simulations")
+                .register(meterRegistry);
+        this.purgedPrebookIds = Counter.builder("booking.simulations.purged")
+                .description("Expired simulation rows deleted")
+                .tag("table", "simulation_prebook_ids")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("booking.simulations.purge")
+                .description("Time taken by a purge of expired simulations")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${travelhub.booking.simulation-store.purge-interval:PT5M}",
+            fixedDelayString = "${travelhub.booking.simulation-store.purge-interval:PT5M}")
+    public void scheduledPurge() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException e) {
+            logger.error("Purge of expired simulations failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes every simulation expired before now, in batches of {@code purgeBatchSize}.
+     *
+     * @return the number of simulations deleted
+     */
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        long start = System.nanoTime();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> purgeBatch(cutoff));
+            purged += deleted;
+        } while (deleted >= properties.getPurgeBatchSize());
+
+        long elapsed = System.nanoTime() - start;
+        purgeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        if (purged > 0) {
+            logger.info("Purged {} expired simulations in {} ms", purged, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return purged;
+    }
+
+    private int purgeBatch(LocalDateTime cutoff) {
+        List<String> ids = repository.findExpiredIds(cutoff, PageRequest.of(0, properties.getPurgeBatchSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        purgedPrebookIds.increment(repository.deletePrebookIds(ids));
+        int deleted = repository.deleteAllByIdIn(ids);
+        purgedSimulations.increment(deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,74 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.config.BookingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed pool of workers that confirm asynchronously submitted bookings with the provider. A spike of bookings
+ * queues up instead of adding threads, so thread usage stays the same however slow the upstream {@code book}
+ * call gets; once the queue is full, submissions are refused with 503.
+ * <p>
+ * Deliberately not an {@link java.util.concurrent.Executor} bean, which would replace Spring Boot's
+ * {@code applicationTaskExecutor}. Pool metrics are published as {@code executor.*{name=bookingSubmission}}.
+ */
+@Component
+public class BookingSubmissionPool implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingSubmissionPool.class);
+
+    private final ExecutorService executor;
+    private final BookingProperties properties;
+
+    public BookingSubmissionPool(BookingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(properties.getSubmitConcurrency(),
+                properties.getSubmitConcurrency(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getSubmitQueueCapacity()),
+                runnable -> new Thread(runnable, "booking-submit-" + threadCount.incrementAndGet()));
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "bookingSubmission",
+                Collections.emptyList());
+    }
+
+    /**
+     * Queues a submission.
+     *
+     * @throws ResponseStatusException 503 when the queue is full
+     */
+    public void submit(Runnable submission) {
+        try {
+            executor.execute(submission);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many bookings being confirmed, retry later", e);
+        }
+    }
+
+    /**
+     * Lets queued and running submissions finish, so bookings are not left pending by a regular shutdown.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(properties.getSubmitDrainTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            logger.warn("Booking submissions still running after {}, they stay PENDING",
+                    properties.getSubmitDrainTimeout());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.model.Booking;
+import com.travelhub.booking.model.BookingSummary;
+import com.travelhub.booking.model.CatalogHotel;
+import com.travelhub.booking.repository.BookingRepository;
+import com.travelhub.booking.repository.BookingSummaryRepository;
+import com.travelhub.booking.repository.CatalogHotelRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@link BookingSummary} rows in step with bookings: every saved booking is projected again, in the
+ * transaction that saves it, and a booking that fails loses its summary. The hotel images are copied from the
+ * local hotel catalog when it holds the hotel.
+ */
+@Component
+public class BookingSummaryProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingSummaryProjector.class);
+    private static final int BACKFILL_PAGE_SIZE = 500;
+    private final BookingSummaryRepository bookingSummaryRepository;
+    private final BookingRepository bookingRepository;
+    private final CatalogHotelRepository catalogHotelRepository;
+
+    public BookingSummaryProjector(BookingSummaryRepository bookingSummaryRepository,
+            BookingRepository bookingRepository, CatalogHotelRepository catalogHotelRepository) {
+        this.bookingSummaryRepository = bookingSummaryRepository;
+        this.bookingRepository = bookingRepository;
+        this.catalogHotelRepository = catalogHotelRepository;
+    }
+
+    public void project(Booking booking) {
+        if ("FAILED".equals(booking.getStatus())) {
+            if (bookingSummaryRepository.existsById(booking.getId())) {
+                bookingSummaryRepository.deleteById(booking.getId());
+            }
+            return;
+        }
+        BookingSummary summary = bookingSummaryRepository.findById(booking.getId()).orElseGet(BookingSummary::new);
+        CatalogHotel hotel = booking.getHotelId() != null
+                ? catalogHotelRepository.findById(booking.getHotelId()).orElse(null)
+                : null;
+        apply(booking, hotel, summary);
+        bookingSummaryRepository.save(summary);
+    }
+
+    /**
+     * Projects the bookings whose summary is missing or stale: every booking on the first start with this table,
+     * and any booking saved without its summary. Summaries of bookings that failed since are removed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int removed = bookingSummaryRepository.deleteFailed();
+        if (removed > 0) {
+            logger.info("Removed {} summaries of failed bookings", removed);
+        }
+        int projected = 0;
+        List<Booking> bookings;
+        do {
+            bookings = bookingRepository.findUnsummarized(PageRequest.of(0, BACKFILL_PAGE_SIZE));
+            Map<String, CatalogHotel> hotels = catalogHotelRepository.findAllById(bookings.stream()
+                    .map(Booking::getHotelId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList()).stream()
+                    .collect(Collectors.toMap(CatalogHotel::getId, Function.identity()));
+            bookingSummaryRepository.saveAll(bookings.stream()
+                    .map(booking -> apply(booking, hotels.get(booking.getHotelId()), new BookingSummary()))
+                    .toList());
+            projected += bookings.size();
+        } while (bookings.size() == BACKFILL_PAGE_SIZE);
+        if (projected > 0) {
+            logger.info("Projected {} bookings into booking summaries", projected);
+        }
+    }
+
+    private static BookingSummary apply(Booking booking, CatalogHotel hotel, BookingSummary summary) {
+        summary.setId(booking.getId());
+        summary.setBookingId(booking.getBookingId());
+        summary.setStatus(booking.getStatus());
+        summary.setHotelId(booking.getHotelId());
+        summary.setHotelName(booking.getHotelName() != null || hotel == null ? booking.getHotelName()
+                : hotel.getName());
+        summary.setCheckin(Objects.toString(booking.getCheckin(), ""));
+        summary.setCheckout(booking.getCheckout());
+        summary.setPrice(booking.getPrice());
+        summary.setCurrency(booking.getCurrency());
+        summary.setMainPhoto(hotel != null ? hotel.getMainPhoto() : null);
+        summary.setThumbnail(hotel != null ? hotel.getThumbnail() : null);
+        // Truncated to what the database keeps, so cursors built from either side compare equal
+        summary.setCreatedAt(Objects.requireNonNullElseGet(booking.getCreatedAt(), LocalDateTime::now)
+                .truncatedTo(ChronoUnit.MICROS));
+        summary.setUpdatedAt(LocalDateTime.now());
+        return summary;
+    }
+}
@@ -0,0 +1,118 @@
+package com.travelhub.booking.service.impl;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Runs one non-blocking upstream call per item with at most {@code concurrency} calls in flight, starting the
+ * next call as soon as one completes. Results are collected until a {@link Deadline}; calls still running then
+ * are cancelled and their items are simply missing from the results. Once the circuit breaker refuses a call, the
+ * items not yet started are skipped, since it would refuse them too.
+ */
+final class BoundedFanOut<T, R> {
+
+    private final Queue<T> pending;
+    private final Function<T, CompletableFuture<R>> call;
+    private final BiConsumer<T, Throwable> onFailure;
+    private final Map<T, R> results = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<R>> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean circuitOpen = new AtomicBoolean();
+    private final CompletableFuture<Void> completion;
+    private volatile boolean stopped;
+
+    private BoundedFanOut(List<T> items, int concurrency, Function<T, CompletableFuture<R>> call,
+            BiConsumer<T, Throwable> onFailure) {
+        this.pending = new ConcurrentLinkedQueue<>(items);
+        this.call = call;
+        this.onFailure = onFailure;
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.max(1, Math.min(concurrency, items.size()))];
+        for (int i = 0; i < lanes.length; i++) {
+            CompletableFuture<Void> lane = new CompletableFuture<>();
+            lanes[i] = lane;
+            runLane(lane);
+        }
+        this.completion = CompletableFuture.allOf(lanes);
+    }
+
+    /**
+     * Starts the calls right away; {@code onFailure} is told about every call that fails before the deadline, and
+     * about the first one the circuit breaker refuses.
+     */
+    static <T, R> BoundedFanOut<T, R> start(List<T> items, int concurrency, Function<T, CompletableFuture<R>> call,
+            BiConsumer<T, Throwable> onFailure) {
+        return new BoundedFanOut<>(items, concurrency, call, onFailure);
+    }
+
+    /**
+     * Waits for the remaining calls until the deadline and returns the successful, non-null results by item.
+     */
+    Map<T, R> await(Deadline deadline) {
+        try {
+            deadline.await(completion);
+        } catch (TimeoutException e) {
+            stopped = true;
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        return Map.copyOf(results);
+    }
+
+    /**
+     * Starts calls on this lane until one is still in flight, whose completion carries the lane on. Looping rather
+     * than chaining keeps calls that complete at once (refused by an open circuit or a full bulkhead) off the stack.
+     */
+    private void runLane(CompletableFuture<Void> lane) {
+        T item;
+        while (!stopped && !circuitOpen.get() && (item = pending.poll()) != null) {
+            T started = item;
+            CompletableFuture<R> future = callFor(started);
+            if (future.isDone()) {
+                future.whenComplete((result, failure) -> collect(started, result, failure));
+                continue;
+            }
+            inFlight.add(future);
+            future.whenComplete((result, failure) -> {
+                inFlight.remove(future);
+                collect(started, result, failure);
+                runLane(lane);
+            });
+            return;
+        }
+        lane.complete(null);
+    }
+
+    private CompletableFuture<R> callFor(T item) {
+        try {
+            return call.apply(item);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void collect(T item, R result, Throwable failure) {
+        if (failure == null) {
+            if (result != null) {
+                results.put(item, result);
+            }
+            return;
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (stopped || cause instanceof CallNotPermittedException && !circuitOpen.compareAndSet(false, true)) {
+            return;
+        }
+        onFailure.accept(item, cause);
+    }
+}
@@ -0,0 +1,330 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.config.CatalogProperties;
+import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.geo.GeoDistance;
+import com.travelhub.booking.geo.HotelGeoIndex;
+import com.travelhub.booking.mapper.CatalogHotelMapper;
+import com.travelhub.booking.model.CatalogHotel;
+import com.travelhub.booking.model.CatalogPlace;
+import com.travelhub.booking.model.CatalogSyncState;
+import com.travelhub.booking.repository.CatalogHotelRepository;
+import com.travelhub.booking.repository.CatalogPlaceRepository;
+import com.travelhub.booking.repository.CatalogSyncStateRepository;
+import com.travelhub.booking.service.HotelCatalogService;
+import com.travelhub.connectors.nuitee.NuiteeApiClient;
+import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import com.travelhub.connectors.nuitee.dto.response.MinimalHotelData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class HotelCatalogServiceImpl implements HotelCatalogService {
+
+        private static final Logger logger = LoggerFactory.getLogger(HotelCatalogServiceImpl.class);
+        private static final DateTimeFormatter LAST_UPDATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+        private static final Comparator<CatalogHotel> BY_RATING = Comparator
+                        .comparing(CatalogHotel::getRating, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(CatalogHotel::getReviewCount, Comparator.nullsLast(Comparator.reverseOrder()));
+        private final NuiteeApiClient nuiteeApiClient;
+        private final CatalogHotelRepository catalogHotelRepository;
+        private final CatalogPlaceRepository catalogPlaceRepository;
+        private final CatalogSyncStateRepository catalogSyncStateRepository;
+        private final CatalogHotelMapper catalogHotelMapper;
+        private final CatalogProperties properties;
+        private final HotelGeoIndex hotelGeoIndex;
+
+        public HotelCatalogServiceImpl(NuiteeApiClient nuiteeApiClient, CatalogHotelRepository catalogHotelRepository,
+                        CatalogPlaceRepository catalogPlaceRepository,
+                        CatalogSyncStateRepository catalogSyncStateRepository, CatalogHotelMapper catalogHotelMapper,
+                        CatalogProperties properties, HotelGeoIndex hotelGeoIndex) {
+                this.nuiteeApiClient = nuiteeApiClient;
+                this.catalogHotelRepository = catalogHotelRepository;
+                this.catalogPlaceRepository = catalogPlaceRepository;
+                this.catalogSyncStateRepository = catalogSyncStateRepository;
+                this.catalogHotelMapper = catalogHotelMapper;
+                this.properties = properties;
+                this.hotelGeoIndex = hotelGeoIndex;
+        }
+
+        @Override
+        public Optional<HotelsListResponse> findHotels(RateSearchRequestDto request) {
+                if (!properties.isEnabled() || request.getAiSearch() != null || request.getIataCode() != null) {
+                        return Optional.empty();
+                }
+                String countryCode = countryCode(request);
+                if (!catalogSyncStateRepository.existsById(countryCode)) {
+                        logger.debug("Catalog not synced yet for country: {}", countryCode);
+                        return Optional.empty();
+                }
+
+                List<CatalogHotel> candidates;
+                CatalogPlace place = null;
+                if (request.getPlaceId() != null) {
+                        place = catalogPlaceRepository.findById(request.getPlaceId())
+                                        .filter(p -> p.getResolvedAt().plus(properties.getPlaceTtl())
+                                                        .isAfter(LocalDateTime.now()))
+                                        .orElse(null);
+                        if (place == null) {
+                                return Optional.empty();
+                        }
+                        // Keep the order LiteAPI returned for the place
+                        candidates = findAllInOrder(place.getHotelIds());
+                } else if (request.getCityName() != null) {
+                        candidates = new ArrayList<>(catalogHotelRepository
+                                        .findByCountryCodeIgnoreCaseAndCityIgnoreCase(countryCode, request.getCityName()));
+                        candidates.sort(BY_RATING);
+                } else if (request.getLatitude() != null && request.getLongitude() != null) {
+                        if (request.getRadius() == null) {
+                                return Optional.empty();
+                        }
+                        // Pick the hotel ids from the geo index, nearest first, then load only those
+                        List<String> hotelIds = hotelGeoIndex.withinRadius(request.getLatitude().doubleValue(),
+                                        request.getLongitude().doubleValue(), request.getRadius()).stream()
+                                        .map(HotelGeoIndex.GeoHit::hotelId)
+                                        .collect(Collectors.toList());
+                        candidates = findAllInOrder(hotelIds).stream()
+                                        .filter(hotel -> countryCode.equalsIgnoreCase(hotel.getCountryCode()))
+                                        .collect(Collectors.toList());
+                } else {
+                        candidates = new ArrayList<>(catalogHotelRepository.findByCountryCodeIgnoreCase(countryCode));
+                        candidates.sort(BY_RATING);
+                }
+
+                List<MinimalHotelData> hotels = candidates.stream()
+                                .filter(hotel -> matches(hotel, request))
+                                .limit(properties.getMaxHotels())
+                                .map(catalogHotelMapper::toMinimalHotelData)
+                                .collect(Collectors.toList());
+
+                HotelsListResponse response = new HotelsListResponse();
+                response.setData(hotels);
+                response.setHotelIds(hotels.stream().map(MinimalHotelData::getId).collect(Collectors.toList()));
+                response.setPlace(catalogHotelMapper.toPlace(place));
+                response.setTotal(hotels.size());
+                logger.info("Resolved {} hotels from local catalog - placeId: {}, city: {}", hotels.size(),
+                                request.getPlaceId(), request.getCityName());
+                return Optional.of(response);
+        }
+
+        @Override
+        public void recordHotelsList(RateSearchRequestDto request, HotelsListResponse response) {
+                if (response == null || response.getData() == null) {
+                        return;
+                }
+                for (MinimalHotelData hotel : response.getData()) {
+                        if (hotel.getId() != null && hotel.getLatitude() != null && hotel.getLongitude() != null) {
+                                hotelGeoIndex.put(hotel.getId(), hotel.getLatitude().doubleValue(),
+                                                hotel.getLongitude().doubleValue());
+                        }
+                }
+
+                // Only an unfiltered place search tells us which hotels belong to the place
+                if (!properties.isEnabled() || request.getPlaceId() == null || !isPlaceOnly(request)) {
+                        return;
+                }
+                try {
+                        LocalDateTime now = LocalDateTime.now();
+                        catalogHotelRepository.saveAll(response.getData().stream()
+                                        .filter(hotel -> hotel.getId() != null && hotel.getDeletedAt() == null)
+                                        .map(hotel -> catalogHotelMapper.toCatalogHotel(hotel, now))
+                                        .collect(Collectors.toList()));
+                        List<String> hotelIds = response.getData().stream()
+                                        .filter(hotel -> hotel.getId() != null && hotel.getDeletedAt() == null)
+                                        .map(MinimalHotelData::getId)
+                                        .collect(Collectors.toList());
+                        catalogPlaceRepository.save(catalogHotelMapper.toCatalogPlace(request.getPlaceId(),
+                                        response.getPlace(), hotelIds, now));
+                        logger.debug("Recorded {} hotels for placeId: {}", hotelIds.size(), request.getPlaceId());
+                } catch (RuntimeException e) {
+                        logger.warn("Could not record place {} in local catalog: {}", request.getPlaceId(),
+                                        e.getMessage());
+                }
+        }
+
+        /**
+         * Rebuilds the geo index from the persisted catalog, so radius searches work right after a restart.
+         */
+        @EventListener(ApplicationReadyEvent.class)
+        public void loadGeoIndex() {
+                if (!properties.isEnabled()) {
+                        return;
+                }
+                catalogHotelRepository.findAll().forEach(this::index);
+                logger.info("Loaded {} hotels into the geo index", hotelGeoIndex.size());
+        }
+
+        @Scheduled(initialDelayString = "${travelhub.booking.catalog.initial-delay:PT1M}",
+                        fixedDelayString = "${travelhub.booking.catalog.sync-interval:PT1H}")
+        public void scheduledSync() {
+                if (!properties.isEnabled()) {
+                        return;
+                }
+                try {
+                        syncCatalog();
+                } catch (RuntimeException e) {
+                        logger.error("Hotel catalog sync failed: {}", e.getMessage(), e);
+                }
+        }
+
+        @Override
+        public int syncCatalog() {
+                int synced = 0;
+                for (String countryCode : properties.getCountryCodes()) {
+                        synced += syncCountry(countryCode.toUpperCase());
+                }
+                return synced;
+        }
+
+        private int syncCountry(String countryCode) {
+                LocalDateTime startedAt = LocalDateTime.now(ZoneOffset.UTC);
+                String lastUpdatedAt = catalogSyncStateRepository.findById(countryCode)
+                                .map(state -> state.getLastSyncedAt().format(LAST_UPDATED_AT_FORMAT))
+                                .orElse(null);
+                logger.info("Syncing hotel catalog - country: {}, lastUpdatedAt: {}", countryCode, lastUpdatedAt);
+
+                int received = 0;
+                int offset = 0;
+                while (true) {
+                        HotelsListRequest request = new HotelsListRequest();
+                        request.setCountryCode(countryCode);
+                        request.setLimit(properties.getPageSize());
+                        request.setOffset(offset);
+                        request.setLastUpdatedAt(lastUpdatedAt);
+
+                        HotelsListResponse page = nuiteeApiClient.getHotels(request);
+                        List<MinimalHotelData> hotels = page != null && page.getData() != null ? page.getData()
+                                        : List.of();
+
+                        LocalDateTime now = LocalDateTime.now();
+                        List<CatalogHotel> upserts = new ArrayList<>();
+                        Set<String> deletions = new HashSet<>();
+                        for (MinimalHotelData hotel : hotels) {
+                                if (hotel.getId() == null) {
+                                        continue;
+                                }
+                                if (hotel.getDeletedAt() != null) {
+                                        deletions.add(hotel.getId());
+                                } else {
+                                        upserts.add(catalogHotelMapper.toCatalogHotel(hotel, now));
+                                }
+                        }
+                        catalogHotelRepository.saveAll(upserts);
+                        catalogHotelRepository.deleteAllById(deletions);
+                        upserts.forEach(this::index);
+                        deletions.forEach(hotelGeoIndex::remove);
+                        received += hotels.size();
+
+                        if (hotels.size() < properties.getPageSize()) {
+                                break;
+                        }
+                        offset += properties.getPageSize();
+                }
+
+                catalogSyncStateRepository.save(new CatalogSyncState(countryCode, startedAt));
+                logger.info("Hotel catalog synced - country: {}, hotels received: {}", countryCode, received);
+                return received;
+        }
+
+        private String countryCode(RateSearchRequestDto request) {
+                String countryCode = request.getCountryCode() != null ? request.getCountryCode()
+                                : properties.getCountryCodes().get(0);
+                return countryCode.toUpperCase();
+        }
+
+        private boolean isPlaceOnly(RateSearchRequestDto request) {
+                return request.getCityName() == null && request.getHotelName() == null
+                                && request.getLatitude() == null && request.getLongitude() == null
+                                && request.getAiSearch() == null && request.getZip() == null
+                                && request.getMinRating() == null && request.getMinReviewsCount() == null;
+        }
+
+        private boolean matches(CatalogHotel hotel, RateSearchRequestDto request) {
+                if (request.getHotelName() != null && (hotel.getName() == null
+                                || !hotel.getName().toLowerCase().contains(request.getHotelName().toLowerCase()))) {
+                        return false;
+                }
+                if (request.getZip() != null && !request.getZip().equalsIgnoreCase(hotel.getZip())) {
+                        return false;
+                }
+                if (request.getMinRating() != null
+                                && (hotel.getRating() == null || hotel.getRating() < request.getMinRating().doubleValue())) {
+                        return false;
+                }
+                if (request.getMinReviewsCount() != null && (hotel.getReviewCount() == null
+                                || hotel.getReviewCount() < request.getMinReviewsCount())) {
+                        return false;
+                }
+                if (isSet(request.getStarRating()) && !request.getStarRating().contains(hotel.getStars())) {
+                        return false;
+                }
+                if (isSet(request.getChainIds()) && !request.getChainIds().contains(hotel.getChainId())) {
+                        return false;
+                }
+                if (isSet(request.getHotelTypeIds()) && !request.getHotelTypeIds().contains(hotel.getHotelTypeId())) {
+                        return false;
+                }
+                if (isSet(request.getFacilities()) && !matchesFacilities(hotel, request)) {
+                        return false;
+                }
+                if (request.getLatitude() != null && request.getLongitude() != null && request.getRadius() != null) {
+                        if (hotel.getLatitude() == null || hotel.getLongitude() == null) {
+                                return false;
+                        }
+                        double distance = GeoDistance.haversineMeters(request.getLatitude().doubleValue(),
+                                        request.getLongitude().doubleValue(), hotel.getLatitude(), hotel.getLongitude());
+                        return distance <= request.getRadius();
+                }
+                return true;
+        }
+
+        private boolean matchesFacilities(CatalogHotel hotel, RateSearchRequestDto request) {
+                String facilityIds = hotel.getFacilityIds() != null ? hotel.getFacilityIds() : "";
+                boolean strict = Boolean.TRUE.equals(request.getStrictFacilityFiltering());
+                for (String facility : request.getFacilities()) {
+                        boolean present = facilityIds.contains("," + facility.trim() + ",");
+                        if (strict && !present) {
+                                return false;
+                        }
+                        if (!strict && present) {
+                                return true;
+                        }
+                }
+                return strict;
+        }
+
+        private static boolean isSet(List<?> values) {
+                return values != null && !values.isEmpty();
+        }
+
+        private List<CatalogHotel> findAllInOrder(List<String> hotelIds) {
+                Map<String, CatalogHotel> byId = catalogHotelRepository.findAllById(hotelIds).stream()
+                                .collect(Collectors.toMap(CatalogHotel::getId, Function.identity()));
+                return hotelIds.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+        }
+
+        private void index(CatalogHotel hotel) {
+                if (hotel.getLatitude() != null && hotel.getLongitude() != null) {
+                        hotelGeoIndex.put(hotel.getId(), hotel.getLatitude(), hotel.getLongitude());
+                }
+        }
+}
@@ -1,5 +1,6 @@
 package com.travelhub.booking.service.impl;
 
+import com.travelhub.booking.cache.HotelContentCache;
 import com.travelhub.booking.dto.request.PlaceSearchRequestDto;
 import com.travelhub.booking.dto.response.PlaceSearchResponseDto;
 import com.travelhub.booking.mapper.HotelDataMapper;
@@ -16,10 +17,13 @@ public class HotelDataServiceImpl implements HotelDataService {
         private static final Logger logger = LoggerFactory.getLogger(HotelDataServiceImpl.class);
         private final NuiteeApiClient nuiteeApiClient;
         private final HotelDataMapper hotelDataMapper;
+        private final HotelContentCache hotelContentCache;
 
-        public HotelDataServiceImpl(NuiteeApiClient nuiteeApiClient, HotelDataMapper hotelDataMapper) {
+        public HotelDataServiceImpl(NuiteeApiClient nuiteeApiClient, HotelDataMapper hotelDataMapper,
+                        HotelContentCache hotelContentCache) {
                 this.nuiteeApiClient = nuiteeApiClient;
                 this.hotelDataMapper = hotelDataMapper;
+                this.hotelContentCache = hotelContentCache;
         }
 
         @Override
@@ -85,6 +89,7 @@ public class HotelDataServiceImpl implements HotelDataService {
         public com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse getHotelDetails(String hotelId,
                         String language) {
                 logger.info("Fetching hotel details - hotelId: {}, language: {}", hotelId, language);
-                return nuiteeApiClient.getHotelDetails(hotelId, null, language, null);
+                return hotelContentCache.get(hotelId, language,
+                                () -> nuiteeApiClient.getHotelDetails(hotelId, null, language, null));
         }
 }
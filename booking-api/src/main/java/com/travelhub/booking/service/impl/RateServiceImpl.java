@@ -1,50 +1,96 @@
 package com.travelhub.booking.service.impl;
 
+import com.travelhub.booking.cache.HotelContent;
+import com.travelhub.booking.cache.HotelContentCache;
+import com.travelhub.booking.cache.SearchResultCache;
+import com.travelhub.booking.config.RateProperties;
 import com.travelhub.booking.dto.request.HotelRateRequestDto;
 import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.dto.response.HotelAvailabilityDto;
 import com.travelhub.booking.dto.response.HotelRateResponseDto;
 import com.travelhub.booking.dto.response.RateSearchResponseDto;
 import com.travelhub.booking.mapper.RateMapper;
 import com.travelhub.booking.mapper.HotelDataMapper;
+import com.travelhub.booking.service.HotelCatalogService;
 import com.travelhub.booking.service.RateService;
 import com.travelhub.connectors.nuitee.NuiteeApiClient;
+import com.travelhub.connectors.nuitee.NuiteeAsyncApiClient;
 import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
 import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
 import com.travelhub.connectors.nuitee.dto.response.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Service
 public class RateServiceImpl implements RateService {
 
         private static final Logger logger = LoggerFactory.getLogger(RateServiceImpl.class);
+        private static final String DETAILS_PHASE = "details";
+        private static final String RATES_PHASE = "rates";
+        private static final String MAPPING_PHASE = "mapping";
+        private static final String TOTAL_PHASE = "total";
         private final NuiteeApiClient nuiteeApiClient;
+        private final NuiteeAsyncApiClient nuiteeAsyncApiClient;
         private final RateMapper rateMapper;
         private final HotelDataMapper hotelDataMapper;
+        private final RateProperties rateProperties;
+        private final HotelContentCache hotelContentCache;
+        private final SearchResultCache searchResultCache;
+        private final HotelCatalogService hotelCatalogService;
+        private final Executor streamExecutor;
 
-        public RateServiceImpl(NuiteeApiClient nuiteeApiClient, RateMapper rateMapper, HotelDataMapper hotelDataMapper) {
+        public RateServiceImpl(NuiteeApiClient nuiteeApiClient, NuiteeAsyncApiClient nuiteeAsyncApiClient,
+                        RateMapper rateMapper, HotelDataMapper hotelDataMapper, RateProperties rateProperties,
+                        HotelContentCache hotelContentCache, SearchResultCache searchResultCache,
+                        HotelCatalogService hotelCatalogService,
+                        @Qualifier("applicationTaskExecutor") Executor streamExecutor) {
                 this.nuiteeApiClient = nuiteeApiClient;
+                this.nuiteeAsyncApiClient = nuiteeAsyncApiClient;
                 this.rateMapper = rateMapper;
                 this.hotelDataMapper = hotelDataMapper;
+                this.rateProperties = rateProperties;
+                this.hotelContentCache = hotelContentCache;
+                this.searchResultCache = searchResultCache;
+                this.hotelCatalogService = hotelCatalogService;
+                this.streamExecutor = streamExecutor;
         }
 
         @Override
         public RateSearchResponseDto searchRates(RateSearchRequestDto request) {
+                // Repeated searches and further pages are served from the cached full result
+                return searchResultCache.get(request, this::searchAllRates);
+        }
+
+        private RateSearchResponseDto searchAllRates(RateSearchRequestDto request) {
                 logger.info("Searching rates - placeId: {}, checkin: {}, checkout: {}",
                                 request.getPlaceId(), request.getCheckin(), request.getCheckout());
 
-                // STEP 1: Get hotels list based on search criteria
-                HotelsListRequest hotelsListRequest = rateMapper.toHotelsListRequest(request);
+                // STEP 1: Get hotels list based on search criteria, from the local catalog when it can answer
+                HotelsListResponse hotelsListResponse = hotelCatalogService.findHotels(request).orElseGet(() -> {
+                        HotelsListRequest hotelsListRequest = rateMapper.toHotelsListRequest(request);
 
-                logger.debug("Fetching hotels list with placeId: {}, limit: {}, offset: {}",
-                                request.getPlaceId(), request.getLimit(), request.getOffset());
+                        logger.debug("Fetching hotels list with placeId: {}", request.getPlaceId());
 
-               HotelsListResponse hotelsListResponse = nuiteeApiClient
-                                .getHotels(hotelsListRequest);
+                        HotelsListResponse remoteResponse = nuiteeApiClient.getHotels(hotelsListRequest);
+                        hotelCatalogService.recordHotelsList(request, remoteResponse);
+                        return remoteResponse;
+                });
 
                 if (hotelsListResponse == null || hotelsListResponse.getHotelIds() == null
                                 || hotelsListResponse.getHotelIds().isEmpty()) {
@@ -66,34 +112,157 @@ public class RateServiceImpl implements RateService {
 
                 logger.debug("Searching rates for {} hotels", hotelIds.size());
 
-                HotelRatesResponse hotelRatesResponse = nuiteeApiClient.retrieveHotelRates(hotelRatesRequest);
+                // Large hotel lists are split into parallel chunks by the connector
+                CompletableFuture<HotelRatesResponse> ratesFuture = nuiteeAsyncApiClient.retrieveHotelRates(hotelRatesRequest);
+                HotelRatesResponse hotelRatesResponse;
+                try {
+                        hotelRatesResponse = Deadline.after(rateProperties.getSearchDeadline()).await(ratesFuture);
+                } catch (TimeoutException e) {
+                        // Aborts the chunks still running, or not yet started
+                        ratesFuture.cancel(true);
+                        throw new ResourceAccessException("Timed out retrieving rates for placeId: "
+                                        + request.getPlaceId());
+                }
                 logger.info("Retrieved {} hotel rates from connector",
                                 hotelRatesResponse.getData() != null ? hotelRatesResponse.getData().size() : 0);
 
                 RateSearchResponseDto response = rateMapper.toRateSearchResponseDto(hotelRatesResponse, hotelsListResponse, hotelDataMapper);
                 logger.debug("Mapped connector response to DTO");
+                if (hotelRatesResponse.isPartial()) {
+                        // Returned, but not cached, so the next search retries the missing hotels
+                        logger.warn("Rates for placeId: {} lack the hotels of {} failed chunks", request.getPlaceId(),
+                                        hotelRatesResponse.getFailedChunks());
+                        response.setPartial(true);
+                }
 
                 return response;
         }
 
+        @Override
+        public CompletableFuture<RateSearchResponseDto> streamRates(RateSearchRequestDto request,
+                        Consumer<HotelAvailabilityDto> hotelConsumer) {
+                logger.info("Streaming rates - placeId: {}, checkin: {}, checkout: {}",
+                                request.getPlaceId(), request.getCheckin(), request.getCheckout());
+
+                CompletableFuture<HotelsListResponse> hotelsList = hotelCatalogService.findHotels(request)
+                                .map(CompletableFuture::completedFuture)
+                                .orElseGet(() -> nuiteeAsyncApiClient.getHotels(rateMapper.toHotelsListRequest(request))
+                                                .thenApplyAsync(remoteResponse -> {
+                                                        hotelCatalogService.recordHotelsList(request, remoteResponse);
+                                                        return remoteResponse;
+                                                }, streamExecutor));
+
+                CompletableFuture<RateSearchResponseDto> stream = new CompletableFuture<>();
+                stream.whenComplete((summary, ex) -> {
+                        if (stream.isCancelled()) {
+                                hotelsList.cancel(true);
+                        }
+                });
+                hotelsList.thenCompose(hotelsListResponse -> streamHotelRates(request, hotelsListResponse,
+                                hotelConsumer, stream))
+                                .whenComplete((summary, ex) -> {
+                                        if (ex != null) {
+                                                stream.completeExceptionally(ex instanceof CompletionException
+                                                                && ex.getCause() != null ? ex.getCause() : ex);
+                                        } else {
+                                                stream.complete(summary);
+                                        }
+                                });
+                return stream;
+        }
+
+        private CompletableFuture<RateSearchResponseDto> streamHotelRates(RateSearchRequestDto request,
+                        HotelsListResponse hotelsListResponse, Consumer<HotelAvailabilityDto> hotelConsumer,
+                        CompletableFuture<RateSearchResponseDto> stream) {
+                RateSearchResponseDto summary = new RateSearchResponseDto();
+                if (hotelsListResponse == null || hotelsListResponse.getHotelIds() == null
+                                || hotelsListResponse.getHotelIds().isEmpty()) {
+                        logger.warn("No hotels found for placeId: {}", request.getPlaceId());
+                        return CompletableFuture.completedFuture(summary);
+                }
+
+                HotelRatesRequest hotelRatesRequest = rateMapper.toHotelRatesRequest(request);
+                hotelRatesRequest.setHotelIds(hotelsListResponse.getHotelIds());
+                hotelRatesRequest.setMaxRatesPerHotel(1);
+
+                // Chunk responses are mapped and emitted as they arrive and are not retained afterwards,
+                // so memory stays bounded by the chunk size rather than by the number of hotels
+                List<CompletableFuture<HotelRatesResponse>> chunks = nuiteeAsyncApiClient
+                                .retrieveHotelRatesInChunks(hotelRatesRequest);
+                // Once the stream is cancelled or aborted, the chunks still in flight are of no use to anyone
+                stream.whenComplete((ignored, ex) -> {
+                        if (ex != null) {
+                                chunks.forEach(chunk -> chunk.cancel(true));
+                        }
+                });
+                AtomicInteger failedChunks = new AtomicInteger();
+                CompletableFuture<?>[] emitted = new CompletableFuture<?>[chunks.size()];
+                for (int i = 0; i < chunks.size(); i++) {
+                        // Emitting writes to the client, keep that off the HTTP client's I/O threads
+                        emitted[i] = chunks.get(i)
+                                        .thenApplyAsync(chunk -> {
+                                                synchronized (summary) {
+                                                        if (summary.getSessionId() == null && chunk != null) {
+                                                                summary.setGuestLevel(chunk.getGuestLevel());
+                                                                summary.setSandbox(chunk.getSandbox());
+                                                                summary.setSessionId(chunk.getSessionId());
+                                                        }
+                                                }
+                                                return rateMapper.toHotelAvailabilityDtos(chunk, hotelsListResponse,
+                                                                hotelDataMapper);
+                                        }, streamExecutor)
+                                        .handle((hotels, ex) -> {
+                                                if (stream.isDone()) {
+                                                        // Cancelled by the caller, or aborted by the consumer
+                                                        return null;
+                                                }
+                                                if (ex != null) {
+                                                        failedChunks.incrementAndGet();
+                                                        logger.warn("Rates chunk could not be streamed for placeId: {}: {}",
+                                                                        request.getPlaceId(), ex.getMessage());
+                                                        return null;
+                                                }
+                                                try {
+                                                        hotels.forEach(hotelConsumer);
+                                                } catch (RuntimeException e) {
+                                                        // The consumer cannot take more hotels (e.g. the client went away)
+                                                        stream.completeExceptionally(e);
+                                                }
+                                                return null;
+                                        });
+                }
+
+                return CompletableFuture.allOf(emitted).thenApply(ignored -> {
+                        if (stream.isDone()) {
+                                return summary;
+                        }
+                        if (chunks.size() > 0 && failedChunks.get() == chunks.size()) {
+                                throw new ResourceAccessException("No rates could be retrieved for placeId: "
+                                                + request.getPlaceId());
+                        }
+                        logger.info("Rates stream completed for placeId: {} - {} of {} chunks",
+                                        request.getPlaceId(), chunks.size() - failedChunks.get(), chunks.size());
+                        return summary;
+                });
+        }
+
         @Override
         public HotelRateResponseDto getHotelRates(String hotelId, HotelRateRequestDto request) {
                 logger.info("Getting hotel rates - hotelId: {}, checkin: {}, checkout: {}",
                                 hotelId, request.getCheckin(), request.getCheckout());
 
-                // Step 1: Get hotel details
-                logger.debug("Fetching hotel details for hotelId: {}", hotelId);
+                long startNanos = System.nanoTime();
+                Deadline deadline = Deadline.after(rateProperties.getHotelRatesDeadline());
+                Map<String, Long> timings = new ConcurrentHashMap<>();
+
+                // Step 1: Fire hotel details and hotel rates concurrently, they do not depend on each other
+                logger.debug("Fetching hotel details and rates concurrently for hotelId: {}", hotelId);
 
                 //Language code for response (ISO 639-1)
-                HotelDetailsResponse hotelDetails = nuiteeApiClient.getHotelDetails(
-                                hotelId,
-                                30,
-                                "fr",
-                                false);
-                logger.info("Hotel details retrieved for hotelId: {}", hotelId);
-
-                // Step 2: Get hotel rates
-                logger.debug("Preparing rates request for hotelId: {}", hotelId);
+                CompletableFuture<HotelContent> detailsFuture = hotelContentCache
+                                .getContentAsync(hotelId, "fr", () -> nuiteeAsyncApiClient.getHotelDetails(hotelId, 30, "fr", false))
+                                .whenComplete((response, ex) -> timings.put(DETAILS_PHASE, elapsedMillis(startNanos)));
+
                 HotelRatesRequest ratesRequest = new HotelRatesRequest();
                 ratesRequest.setHotelIds(Collections.singletonList(hotelId));
                 ratesRequest.setOccupancies(request.getOccupancies());
@@ -104,12 +273,35 @@ public class RateServiceImpl implements RateService {
                 ratesRequest.setTimeout(30);
                 ratesRequest.setRoomMapping(true);
 
-                HotelRatesResponse ratesResponse = nuiteeApiClient.retrieveHotelRates(ratesRequest);
-                logger.info("Hotel rates retrieved for hotelId: {}", hotelId);
+                // The source future is kept: cancelling it, not a dependent, aborts the exchange
+                CompletableFuture<HotelRatesResponse> ratesSource = nuiteeAsyncApiClient.retrieveHotelRates(ratesRequest);
+                CompletableFuture<HotelRatesResponse> ratesFuture = ratesSource
+                                .whenComplete((response, ex) -> timings.put(RATES_PHASE, elapsedMillis(startNanos)));
 
+                // Step 2: Rates are mandatory, a failure here fails the whole request
+                HotelRatesResponse ratesResponse;
+                try {
+                        ratesResponse = deadline.await(ratesFuture);
+                } catch (TimeoutException e) {
+                        ratesSource.cancel(true);
+                        throw new ResourceAccessException("Timed out retrieving rates for hotelId: " + hotelId);
+                }
+                logger.info("Hotel rates retrieved for hotelId: {}", hotelId);
 
+                // Step 3: Details are optional, the page can still be rendered from the rates alone
+                HotelContent hotelContent = null;
+                try {
+                        hotelContent = deadline.await(detailsFuture);
+                        logger.info("Hotel details retrieved for hotelId: {}", hotelId);
+                } catch (TimeoutException e) {
+                        // Not cancelled: the load keeps running and warms the hotel content cache
+                        logger.warn("Hotel details timed out for hotelId: {}, returning rates without details", hotelId);
+                } catch (RuntimeException e) {
+                        logger.warn("Hotel details failed for hotelId: {}, returning rates without details: {}",
+                                        hotelId, e.getMessage());
+                }
 
-                // Step 3: Extract room types for the hotel
+                // Step 4: Extract room types for the hotel
                 List<RoomType> roomTypes = null;
                 if (ratesResponse != null && ratesResponse.getData() != null && !ratesResponse.getData().isEmpty()) {
                         HotelRate hotelRate = ratesResponse.getData().get(0);
@@ -120,14 +312,31 @@ public class RateServiceImpl implements RateService {
                         }
                 }
 
-                // Step 4: Combine hotel details with rates and map room details
+                // Step 5: Combine hotel details with rates and map room details
                 logger.debug("Mapping hotel details and rates to response DTO");
+                long mappingStartNanos = System.nanoTime();
                 String checkinStr = request.getCheckin() != null ? request.getCheckin().toString() : null;
                 String checkoutStr = request.getCheckout() != null ? request.getCheckout().toString() : null;
-                HotelRateResponseDto response = hotelDataMapper.toHotelRateResponseDto(
-                                hotelDetails != null ? hotelDetails.getData() : null,
-                                roomTypes, rateMapper, checkinStr, checkoutStr);
+                HotelRateResponseDto response = hotelContent != null
+                                ? hotelDataMapper.toHotelRateResponseDto(hotelContent.details().getData(),
+                                                hotelContent.roomIndex(), roomTypes, rateMapper, checkinStr, checkoutStr)
+                                : hotelDataMapper.toRatesOnlyResponseDto(hotelId, roomTypes, rateMapper, checkinStr,
+                                                checkoutStr);
+
+                Map<String, Long> phaseTimings = new LinkedHashMap<>();
+                if (timings.containsKey(DETAILS_PHASE)) {
+                        phaseTimings.put(DETAILS_PHASE, timings.get(DETAILS_PHASE));
+                }
+                phaseTimings.put(RATES_PHASE, timings.getOrDefault(RATES_PHASE, elapsedMillis(startNanos)));
+                phaseTimings.put(MAPPING_PHASE, elapsedMillis(mappingStartNanos));
+                phaseTimings.put(TOTAL_PHASE, elapsedMillis(startNanos));
+                response.setPhaseTimings(phaseTimings);
+                logger.info("Hotel rates timings for hotelId: {} - {}", hotelId, phaseTimings);
 
                 return response;
         }
+
+        private static long elapsedMillis(long startNanos) {
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
 }
@@ -0,0 +1,100 @@
+package com.travelhub.booking.cache;
+
+import com.travelhub.booking.config.SimulationStoreProperties;
+import com.travelhub.booking.model.BookingSimulation;
+import com.travelhub.booking.repository.BookingSimulationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+public class BookingSimulationStoreTest {
+
+    private BookingSimulationRepository repository;
+    private SimulationStoreProperties properties;
+    private BookingSimulationStore store;
+
+    @BeforeEach
+    public void setUp() {
+        repository = mock(BookingSimulationRepository.class);
+        properties = new SimulationStoreProperties();
+        properties.setFlushBatchSize(2);
+        store = new BookingSimulationStore(repository, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testSave_ReadableBeforeItIsWritten() {
+        BookingSimulation saved = store.save(simulation());
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getStatus()).isEqualTo("ACTIVE");
+        assertThat(saved.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(29));
+        assertThat(store.findById(saved.getId())).containsSame(saved);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlush_WritesQueuedSimulationsInBatches() {
+        BookingSimulation first = store.save(simulation());
+        BookingSimulation second = store.save(simulation());
+        BookingSimulation third = store.save(simulation());
+
+        store.flush();
+        store.flush();
+
+        ArgumentCaptor<Iterable<BookingSimulation>> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository, times(2)).saveAll(batches.capture());
+        assertThat(batches.getAllValues().get(0)).containsExactly(first, second);
+        assertThat(batches.getAllValues().get(1)).containsExactly(third);
+    }
+
+    @Test
+    public void testFlush_FailedWriteIsRetriedUntilExpiry() {
+        BookingSimulation broken = store.save(simulation());
+        BookingSimulation valid = store.save(simulation());
+        when(repository.saveAll(anyIterable())).thenThrow(new RuntimeException("constraint violation"));
+        when(repository.save(broken)).thenThrow(new RuntimeException("constraint violation"));
+
+        store.flush();
+        verify(repository).save(valid);
+        verify(repository).save(broken);
+
+        broken.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        store.flush();
+        verify(repository, times(2)).save(broken);
+
+        store.flush();
+        verify(repository, times(2)).save(broken);
+    }
+
+    @Test
+    public void testFindById_NotInMemoryReadsDatabase() {
+        BookingSimulation stored = simulation();
+        stored.setId("sim_001");
+        when(repository.findWithPrebookIdsById("sim_001")).thenReturn(Optional.of(stored));
+
+        assertThat(store.findById("sim_001")).containsSame(stored);
+        verify(repository, never()).saveAll(any());
+    }
+
+    private BookingSimulation simulation() {
+        BookingSimulation simulation = new BookingSimulation();
+        simulation.setTotalAmount(new BigDecimal("200.00"));
+        simulation.setTotalIncludedTaxes(new BigDecimal("20.00"));
+        simulation.setTotalExcludedTaxes(new BigDecimal("10.00"));
+        simulation.setCurrency("USD");
+        simulation.setConnectorPrebookIds(List.of("prebook_123"));
+        return simulation;
+    }
+}
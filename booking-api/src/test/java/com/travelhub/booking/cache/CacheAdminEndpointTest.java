@@ -0,0 +1,57 @@
+package com.travelhub.booking.cache;
+
+import com.travelhub.booking.config.HotelContentCacheProperties;
+import com.travelhub.booking.config.SearchResultCacheProperties;
+import com.travelhub.connectors.nuitee.dto.response.HotelData;
+import com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CacheAdminEndpointTest {
+
+    private HotelContentCache hotelContentCache;
+    private CacheAdminEndpoint endpoint;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hotelContentCache = new HotelContentCache(new HotelContentCacheProperties(), meterRegistry);
+        endpoint = new CacheAdminEndpoint(hotelContentCache,
+                new SearchResultCache(new SearchResultCacheProperties(), meterRegistry, Runnable::run));
+    }
+
+    @Test
+    public void testInvalidate_DropsHotelContentAndReportsStats() {
+        hotelContentCache.get("h1", "en", () -> details("h1"));
+        hotelContentCache.get("h2", "en", () -> details("h2"));
+
+        assertThat(endpoint.cache(CacheAdminEndpoint.HOTEL_CONTENT).getSize()).isEqualTo(2);
+
+        endpoint.invalidateHotel(CacheAdminEndpoint.HOTEL_CONTENT, "h1");
+        assertThat(endpoint.caches().get(CacheAdminEndpoint.HOTEL_CONTENT).getSize()).isEqualTo(1);
+
+        endpoint.invalidate(CacheAdminEndpoint.HOTEL_CONTENT);
+        assertThat(endpoint.cache(CacheAdminEndpoint.HOTEL_CONTENT).getSize()).isZero();
+    }
+
+    @Test
+    public void testUnknownCache_IsRejected() {
+        assertThat(endpoint.cache("rates")).isNull();
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.invalidate("rates"));
+        assertThrows(InvalidEndpointRequestException.class,
+                () -> endpoint.invalidateHotel(CacheAdminEndpoint.SEARCH_RESULTS, "h1"));
+    }
+
+    private HotelDetailsResponse details(String hotelId) {
+        HotelData data = new HotelData();
+        data.setId(hotelId);
+        HotelDetailsResponse response = new HotelDetailsResponse();
+        response.setData(data);
+        return response;
+    }
+}
@@ -0,0 +1,126 @@
+package com.travelhub.booking.cache;
+
+import com.travelhub.booking.config.HotelContentCacheProperties;
+import com.travelhub.connectors.nuitee.dto.response.HotelData;
+import com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse;
+import com.travelhub.connectors.nuitee.dto.response.Room;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HotelContentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HotelContentCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new HotelContentCache(new HotelContentCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    public void testGet_LoadsOncePerHotelAndLanguage() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("lp1a92f", "fr", () -> details("lp1a92f", loads));
+        cache.get("lp1a92f", "fr", () -> details("lp1a92f", loads));
+        cache.get("lp1a92f", "en", () -> details("lp1a92f", loads));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "hotelContent").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void testGet_EmptyResponseIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("lp1a92f", "fr", () -> {
+            loads.incrementAndGet();
+            return new HotelDetailsResponse();
+        });
+        cache.get("lp1a92f", "fr", () -> details("lp1a92f", loads));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_FailurePropagatesAndIsNotCached() {
+        assertThrows(ResourceAccessException.class, () -> cache.get("lp1a92f", "fr", () -> {
+            throw new ResourceAccessException("timeout");
+        }));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("lp1a92f", "fr", () -> details("lp1a92f", loads));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void testGetAsync_ConcurrentMissesShareOneLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<HotelDetailsResponse> upstream = new CompletableFuture<>();
+
+        CompletableFuture<HotelDetailsResponse> first = cache.getAsync("lp1a92f", "fr", () -> {
+            loads.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<HotelDetailsResponse> second = cache.getAsync("lp1a92f", "fr", () -> {
+            loads.incrementAndGet();
+            return upstream;
+        });
+        upstream.complete(details("lp1a92f", new AtomicInteger()));
+
+        assertThat(loads).hasValue(1);
+        assertThat(first.join()).isSameAs(second.join());
+    }
+
+    @Test
+    public void testGetContentAsync_IndexesRoomsOnceAndReusesIndex() {
+        AtomicInteger loads = new AtomicInteger();
+        HotelDetailsResponse response = details("lp1a92f", loads);
+        Room room = new Room();
+        room.setId(42);
+        response.getData().setRooms(List.of(room));
+
+        HotelContent first = cache.getContentAsync("lp1a92f", "fr",
+                () -> CompletableFuture.completedFuture(response)).join();
+        HotelContent second = cache.getContentAsync("lp1a92f", "fr",
+                () -> CompletableFuture.completedFuture(details("lp1a92f", loads))).join();
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.roomIndex()).isSameAs(first.roomIndex());
+        assertThat(first.roomIndex().get(42)).isSameAs(room);
+    }
+
+    @Test
+    public void testInvalidate_DropsEveryLanguageOfHotel() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("lp1a92f", "fr", () -> details("lp1a92f", loads));
+        cache.get("lp1a92f", "en", () -> details("lp1a92f", loads));
+        cache.get("lp2b13c", "fr", () -> details("lp2b13c", loads));
+
+        cache.invalidate("lp1a92f");
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private HotelDetailsResponse details(String hotelId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        HotelData data = new HotelData();
+        data.setId(hotelId);
+        HotelDetailsResponse response = new HotelDetailsResponse();
+        response.setData(data);
+        return response;
+    }
+}
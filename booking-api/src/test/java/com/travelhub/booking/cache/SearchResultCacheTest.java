@@ -0,0 +1,160 @@
+package com.travelhub.booking.cache;
+
+import com.travelhub.booking.config.SearchResultCacheProperties;
+import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.dto.response.HotelAvailabilityDto;
+import com.travelhub.booking.dto.response.RateSearchResponseDto;
+import com.travelhub.connectors.nuitee.dto.common.Occupancy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SearchResultCacheTest {
+
+    private SearchResultCacheProperties properties;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new SearchResultCacheProperties();
+        cache = new SearchResultCache(properties, new SimpleMeterRegistry(), Runnable::run);
+    }
+
+    @Test
+    public void testCanonicalKey_IgnoresOrderCaseAndPaging() {
+        RateSearchRequestDto first = request();
+        first.setOccupancies(List.of(occupancy(2, 8, 3), occupancy(1)));
+        first.setStarRating(List.of(5, 4));
+        first.setCityName("Marrakech");
+        first.setLimit(10);
+
+        RateSearchRequestDto second = request();
+        second.setOccupancies(List.of(occupancy(1), occupancy(2, 3, 8)));
+        second.setStarRating(List.of(4, 5));
+        second.setCityName(" marrakech ");
+        second.setOffset(20);
+
+        assertThat(cache.canonicalKey(first)).isEqualTo(cache.canonicalKey(second));
+
+        second.setCheckout(LocalDate.of(2025, 6, 4));
+        assertThat(cache.canonicalKey(first)).isNotEqualTo(cache.canonicalKey(second));
+    }
+
+    @Test
+    public void testCanonicalKey_RoundsCoordinatesToCell() {
+        RateSearchRequestDto first = request();
+        first.setLatitude(new BigDecimal("31.62951"));
+        first.setLongitude(new BigDecimal("-7.98112"));
+        RateSearchRequestDto second = request();
+        second.setLatitude(new BigDecimal("31.6312"));
+        second.setLongitude(new BigDecimal("-7.9790"));
+        RateSearchRequestDto third = request();
+        third.setLatitude(new BigDecimal("31.6512"));
+        third.setLongitude(new BigDecimal("-7.9790"));
+
+        assertThat(cache.canonicalKey(first)).isEqualTo(cache.canonicalKey(second));
+        assertThat(cache.canonicalKey(first)).isNotEqualTo(cache.canonicalKey(third));
+    }
+
+    @Test
+    public void testGet_PagesAreSlicesOfOneLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        RateSearchRequestDto firstPage = request();
+        firstPage.setLimit(2);
+        RateSearchRequestDto secondPage = request();
+        secondPage.setOffset(2);
+        secondPage.setLimit(2);
+        RateSearchRequestDto pastTheEnd = request();
+        pastTheEnd.setOffset(10);
+
+        RateSearchResponseDto first = cache.get(firstPage, ignored -> result(loads, 5));
+        RateSearchResponseDto second = cache.get(secondPage, ignored -> result(loads, 5));
+        RateSearchResponseDto all = cache.get(request(), ignored -> result(loads, 5));
+
+        assertThat(loads).hasValue(1);
+        assertThat(first.getHotels()).extracting(HotelAvailabilityDto::getHotelId).containsExactly("h0", "h1");
+        assertThat(second.getHotels()).extracting(HotelAvailabilityDto::getHotelId).containsExactly("h2", "h3");
+        assertThat(all.getHotels()).hasSize(5);
+        assertThat(cache.get(pastTheEnd, ignored -> result(loads, 5)).getHotels()).isEmpty();
+    }
+
+    @Test
+    public void testGet_FailureIsNotCached() {
+        assertThrows(ResourceAccessException.class, () -> cache.get(request(), ignored -> {
+            throw new ResourceAccessException("timeout");
+        }));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(request(), ignored -> result(loads, 1));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void testGet_PartialAndEmptyResultsAreNotKept() {
+        AtomicInteger loads = new AtomicInteger();
+        RateSearchResponseDto partial = cache.get(request(), ignored -> {
+            RateSearchResponseDto response = result(loads, 2);
+            response.setPartial(true);
+            return response;
+        });
+        cache.get(request(), ignored -> result(loads, 0));
+        cache.get(request(), ignored -> result(loads, 3));
+        RateSearchResponseDto complete = cache.get(request(), ignored -> result(loads, 3));
+
+        assertThat(partial.getHotels()).hasSize(2);
+        assertThat(complete.getHotels()).hasSize(3);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    public void testGet_DisabledAlwaysLoadsButStillPages() {
+        properties.setEnabled(false);
+        AtomicInteger loads = new AtomicInteger();
+        RateSearchRequestDto page = request();
+        page.setLimit(1);
+
+        cache.get(page, ignored -> result(loads, 3));
+        RateSearchResponseDto response = cache.get(page, ignored -> result(loads, 3));
+
+        assertThat(loads).hasValue(2);
+        assertThat(response.getHotels()).hasSize(1);
+    }
+
+    private RateSearchRequestDto request() {
+        RateSearchRequestDto request = new RateSearchRequestDto();
+        request.setPlaceId("ChIJ");
+        request.setCheckin(LocalDate.of(2025, 6, 1));
+        request.setCheckout(LocalDate.of(2025, 6, 3));
+        request.setOccupancies(List.of(occupancy(2)));
+        return request;
+    }
+
+    private Occupancy occupancy(int adults, Integer... children) {
+        Occupancy occupancy = new Occupancy();
+        occupancy.setAdults(adults);
+        occupancy.setChildren(new ArrayList<>(List.of(children)));
+        return occupancy;
+    }
+
+    private RateSearchResponseDto result(AtomicInteger loads, int hotels) {
+        loads.incrementAndGet();
+        RateSearchResponseDto response = new RateSearchResponseDto();
+        response.setHotels(IntStream.range(0, hotels).mapToObj(i -> {
+            HotelAvailabilityDto hotel = new HotelAvailabilityDto();
+            hotel.setHotelId("h" + i);
+            return hotel;
+        }).toList());
+        return response;
+    }
+}
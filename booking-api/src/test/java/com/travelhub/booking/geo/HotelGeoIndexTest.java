@@ -0,0 +1,67 @@
+package com.travelhub.booking.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotelGeoIndexTest {
+
+    private HotelGeoIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new HotelGeoIndex();
+        index.put("jemaa", 31.6258, -7.9891);
+        index.put("majorelle", 31.6417, -8.0033);
+        index.put("menara", 31.6136, -8.0231);
+        index.put("casablanca", 33.5731, -7.5898);
+    }
+
+    @Test
+    public void testWithinRadius_ReturnsHotelsInsideRadiusNearestFirst() {
+        assertThat(index.withinRadius(31.6258, -7.9891, 4000))
+                .extracting(HotelGeoIndex.GeoHit::hotelId)
+                .containsExactly("jemaa", "majorelle", "menara");
+        assertThat(index.withinRadius(31.6258, -7.9891, 1000))
+                .extracting(HotelGeoIndex.GeoHit::hotelId)
+                .containsExactly("jemaa");
+    }
+
+    @Test
+    public void testWithinRadius_MatchesBruteForceAcrossCellBorders() {
+        for (int i = 0; i < 200; i++) {
+            index.put("h" + i, 31.5 + (i % 20) * 0.013, -8.1 + (i / 20) * 0.021);
+        }
+
+        long expected = java.util.stream.IntStream.range(0, 200)
+                .filter(i -> GeoDistance.haversineMeters(31.6, -8.0, 31.5 + (i % 20) * 0.013,
+                        -8.1 + (i / 20) * 0.021) <= 7500)
+                .count();
+
+        assertThat(index.withinRadius(31.6, -8.0, 7500))
+                .filteredOn(hit -> hit.hotelId().startsWith("h"))
+                .hasSize((int) expected);
+    }
+
+    @Test
+    public void testNearest_ExpandsUntilKHotelsFound() {
+        assertThat(index.nearest(33.0, -7.8, 2))
+                .extracting(HotelGeoIndex.GeoHit::hotelId)
+                .containsExactly("casablanca", "majorelle");
+    }
+
+    @Test
+    public void testPutAndRemove_MoveHotelBetweenCells() {
+        index.put("jemaa", 33.5735, -7.5900);
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.withinRadius(31.6258, -7.9891, 1000)).isEmpty();
+        assertThat(index.withinRadius(33.5731, -7.5898, 1000)).hasSize(2);
+
+        index.remove("casablanca");
+        assertThat(index.withinRadius(33.5731, -7.5898, 1000))
+                .extracting(HotelGeoIndex.GeoHit::hotelId)
+                .containsExactly("jemaa");
+    }
+}
@@ -0,0 +1,170 @@
+package com.travelhub.booking.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelhub.booking.config.IdempotencyProperties;
+import com.travelhub.booking.dto.request.PrebookRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdempotencyStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore(new IdempotencyProperties(), new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    public void testExecute_RetryReplaysFirstResponse() {
+        String first = store.execute("prebook", "key-1", request("offer_1"), this::call);
+        String retry = store.execute("prebook", "key-1", request("offer_1"), this::call);
+
+        assertThat(retry).isSameAs(first);
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.counter(IdempotencyStore.REQUESTS, "operation", "prebook", "outcome", "REPLAYED")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_SameKeyDifferentRequestIsRefused() {
+        store.execute("prebook", "key-1", request("offer_1"), this::call);
+
+        assertThatThrownBy(() -> store.execute("prebook", "key-1", request("offer_2"), this::call))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void testExecute_ConcurrentDuplicateWaitsForFirstExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> store.execute("submit", "key-1",
+                request("offer_1"), () -> {
+                    started.countDown();
+                    await(release);
+                    return call();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> duplicate = CompletableFuture.supplyAsync(() -> store.execute("submit", "key-1",
+                request("offer_1"), this::call));
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void testExecute_FailureIsReplayed() {
+        RuntimeException failure = new RuntimeException("Error confirming booking: Read timed out");
+        assertThatThrownBy(() -> store.execute("submit", "key-1", request("offer_1"), () -> {
+            throw failure;
+        })).isSameAs(failure);
+
+        assertThatThrownBy(() -> store.execute("submit", "key-1", request("offer_1"), this::call)).isSameAs(failure);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    public void testExecute_RefusalFreesTheKey() {
+        assertThatThrownBy(() -> store.execute("submit", "key-1", request("offer_1"), () -> {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many bookings being confirmed");
+        })).isInstanceOf(ResponseStatusException.class);
+
+        assertThat(store.execute("submit", "key-1", request("offer_1"), this::call)).isEqualTo("response-1");
+    }
+
+    @Test
+    public void testExecute_FailureWithoutSideEffectFreesTheKey() {
+        RuntimeException expired = new ResponseStatusException(HttpStatus.GONE, "Simulation has expired");
+        RuntimeException refusedUpstream = new RuntimeException("Failed to prebook offer: offer_1",
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+        assertThatThrownBy(() -> store.execute("submit", "key-1", request("offer_1"), () -> {
+            throw expired;
+        })).isSameAs(expired);
+        assertThatThrownBy(() -> store.execute("prebook", "key-1", request("offer_1"), () -> {
+            throw refusedUpstream;
+        })).isSameAs(refusedUpstream);
+
+        assertThat(store.execute("submit", "key-1", request("offer_1"), this::call)).isEqualTo("response-1");
+        assertThat(store.execute("prebook", "key-1", request("offer_1"), this::call)).isEqualTo("response-2");
+    }
+
+    @Test
+    public void testMayHaveSideEffect_UpstreamServerErrorIsKept() {
+        assertThat(IdempotencyStore.mayHaveSideEffect(new RuntimeException("Error confirming booking",
+                HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null)))).isTrue();
+        assertThat(IdempotencyStore.mayHaveSideEffect(
+                new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR))).isTrue();
+    }
+
+    @Test
+    public void testExecute_RunningRequestIsNotEvicted() throws Exception {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setMaximumKeys(1);
+        store = new IdempotencyStore(properties, new ObjectMapper(), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> store.execute("submit", "key-1",
+                request("offer_1"), () -> {
+                    started.countDown();
+                    await(release);
+                    return call();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        store.execute("submit", "key-2", request("offer_2"), this::call);
+        store.execute("submit", "key-3", request("offer_3"), this::call);
+        assertThat(store.size()).isEqualTo(2);
+        release.countDown();
+
+        String first = running.get(5, TimeUnit.SECONDS);
+        assertThat(store.execute("submit", "key-1", request("offer_1"), this::call)).isSameAs(first);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    public void testExecute_WithoutKeyAlwaysRuns() {
+        store.execute("prebook", null, request("offer_1"), this::call);
+        store.execute("prebook", null, request("offer_1"), this::call);
+
+        assertThat(calls).hasValue(2);
+    }
+
+    private String call() {
+        return "response-" + calls.incrementAndGet();
+    }
+
+    private PrebookRequestDto request(String offerId) {
+        PrebookRequestDto request = new PrebookRequestDto();
+        request.setOfferId(offerId);
+        return request;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.travelhub.booking.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MoneyTest {
+
+    @Test
+    public void testPerNight_MatchesBigDecimalHalfUpDivision() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            BigDecimal total = BigDecimal.valueOf(random.nextLong() % 100_000_000L, random.nextInt(4));
+            int nights = 1 + random.nextInt(30);
+
+            assertThat(Money.perNight(total, nights))
+                    .as("%s / %d", total, nights)
+                    .isEqualTo(total.divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Test
+    public void testPerNight_TiesRoundAwayFromZero() {
+        assertThat(Money.perNight(new BigDecimal("0.05"), 2)).isEqualTo(new BigDecimal("0.03"));
+        assertThat(Money.perNight(new BigDecimal("-0.05"), 2)).isEqualTo(new BigDecimal("-0.03"));
+        assertThat(Money.perNight(new BigDecimal("100"), 3)).isEqualTo(new BigDecimal("33.33"));
+    }
+
+    @Test
+    public void testOf_RejectsAmountsThatDoNotFitMinorUnits() {
+        assertThat(Money.of(new BigDecimal("12.345"))).isNull();
+        assertThat(Money.of(new BigDecimal("1E+3"))).isNull();
+        assertThat(Money.of(new BigDecimal("12345678901234567.8"))).isNull();
+        assertThat(Money.of(new BigDecimal("1234.5")).minorUnits()).isEqualTo(123_450);
+        assertThat(Money.perNight(new BigDecimal("12.345"), 2)).isEqualTo(new BigDecimal("6.17"));
+    }
+}
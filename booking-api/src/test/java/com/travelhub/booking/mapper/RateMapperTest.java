@@ -0,0 +1,107 @@
+package com.travelhub.booking.mapper;
+
+import com.travelhub.booking.config.MappingProperties;
+import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.dto.response.HotelAvailabilityDto;
+import com.travelhub.booking.dto.response.RateSearchResponseDto;
+import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
+import com.travelhub.connectors.nuitee.dto.response.HotelRate;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import com.travelhub.connectors.nuitee.dto.response.MinimalHotelData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateMapperTest {
+
+    private ForkJoinPool mappingPool;
+    private MappingProperties properties;
+
+    @BeforeEach
+    public void setUp() {
+        mappingPool = new ForkJoinPool(4);
+        properties = new MappingProperties();
+        properties.setParallelThreshold(100);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mappingPool.shutdown();
+    }
+
+    @Test
+    public void testToHotelsListRequest_PassesTheFiltersTheCatalogApplies() {
+        RateSearchRequestDto request = new RateSearchRequestDto();
+        request.setStarRating(List.of(4, 5));
+        request.setChainIds(List.of(12));
+        request.setHotelTypeIds(List.of(201, 204));
+        request.setFacilities(List.of("5", " 9"));
+        request.setStrictFacilityFiltering(true);
+
+        HotelsListRequest hotelsListRequest = new RateMapper().toHotelsListRequest(request);
+
+        assertThat(hotelsListRequest.getStarRating()).isEqualTo("4.0,5.0");
+        assertThat(hotelsListRequest.getChainIds()).isEqualTo("12");
+        assertThat(hotelsListRequest.getHotelTypeIds()).isEqualTo("201,204");
+        assertThat(hotelsListRequest.getFacilityIds()).isEqualTo("5,9");
+        assertThat(hotelsListRequest.getStrictFacilitiesFiltering()).isTrue();
+        assertThat(new RateMapper().toHotelsListRequest(new RateSearchRequestDto()).getStarRating()).isNull();
+    }
+
+    @Test
+    public void testToRateSearchResponseDto_ParallelMappingKeepsOrderAndMatchesSequential() {
+        HotelRatesResponse rates = rates(1000);
+        HotelsListResponse hotelsList = hotelsList(1000);
+
+        RateSearchResponseDto parallel = new RateMapper(mappingPool, properties)
+                .toRateSearchResponseDto(rates, hotelsList, new HotelDataMapper());
+        RateSearchResponseDto sequential = new RateMapper()
+                .toRateSearchResponseDto(rates, hotelsList, new HotelDataMapper());
+
+        assertThat(parallel.getHotels()).extracting(HotelAvailabilityDto::getHotelId)
+                .containsExactlyElementsOf(rates.getData().stream().map(HotelRate::getHotelId).toList());
+        assertThat(parallel.getHotels()).extracting(HotelAvailabilityDto::getName)
+                .containsExactlyElementsOf(sequential.getHotels().stream().map(HotelAvailabilityDto::getName).toList());
+    }
+
+    @Test
+    public void testToRateSearchResponseDto_BelowThresholdStaysOnCallingThread() {
+        ForkJoinPool unused = new ForkJoinPool(1);
+        unused.shutdown();
+
+        // A shut down pool would reject the task, so a result proves the mapping never went to the pool
+        RateSearchResponseDto response = new RateMapper(unused, properties)
+                .toRateSearchResponseDto(rates(99), hotelsList(99), new HotelDataMapper());
+
+        assertThat(response.getHotels()).hasSize(99);
+    }
+
+    private HotelRatesResponse rates(int hotels) {
+        HotelRatesResponse response = new HotelRatesResponse();
+        response.setData(IntStream.range(0, hotels).mapToObj(i -> {
+            HotelRate rate = new HotelRate();
+            rate.setHotelId("h" + i);
+            rate.setRoomTypes(List.of());
+            return rate;
+        }).toList());
+        return response;
+    }
+
+    private HotelsListResponse hotelsList(int hotels) {
+        HotelsListResponse response = new HotelsListResponse();
+        response.setData(IntStream.range(0, hotels).mapToObj(i -> {
+            MinimalHotelData hotel = new MinimalHotelData();
+            hotel.setId("h" + i);
+            hotel.setName("Hotel " + i);
+            return hotel;
+        }).toList());
+        return response;
+    }
+}
@@ -0,0 +1,65 @@
+package com.travelhub.booking.mapper;
+
+import com.travelhub.booking.dto.response.GroupedRateDto;
+import com.travelhub.booking.dto.response.RateDto;
+import com.travelhub.connectors.nuitee.dto.response.Rate;
+import com.travelhub.connectors.nuitee.dto.response.Room;
+import com.travelhub.connectors.nuitee.dto.response.RoomType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoomIndexTest {
+
+    @Test
+    public void testGet_FindsRoomsByIdAndSkipsRoomsWithoutId() {
+        RoomIndex index = RoomIndex.of(Arrays.asList(room(42, "Suite"), room(null, "Unknown"), null,
+                room(7, "Double")));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.get(7).getRoomName()).isEqualTo("Double");
+        assertThat(index.get(42).getRoomName()).isEqualTo("Suite");
+        assertThat(index.get(8)).isNull();
+        assertThat(RoomIndex.of(null).get(7)).isNull();
+    }
+
+    @Test
+    public void testGet_DuplicateIdKeepsFirstRoom() {
+        RoomIndex index = RoomIndex.of(List.of(room(7, "First"), room(3, "Other"), room(7, "Second")));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.get(7).getRoomName()).isEqualTo("First");
+    }
+
+    @Test
+    public void testGroupByOffer_EnrichesRatesFromIndex() {
+        Rate mapped = new Rate();
+        mapped.setName("Rate name");
+        mapped.setMappedRoomId(42L);
+        Rate unmapped = new Rate();
+        unmapped.setName("Unmapped");
+        unmapped.setMappedRoomId(99L);
+        RoomType roomType = new RoomType();
+        roomType.setOfferId("offer-1");
+        roomType.setRates(List.of(mapped, unmapped));
+
+        List<GroupedRateDto> offers = new RateMapper().groupByOffer(List.of(roomType),
+                RoomIndex.of(List.of(room(42, "Suite"))), 2);
+
+        List<RateDto> rates = offers.get(0).getRoomBreakdown().stream()
+                .flatMap(breakdown -> breakdown.getRates().stream()).toList();
+        assertThat(rates).extracting(RateDto::getName).containsExactly("Suite", "Unmapped");
+        assertThat(rates.get(0).getRoomSize()).isEqualTo(30);
+    }
+
+    private Room room(Integer id, String name) {
+        Room room = new Room();
+        room.setId(id);
+        room.setRoomName(name);
+        room.setRoomSizeSquare(30);
+        return room;
+    }
+}
@@ -0,0 +1,146 @@
+package com.travelhub.booking.repository;
+
+import com.travelhub.booking.model.Booking;
+import com.travelhub.booking.model.BookingSummary;
+import com.travelhub.booking.model.CatalogHotel;
+import com.travelhub.booking.service.impl.BookingSummaryProjector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+public class BookingSummaryRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 5, 1, 10, 0);
+
+    @Autowired
+    private BookingSummaryRepository bookingSummaryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CatalogHotelRepository catalogHotelRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private BookingSummaryProjector projector;
+
+    @BeforeEach
+    public void setUp() {
+        projector = new BookingSummaryProjector(bookingSummaryRepository, bookingRepository,
+                catalogHotelRepository);
+    }
+
+    @Test
+    public void testFindPageAfter_PagesAcrossEqualCheckinAndCreatedAt() {
+        // Unconfirmed bookings have no check-in yet and are listed first
+        persistSummary("p2", "", CREATED_AT);
+        persistSummary("p1", "", CREATED_AT);
+        persistSummary("c3", "2025-06-01", CREATED_AT.plusMinutes(1));
+        persistSummary("c2", "2025-06-01", CREATED_AT);
+        persistSummary("c1", "2025-06-01", CREATED_AT);
+        persistSummary("c4", "2025-06-02", CREATED_AT);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> listed = new ArrayList<>();
+        List<BookingSummary> page = bookingSummaryRepository.findFirstPage(PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(summary -> listed.add(summary.getId()));
+            BookingSummary last = page.get(page.size() - 1);
+            page = bookingSummaryRepository.findPageAfter(last.getCheckin(), last.getCreatedAt(), last.getId(),
+                    PageRequest.of(0, 2));
+        }
+
+        assertThat(listed).containsExactly("p1", "p2", "c1", "c2", "c3", "c4");
+    }
+
+    @Test
+    public void testProject_FollowsTheBookingUntilItFails() {
+        CatalogHotel hotel = new CatalogHotel();
+        hotel.setId("lp1");
+        hotel.setName("Riad Catalog");
+        hotel.setMainPhoto("https://img/lp1.jpg");
+        hotel.setThumbnail("https://img/lp1-thumb.jpg");
+        hotel.setSyncedAt(LocalDateTime.now());
+        entityManager.persist(hotel);
+        Booking booking = persistBooking("PENDING");
+
+        projector.project(booking);
+        BookingSummary pending = bookingSummaryRepository.findById(booking.getId()).orElseThrow();
+        assertThat(pending.getCheckin()).isEmpty();
+        assertThat(pending.getStatus()).isEqualTo("PENDING");
+
+        booking.setStatus("CONFIRMED");
+        booking.setCheckin("2025-06-01");
+        booking.setHotelId("lp1");
+        booking.setHotelName("Riad");
+        projector.project(bookingRepository.save(booking));
+        BookingSummary confirmed = bookingSummaryRepository.findById(booking.getId()).orElseThrow();
+        assertThat(confirmed.getCheckin()).isEqualTo("2025-06-01");
+        assertThat(confirmed.getHotelName()).isEqualTo("Riad");
+        assertThat(confirmed.getMainPhoto()).isEqualTo("https://img/lp1.jpg");
+        assertThat(confirmed.getThumbnail()).isEqualTo("https://img/lp1-thumb.jpg");
+
+        booking.setStatus("FAILED");
+        projector.project(bookingRepository.save(booking));
+        assertThat(bookingSummaryRepository.existsById(booking.getId())).isFalse();
+    }
+
+    @Test
+    public void testBackfill_RepairsMissingStaleAndFailedSummaries() {
+        Booking unsummarized = persistBooking("CONFIRMED");
+        Booking stale = persistBooking("CONFIRMED");
+        persistSummary(stale.getId(), "", CREATED_AT).setStatus("PENDING");
+        Booking failed = persistBooking("FAILED");
+        persistSummary(failed.getId(), "", CREATED_AT);
+        Booking current = persistBooking("PENDING");
+        projector.project(current);
+        entityManager.flush();
+        entityManager.clear();
+
+        projector.backfill();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(bookingSummaryRepository.findAll()).extracting(BookingSummary::getId, BookingSummary::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(unsummarized.getId(), "CONFIRMED"),
+                        tuple(stale.getId(), "CONFIRMED"),
+                        tuple(current.getId(), "PENDING"));
+    }
+
+    private BookingSummary persistSummary(String id, String checkin, LocalDateTime createdAt) {
+        BookingSummary summary = new BookingSummary();
+        summary.setId(id);
+        summary.setStatus("CONFIRMED");
+        summary.setCheckin(checkin);
+        summary.setCreatedAt(createdAt);
+        summary.setUpdatedAt(createdAt);
+        return entityManager.persist(summary);
+    }
+
+    private Booking persistBooking(String status) {
+        Booking booking = new Booking();
+        booking.setHolderFirstName("John");
+        booking.setHolderLastName("Doe");
+        booking.setHolderEmail("john.doe@example.com");
+        booking.setHolderPhone("1234567890");
+        booking.setSimulationId("sim_001");
+        booking.setBankingAccount("1234567890123456");
+        booking.setStatus(status);
+        return entityManager.persistAndFlush(booking);
+    }
+}
@@ -0,0 +1,43 @@
+package com.travelhub.booking.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BookingListCursorTest {
+
+    @Test
+    public void testDecode_ReturnsTheEncodedCursor() {
+        BookingListCursor cursor = new BookingListCursor("2025-06-01", LocalDateTime.of(2025, 5, 1, 10, 0, 0, 123456000),
+                "booking_1");
+
+        assertThat(BookingListCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    public void testDecode_KeepsTheEmptyCheckinOfUnconfirmedBookings() {
+        BookingListCursor cursor = new BookingListCursor("", LocalDateTime.of(2025, 5, 1, 10, 0), "booking_1");
+
+        assertThat(BookingListCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    public void testDecode_RejectsTokensItDidNotEncode() {
+        String wrongParts = Base64.getUrlEncoder().encodeToString("2025-06-01".getBytes(StandardCharsets.UTF_8));
+        String wrongDate = Base64.getUrlEncoder()
+                .encodeToString("2025-06-01\nyesterday\nbooking_1".getBytes(StandardCharsets.UTF_8));
+
+        for (String token : new String[] { "not base64!", wrongParts, wrongDate }) {
+            assertThatThrownBy(() -> BookingListCursor.decode(token))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+    }
+}
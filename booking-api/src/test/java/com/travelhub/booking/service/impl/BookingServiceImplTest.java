@@ -1,33 +1,53 @@
 package com.travelhub.booking.service.impl;
 
+import com.travelhub.booking.cache.BookingSimulationStore;
+import com.travelhub.booking.cache.HotelListingCache;
+import com.travelhub.booking.config.BookingProperties;
+import com.travelhub.booking.config.HotelContentCacheProperties;
 import com.travelhub.booking.dto.request.BookingInitiationRequestDto;
 import com.travelhub.booking.dto.request.HolderDto;
 import com.travelhub.booking.dto.request.PrebookRequestDto;
 import com.travelhub.booking.dto.response.BookResponseDto;
+import com.travelhub.booking.dto.response.BookingListResponseDto;
 import com.travelhub.booking.dto.response.PrebookResponseDto;
 import com.travelhub.booking.mapper.BookingMapper;
+import com.travelhub.booking.mapper.HotelDataMapper;
+import com.travelhub.booking.mapper.RateMapper;
 import com.travelhub.booking.model.Booking;
 import com.travelhub.booking.model.BookingSimulation;
+import com.travelhub.booking.model.BookingSummary;
 import com.travelhub.booking.repository.BookingRepository;
-import com.travelhub.booking.repository.BookingSimulationRepository;
+import com.travelhub.booking.repository.BookingSummaryRepository;
 import com.travelhub.booking.service.HotelDataService;
 import com.travelhub.connectors.nuitee.NuiteeApiClient;
+import com.travelhub.connectors.nuitee.NuiteeAsyncApiClient;
 import com.travelhub.connectors.nuitee.dto.request.BookRequest;
+import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
 import com.travelhub.connectors.nuitee.dto.request.PrebookRequest;
 import com.travelhub.connectors.nuitee.dto.response.BookResponse;
+import com.travelhub.connectors.nuitee.dto.response.BookingListResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import com.travelhub.connectors.nuitee.dto.response.MinimalHotelData;
 import com.travelhub.connectors.nuitee.dto.response.PrebookResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -46,11 +66,33 @@ public class BookingServiceImplTest {
     private BookingRepository bookingRepository;
 
     @Mock
-    private BookingSimulationRepository bookingSimulationRepository;
+    private BookingSimulationStore bookingSimulationStore;
 
     @Mock
     private HotelDataService hotelDataService;
 
+    @Mock
+    private NuiteeAsyncApiClient nuiteeAsyncApiClient;
+
+    @Spy
+    private BookingProperties bookingProperties = new BookingProperties();
+
+    @Mock
+    private BookingSubmissionPool bookingSubmissionPool;
+
+    @Mock
+    private BookingSummaryRepository bookingSummaryRepository;
+
+    @Mock
+    private BookingSummaryProjector bookingSummaryProjector;
+
+    @Spy
+    private HotelListingCache hotelListingCache = new HotelListingCache(new HotelContentCacheProperties(),
+            new SimpleMeterRegistry());
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -97,7 +139,7 @@ public class BookingServiceImplTest {
         when(bookingMapper.toPrebookRequest(requestDto)).thenReturn(connectorRequest);
         when(nuiteeApiClient.prebook(connectorRequest)).thenReturn(connectorResponse);
         when(bookingMapper.toPrebookResponseDto(connectorResponse)).thenReturn(responseDto);
-        when(bookingSimulationRepository.save(any(BookingSimulation.class))).thenReturn(savedSimulation);
+        when(bookingSimulationStore.save(any(BookingSimulation.class))).thenReturn(savedSimulation);
 
         // Act
         PrebookResponseDto result = bookingService.prebook(requestDto);
@@ -116,7 +158,7 @@ public class BookingServiceImplTest {
         verify(bookingMapper).toPrebookResponseDto(connectorResponse);
 
         ArgumentCaptor<BookingSimulation> simulationCaptor = ArgumentCaptor.forClass(BookingSimulation.class);
-        verify(bookingSimulationRepository).save(simulationCaptor.capture());
+        verify(bookingSimulationStore).save(simulationCaptor.capture());
         BookingSimulation capturedSimulation = simulationCaptor.getValue();
         assertThat(capturedSimulation.getTotalAmount()).isEqualByComparingTo(new BigDecimal("100.00"));
         assertThat(capturedSimulation.getCurrency()).isEqualTo("USD");
@@ -142,7 +184,7 @@ public class BookingServiceImplTest {
         simulation.setStatus("ACTIVE");
         simulation.setExpiresAt(LocalDateTime.now().plusMinutes(15));
 
-        when(bookingSimulationRepository.findById("sim_001")).thenReturn(Optional.of(simulation));
+        when(bookingSimulationStore.findById("sim_001")).thenReturn(Optional.of(simulation));
 
         // Act
         Booking result = bookingService.initiateBooking(requestDto);
@@ -198,7 +240,7 @@ public class BookingServiceImplTest {
         responseData.setStatus("CONFIRMED");
         responseDto.setData(responseData);
 
-        when(bookingSimulationRepository.findById("sim_001")).thenReturn(Optional.of(simulation));
+        when(bookingSimulationStore.findById("sim_001")).thenReturn(Optional.of(simulation));
         when(bookingRepository.save(any(Booking.class))).thenReturn(initialBooking); // First save
         when(bookingMapper.toBookRequest(eq(requestDto), eq("prebook_123"), eq("db_id_123")))
                 .thenReturn(connectorRequest);
@@ -212,13 +254,88 @@ public class BookingServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getData().getClientReference()).isEqualTo("db_id_123");
 
-        verify(bookingSimulationRepository).findById("sim_001");
+        verify(bookingSimulationStore).findById("sim_001");
         // Should be saved twice: once initially (PENDING), once after connector
         // response (CONFIRMED)
         verify(bookingRepository, times(2)).save(any(Booking.class));
         verify(nuiteeApiClient).book(connectorRequest);
     }
 
+    @Test
+    public void testSubmitBookingAsync_ReturnsPendingAndConfirmsOnWorker() {
+        BookingInitiationRequestDto requestDto = submissionRequest();
+        Booking pending = new Booking();
+        pending.setId("db_id_123");
+        pending.setStatus("PENDING");
+        BookRequest connectorRequest = new BookRequest();
+        BookResponse.BookData bookData = new BookResponse.BookData();
+        bookData.setBookingId("LITE_123");
+        bookData.setStatus("CONFIRMED");
+        BookResponse connectorResponse = new BookResponse();
+        connectorResponse.setData(bookData);
+        when(bookingSimulationStore.findById("sim_001")).thenReturn(Optional.of(activeSimulation()));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(pending);
+        when(bookingMapper.toBookRequest(requestDto, "prebook_123", "db_id_123")).thenReturn(connectorRequest);
+        when(nuiteeApiClient.book(connectorRequest)).thenReturn(connectorResponse);
+
+        BookResponseDto result = bookingService.submitBookingAsync(requestDto);
+
+        assertThat(result.getData().getClientReference()).isEqualTo("db_id_123");
+        assertThat(result.getData().getStatus()).isEqualTo("PENDING");
+        verifyNoInteractions(nuiteeApiClient);
+
+        ArgumentCaptor<Runnable> submission = ArgumentCaptor.forClass(Runnable.class);
+        verify(bookingSubmissionPool).submit(submission.capture());
+        submission.getValue().run();
+
+        assertThat(pending.getStatus()).isEqualTo("CONFIRMED");
+        assertThat(pending.getBookingId()).isEqualTo("LITE_123");
+    }
+
+    @Test
+    public void testSubmitBookingAsync_ReturnsPendingWhenWorkerConfirmsFirst() {
+        BookingInitiationRequestDto requestDto = submissionRequest();
+        Booking pending = new Booking();
+        pending.setId("db_id_123");
+        pending.setStatus("PENDING");
+        BookRequest connectorRequest = new BookRequest();
+        BookResponse.BookData bookData = new BookResponse.BookData();
+        bookData.setBookingId("LITE_123");
+        bookData.setStatus("CONFIRMED");
+        BookResponse connectorResponse = new BookResponse();
+        connectorResponse.setData(bookData);
+        when(bookingSimulationStore.findById("sim_001")).thenReturn(Optional.of(activeSimulation()));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(pending);
+        when(bookingMapper.toBookRequest(requestDto, "prebook_123", "db_id_123")).thenReturn(connectorRequest);
+        when(nuiteeApiClient.book(connectorRequest)).thenReturn(connectorResponse);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(bookingSubmissionPool).submit(any());
+
+        BookResponseDto result = bookingService.submitBookingAsync(requestDto);
+
+        assertThat(pending.getStatus()).isEqualTo("CONFIRMED");
+        assertThat(result.getData().getStatus()).isEqualTo("PENDING");
+        assertThat(result.getData().getClientReference()).isEqualTo("db_id_123");
+    }
+
+    @Test
+    public void testSubmitBookingAsync_PoolFullMarksBookingFailed() {
+        Booking pending = new Booking();
+        pending.setId("db_id_123");
+        pending.setStatus("PENDING");
+        when(bookingSimulationStore.findById("sim_001")).thenReturn(Optional.of(activeSimulation()));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(pending);
+        doThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE)).when(bookingSubmissionPool)
+                .submit(any());
+
+        assertThrows(ResponseStatusException.class, () -> bookingService.submitBookingAsync(submissionRequest()));
+
+        assertThat(pending.getStatus()).isEqualTo("FAILED");
+        verifyNoInteractions(nuiteeApiClient);
+    }
+
     @Test
     public void testGetBooking_Success() {
         // Arrange
@@ -270,4 +387,136 @@ public class BookingServiceImplTest {
         verify(nuiteeApiClient).getBooking("LITE_123");
         verify(hotelDataService).getHotelDetails("hotel_123", "fr");
     }
+
+    @Test
+    public void testListBookings_PagesWithCursorAfterLastBooking() {
+        BookingSummary first = summary("b1", "2025-06-01", null);
+        BookingSummary second = summary("b2", "2025-06-03", null);
+        when(bookingSummaryRepository.findFirstPage(any()))
+                .thenReturn(List.of(first, second, summary("b3", "2025-06-04", null)));
+        when(bookingSummaryRepository.findPageAfter(any(), any(), any(), any()))
+                .thenReturn(List.of(summary("b3", "2025-06-04", null)));
+        stubListMapping();
+
+        BookingListResponseDto page = bookingService.listBookings(null, 2);
+
+        assertThat(page.getData()).extracting(BookingListResponseDto.BookingDataDto::getClientReference)
+                .containsExactly("b1", "b2");
+        assertThat(page.getNextCursor()).isNotNull();
+        verify(bookingSummaryRepository).findFirstPage(PageRequest.of(0, 3));
+
+        BookingListResponseDto last = bookingService.listBookings(page.getNextCursor(), 2);
+
+        assertThat(last.getData()).extracting(BookingListResponseDto.BookingDataDto::getClientReference)
+                .containsExactly("b3");
+        assertThat(last.getNextCursor()).isNull();
+        verify(bookingSummaryRepository).findPageAfter("2025-06-03", second.getCreatedAt(), "b2",
+                PageRequest.of(0, 3));
+        // Pages are read from the summaries alone
+        verifyNoInteractions(bookingRepository, nuiteeAsyncApiClient);
+    }
+
+    @Test
+    public void testListBookings_EntityStatusWins() {
+        when(bookingRepository.findByStatusNotOrderByCheckinAscCreatedAtAsc("FAILED"))
+                .thenReturn(List.of(booking("b1", null), booking("b2", null)));
+        stubListMapping();
+        BookingListResponse.BookingData cancelled = new BookingListResponse.BookingData();
+        cancelled.setClientReference("b1");
+        cancelled.setStatus("CANCELLED");
+        BookingListResponse connectorResponse = new BookingListResponse();
+        connectorResponse.setData(List.of(cancelled));
+        when(nuiteeAsyncApiClient.listBookings("b1")).thenReturn(CompletableFuture.completedFuture(connectorResponse));
+
+        BookingListResponseDto result = bookingService.listBookings();
+
+        assertThat(result.getData()).extracting(BookingListResponseDto.BookingDataDto::getStatus)
+                .containsExactly("CONFIRMED", "CONFIRMED");
+        assertThat(result.getData()).extracting(BookingListResponseDto.BookingDataDto::getHolderLastName)
+                .containsOnly("Doe");
+    }
+
+    @Test
+    public void testListBookings_LooksUpOnlyMissingHotelImagesOnceWithoutWritingSummaries() {
+        bookingProperties.setHotelIdsBatchSize(2);
+        BookingSummary withImages = summary("b2", "2025-06-02", "h2");
+        withImages.setThumbnail("https://stored/h2.jpg");
+        when(bookingSummaryRepository.findFirstPage(any())).thenReturn(List.of(summary("b1", "2025-06-01", "h1"),
+                withImages, summary("b3", "2025-06-03", "h3"), summary("b4", "2025-06-04", "h1")));
+        when(nuiteeAsyncApiClient.getHotels(any(HotelsListRequest.class))).thenAnswer(invocation -> {
+            HotelsListRequest request = invocation.getArgument(0);
+            HotelsListResponse response = new HotelsListResponse();
+            response.setData(java.util.Arrays.stream(request.getHotelIds().split(",")).map(id -> {
+                MinimalHotelData hotel = new MinimalHotelData();
+                hotel.setId(id);
+                hotel.setThumbnail("https://img/" + id + ".jpg");
+                return hotel;
+            }).toList());
+            return CompletableFuture.completedFuture(response);
+        });
+        stubListMapping();
+
+        BookingListResponseDto result = bookingService.listBookings(null, null);
+        bookingService.listBookings(null, null);
+
+        assertThat(result.getData()).extracting(data -> data.getHotel().getThumbnail()).containsExactly(
+                "https://img/h1.jpg", "https://stored/h2.jpg", "https://img/h3.jpg", "https://img/h1.jpg");
+        ArgumentCaptor<HotelsListRequest> hotelRequests = ArgumentCaptor.forClass(HotelsListRequest.class);
+        verify(nuiteeAsyncApiClient).getHotels(hotelRequests.capture());
+        assertThat(hotelRequests.getValue().getHotelIds().split(",")).containsExactlyInAnyOrder("h1", "h3");
+        verify(nuiteeAsyncApiClient, never()).listBookings(anyString());
+        verify(bookingSummaryRepository, times(2)).findFirstPage(any());
+        verifyNoMoreInteractions(bookingSummaryRepository);
+    }
+
+    private BookingInitiationRequestDto submissionRequest() {
+        HolderDto holder = new HolderDto();
+        holder.setFirstName("John");
+        holder.setLastName("Doe");
+        BookingInitiationRequestDto requestDto = new BookingInitiationRequestDto();
+        requestDto.setSimulationId("sim_001");
+        requestDto.setHolder(holder);
+        return requestDto;
+    }
+
+    private BookingSimulation activeSimulation() {
+        BookingSimulation simulation = new BookingSimulation();
+        simulation.setId("sim_001");
+        simulation.setStatus("ACTIVE");
+        simulation.setExpiresAt(LocalDateTime.now().plusMinutes(30));
+        simulation.setConnectorPrebookIds(List.of("prebook_123"));
+        return simulation;
+    }
+
+    private void stubListMapping() {
+        BookingMapper mapper = new BookingMapper(new RateMapper(), new HotelDataMapper());
+        when(bookingMapper.toBookingListResponseDto(any()))
+                .thenAnswer(invocation -> mapper.toBookingListResponseDto(invocation.getArgument(0)));
+        when(bookingMapper.mergeBookingEntityData(any(), any())).thenAnswer(
+                invocation -> mapper.mergeBookingEntityData(invocation.getArgument(0), invocation.getArgument(1)));
+        when(bookingMapper.toBookingData(any(BookingSummary.class)))
+                .thenAnswer(invocation -> mapper.toBookingData((BookingSummary) invocation.getArgument(0)));
+        when(nuiteeAsyncApiClient.listBookings(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(new BookingListResponse()));
+    }
+
+    private BookingSummary summary(String id, String checkin, String hotelId) {
+        BookingSummary summary = new BookingSummary();
+        summary.setId(id);
+        summary.setCheckin(checkin);
+        summary.setHotelId(hotelId);
+        summary.setStatus("CONFIRMED");
+        summary.setCreatedAt(LocalDateTime.of(2025, 5, 1, 10, 0).plusMinutes(id.hashCode() % 60));
+        return summary;
+    }
+
+    private Booking booking(String id, String hotelId) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setStatus("CONFIRMED");
+        booking.setHotelId(hotelId);
+        booking.setHolderFirstName("John");
+        booking.setHolderLastName("Doe");
+        return booking;
+    }
 }
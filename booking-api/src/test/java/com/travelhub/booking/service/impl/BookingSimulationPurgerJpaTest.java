@@ -0,0 +1,92 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.config.SimulationStoreProperties;
+import com.travelhub.booking.model.BookingSimulation;
+import com.travelhub.booking.repository.BookingSimulationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class BookingSimulationPurgerJpaTest {
+
+    @Autowired
+    private BookingSimulationRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BookingSimulationPurger purger;
+
+    @BeforeEach
+    public void setUp() {
+        SimulationStoreProperties properties = new SimulationStoreProperties();
+        properties.setPurgeBatchSize(2);
+        purger = new BookingSimulationPurger(repository, properties, new TransactionTemplate(transactionManager),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testPurgeExpired_DeletesExpiredSimulationsAndTheirPrebookIds() {
+        LocalDateTime now = LocalDateTime.now();
+        String live = persist(now.plusMinutes(10), "prebook_live");
+        persist(now.minusMinutes(1), "prebook_1", "prebook_2");
+        persist(now.minusMinutes(5), "prebook_3");
+        persist(now.minusHours(1), "prebook_4");
+        entityManager.clear();
+
+        int purged = purger.purgeExpired();
+        entityManager.clear();
+
+        assertThat(purged).isEqualTo(3);
+        assertThat(repository.findAll()).extracting(BookingSimulation::getId).containsExactly(live);
+        assertThat(prebookIds()).containsExactly("prebook_live");
+        assertThat(repository.findWithPrebookIdsById(live).orElseThrow().getConnectorPrebookIds())
+                .containsExactly("prebook_live");
+    }
+
+    @Test
+    public void testPurgeExpired_KeepsLiveSimulations() {
+        persist(LocalDateTime.now().plusMinutes(30), "prebook_1");
+        entityManager.clear();
+
+        assertThat(purger.purgeExpired()).isZero();
+        entityManager.clear();
+
+        assertThat(repository.count()).isEqualTo(1);
+        assertThat(prebookIds()).containsExactly("prebook_1");
+    }
+
+    private String persist(LocalDateTime expiresAt, String... prebookIds) {
+        BookingSimulation simulation = new BookingSimulation();
+        simulation.setTotalAmount(new BigDecimal("100.00"));
+        simulation.setTotalIncludedTaxes(new BigDecimal("10.00"));
+        simulation.setTotalExcludedTaxes(new BigDecimal("5.00"));
+        simulation.setCurrency("EUR");
+        simulation.setStatus("ACTIVE");
+        simulation.setExpiresAt(expiresAt);
+        simulation.setConnectorPrebookIds(List.of(prebookIds));
+        return entityManager.persistAndFlush(simulation).getId();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> prebookIds() {
+        return entityManager.getEntityManager()
+                .createNativeQuery("select prebook_id from simulation_prebook_ids order by prebook_id")
+                .getResultList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.config.SimulationStoreProperties;
+import com.travelhub.booking.repository.BookingSimulationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BookingSimulationPurgerTest {
+
+    private BookingSimulationRepository repository;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private BookingSimulationPurger purger;
+
+    @BeforeEach
+    public void setUp() {
+        repository = mock(BookingSimulationRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        SimulationStoreProperties properties = new SimulationStoreProperties();
+        properties.setPurgeBatchSize(2);
+        purger = new BookingSimulationPurger(repository, properties, new TransactionTemplate(transactionManager),
+                meterRegistry);
+    }
+
+    @Test
+    public void testPurgeExpired_DeletesInBatchesUntilNoneLeft() {
+        when(repository.findExpiredIds(any(), any(Pageable.class)))
+                .thenReturn(List.of("s1", "s2"))
+                .thenReturn(List.of("s3"));
+        when(repository.deletePrebookIds(any())).thenReturn(2, 1);
+        when(repository.deleteAllByIdIn(any())).thenReturn(2, 1);
+
+        int purged = purger.purgeExpired();
+
+        assertThat(purged).isEqualTo(3);
+        verify(repository).deleteAllByIdIn(List.of("s1", "s2"));
+        verify(repository).deleteAllByIdIn(List.of("s3"));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(meterRegistry.counter("booking.simulations.purged", "table", "booking_simulations").count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.timer("booking.simulations.purge").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPurgeExpired_NothingExpired() {
+        when(repository.findExpiredIds(any(), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(purger.purgeExpired()).isZero();
+        verify(repository, never()).deleteAllByIdIn(any());
+    }
+}
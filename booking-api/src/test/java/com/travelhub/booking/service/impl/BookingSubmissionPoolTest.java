@@ -0,0 +1,68 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.config.BookingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BookingSubmissionPoolTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BookingSubmissionPool pool;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        release.countDown();
+        pool.destroy();
+    }
+
+    @Test
+    public void testSubmit_RefusesOnceWorkersAndQueueAreBusy() {
+        pool = pool(1, 1);
+        pool.submit(this::awaitRelease);
+        pool.submit(this::awaitRelease);
+
+        assertThatThrownBy(() -> pool.submit(this::awaitRelease))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    public void testDestroy_DrainsQueuedSubmissions() throws InterruptedException {
+        pool = pool(1, 5);
+        CountDownLatch done = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            pool.submit(done::countDown);
+        }
+
+        pool.destroy();
+
+        assertThat(done.await(0, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    private BookingSubmissionPool pool(int concurrency, int queueCapacity) {
+        BookingProperties properties = new BookingProperties();
+        properties.setSubmitConcurrency(concurrency);
+        properties.setSubmitQueueCapacity(queueCapacity);
+        properties.setSubmitDrainTimeout(Duration.ofSeconds(5));
+        return new BookingSubmissionPool(properties, new SimpleMeterRegistry());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
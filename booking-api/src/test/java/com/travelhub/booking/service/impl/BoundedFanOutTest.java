@@ -0,0 +1,82 @@
+package com.travelhub.booking.service.impl;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedFanOutTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    public void testAwait_KeepsAtMostConcurrencyCallsInFlight() {
+        Map<Integer, CompletableFuture<String>> started = new ConcurrentHashMap<>();
+
+        BoundedFanOut<Integer, String> fanOut = BoundedFanOut.start(items(4), 2,
+                item -> started.computeIfAbsent(item, key -> new CompletableFuture<>()), (item, e) -> {
+                });
+
+        assertThat(started).containsOnlyKeys(0, 1);
+        started.get(1).complete("one");
+        assertThat(started).containsOnlyKeys(0, 1, 2);
+        started.get(0).complete("zero");
+        started.get(2).complete("two");
+        started.get(3).complete(null);
+        assertThat(fanOut.await(Deadline.after(TIMEOUT))).containsOnlyKeys(0, 1, 2);
+    }
+
+    @Test
+    public void testAwait_CallsCompletingAtOnceDoNotOverflowTheStack() {
+        // Calls that complete at once are looped over, not recursed into
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        Map<Integer, String> results = BoundedFanOut.<Integer, String>start(items(20_000), 1,
+                item -> {
+                    if (item % 2 == 0) {
+                        return CompletableFuture.completedFuture("item-" + item);
+                    }
+                    throw new IllegalStateException("rejected");
+                }, (item, e) -> failures.add(e))
+                .await(Deadline.after(TIMEOUT));
+
+        assertThat(results).hasSize(10_000);
+        assertThat(failures).hasSize(10_000);
+    }
+
+    @Test
+    public void testAwait_OpenCircuitSkipsTheRemainingItems() {
+        CallNotPermittedException open = CallNotPermittedException
+                .createCallNotPermittedException(CircuitBreaker.ofDefaults("nuiteeHotels"));
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> failed = new ArrayList<>();
+
+        Map<Integer, String> results = BoundedFanOut.<Integer, String>start(items(100), 1,
+                item -> {
+                    calls.incrementAndGet();
+                    return item < 3
+                            ? CompletableFuture.completedFuture("item-" + item)
+                            : CompletableFuture.failedFuture(open);
+                }, (item, e) -> failed.add(item))
+                .await(Deadline.after(TIMEOUT));
+
+        assertThat(results).containsOnlyKeys(0, 1, 2);
+        assertThat(calls).hasValue(4);
+        assertThat(failed).containsExactly(3);
+    }
+
+    private List<Integer> items(int count) {
+        return IntStream.range(0, count).boxed().toList();
+    }
+}
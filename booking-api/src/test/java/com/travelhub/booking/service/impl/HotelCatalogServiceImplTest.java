@@ -0,0 +1,210 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.config.CatalogProperties;
+import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.geo.HotelGeoIndex;
+import com.travelhub.booking.mapper.CatalogHotelMapper;
+import com.travelhub.booking.model.CatalogHotel;
+import com.travelhub.booking.model.CatalogPlace;
+import com.travelhub.booking.model.CatalogSyncState;
+import com.travelhub.booking.repository.CatalogHotelRepository;
+import com.travelhub.booking.repository.CatalogPlaceRepository;
+import com.travelhub.booking.repository.CatalogSyncStateRepository;
+import com.travelhub.connectors.nuitee.NuiteeApiClient;
+import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import com.travelhub.connectors.nuitee.dto.response.MinimalHotelData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class HotelCatalogServiceImplTest {
+
+    private NuiteeApiClient nuiteeApiClient;
+    private CatalogHotelRepository catalogHotelRepository;
+    private CatalogPlaceRepository catalogPlaceRepository;
+    private CatalogSyncStateRepository catalogSyncStateRepository;
+    private CatalogProperties properties;
+    private HotelGeoIndex hotelGeoIndex;
+    private HotelCatalogServiceImpl catalogService;
+
+    @BeforeEach
+    public void setUp() {
+        nuiteeApiClient = mock(NuiteeApiClient.class);
+        catalogHotelRepository = mock(CatalogHotelRepository.class);
+        catalogPlaceRepository = mock(CatalogPlaceRepository.class);
+        catalogSyncStateRepository = mock(CatalogSyncStateRepository.class);
+        properties = new CatalogProperties();
+        properties.setEnabled(true);
+        properties.setPageSize(2);
+        hotelGeoIndex = new HotelGeoIndex();
+        catalogService = new HotelCatalogServiceImpl(nuiteeApiClient, catalogHotelRepository, catalogPlaceRepository,
+                catalogSyncStateRepository, new CatalogHotelMapper(), properties, hotelGeoIndex);
+    }
+
+    @Test
+    public void testSyncCatalog_PagesFromWatermarkAndAppliesDeletions() {
+        LocalDateTime watermark = LocalDateTime.of(2025, 5, 1, 10, 0, 0);
+        when(catalogSyncStateRepository.findById("MA")).thenReturn(Optional.of(new CatalogSyncState("MA", watermark)));
+        MinimalHotelData deleted = hotel("h3", "Marrakech", 3, 7.0);
+        deleted.setDeletedAt("2025-05-02");
+        when(nuiteeApiClient.getHotels(any(HotelsListRequest.class)))
+                .thenReturn(page(hotel("h1", "Marrakech", 4, 8.5), hotel("h2", "Marrakech", 5, 9.1)))
+                .thenReturn(page(deleted));
+
+        int received = catalogService.syncCatalog();
+
+        assertThat(received).isEqualTo(3);
+        ArgumentCaptor<HotelsListRequest> requests = ArgumentCaptor.forClass(HotelsListRequest.class);
+        verify(nuiteeApiClient, times(2)).getHotels(requests.capture());
+        assertThat(requests.getAllValues()).extracting(HotelsListRequest::getOffset).containsExactly(0, 2);
+        assertThat(requests.getValue().getLastUpdatedAt()).isEqualTo("2025-05-01T10:00:00");
+        verify(catalogHotelRepository).deleteAllById(java.util.Set.of("h3"));
+        verify(catalogSyncStateRepository).save(any(CatalogSyncState.class));
+    }
+
+    @Test
+    public void testFindHotels_NotSyncedYet_FallsBackToRemote() {
+        when(catalogSyncStateRepository.existsById("MA")).thenReturn(false);
+
+        assertThat(catalogService.findHotels(cityRequest())).isEmpty();
+    }
+
+    @Test
+    public void testFindHotels_FiltersCityLocallyAndSortsByRating() {
+        when(catalogSyncStateRepository.existsById("MA")).thenReturn(true);
+        when(catalogHotelRepository.findByCountryCodeIgnoreCaseAndCityIgnoreCase("MA", "Marrakech"))
+                .thenReturn(List.of(catalogHotel("h1", 3, 7.5, ",1,2,"), catalogHotel("h2", 4, 9.0, ",2,"),
+                        catalogHotel("h3", 4, 8.0, ",1,2,")));
+        RateSearchRequestDto request = cityRequest();
+        request.setStarRating(List.of(4));
+        request.setFacilities(List.of("1"));
+
+        HotelsListResponse response = catalogService.findHotels(request).orElseThrow();
+
+        assertThat(response.getHotelIds()).containsExactly("h3");
+        verifyNoInteractions(nuiteeApiClient);
+    }
+
+    @Test
+    public void testFindHotels_PlaceKeepsRecordedOrder() {
+        when(catalogSyncStateRepository.existsById("MA")).thenReturn(true);
+        CatalogPlace place = new CatalogPlace();
+        place.setPlaceId("ChIJ");
+        place.setHotelIds(List.of("h2", "h1"));
+        place.setResolvedAt(LocalDateTime.now());
+        when(catalogPlaceRepository.findById("ChIJ")).thenReturn(Optional.of(place));
+        when(catalogHotelRepository.findAllById(List.of("h2", "h1")))
+                .thenReturn(List.of(catalogHotel("h1", 3, 9.0, null), catalogHotel("h2", 4, 7.0, null)));
+        RateSearchRequestDto request = new RateSearchRequestDto();
+        request.setPlaceId("ChIJ");
+
+        HotelsListResponse response = catalogService.findHotels(request).orElseThrow();
+
+        assertThat(response.getHotelIds()).containsExactly("h2", "h1");
+        assertThat(response.getPlace().getPlaceId()).isEqualTo("ChIJ");
+    }
+
+    @Test
+    public void testFindHotels_RadiusPicksIdsFromGeoIndexNearestFirst() {
+        when(catalogSyncStateRepository.existsById("MA")).thenReturn(true);
+        hotelGeoIndex.put("near", 31.6300, -7.9900);
+        hotelGeoIndex.put("closer", 31.6296, -7.9812);
+        hotelGeoIndex.put("far", 33.5731, -7.5898);
+        when(catalogHotelRepository.findAllById(List.of("closer", "near")))
+                .thenReturn(List.of(catalogHotel("near", 3, 9.0, null, 31.6300, -7.9900),
+                        catalogHotel("closer", 4, 7.0, null, 31.6296, -7.9812)));
+        RateSearchRequestDto request = new RateSearchRequestDto();
+        request.setLatitude(BigDecimal.valueOf(31.6295));
+        request.setLongitude(BigDecimal.valueOf(-7.9811));
+        request.setRadius(5000);
+
+        HotelsListResponse response = catalogService.findHotels(request).orElseThrow();
+
+        assertThat(response.getHotelIds()).containsExactly("closer", "near");
+        verify(catalogHotelRepository, never()).findByCountryCodeIgnoreCase(any());
+    }
+
+    @Test
+    public void testRecordHotelsList_IndexesCoordinates() {
+        MinimalHotelData hotel = hotel("h1", "Marrakech", 4, 8.5);
+        hotel.setLatitude(BigDecimal.valueOf(31.6295));
+        hotel.setLongitude(BigDecimal.valueOf(-7.9811));
+        RateSearchRequestDto request = cityRequest();
+
+        catalogService.recordHotelsList(request, page(hotel));
+
+        assertThat(hotelGeoIndex.nearest(31.63, -7.98, 1)).extracting(HotelGeoIndex.GeoHit::hotelId)
+                .containsExactly("h1");
+        verifyNoInteractions(catalogPlaceRepository);
+    }
+
+    @Test
+    public void testRecordPlace_OnlyForUnfilteredPlaceSearch() {
+        RateSearchRequestDto request = new RateSearchRequestDto();
+        request.setPlaceId("ChIJ");
+        request.setMinRating(BigDecimal.valueOf(8));
+
+        catalogService.recordHotelsList(request, page(hotel("h1", "Marrakech", 4, 8.5)));
+        verifyNoInteractions(catalogPlaceRepository);
+
+        request.setMinRating(null);
+        catalogService.recordHotelsList(request, page(hotel("h1", "Marrakech", 4, 8.5)));
+        ArgumentCaptor<CatalogPlace> place = ArgumentCaptor.forClass(CatalogPlace.class);
+        verify(catalogPlaceRepository).save(place.capture());
+        assertThat(place.getValue().getHotelIds()).containsExactly("h1");
+    }
+
+    private RateSearchRequestDto cityRequest() {
+        RateSearchRequestDto request = new RateSearchRequestDto();
+        request.setCityName("Marrakech");
+        return request;
+    }
+
+    private HotelsListResponse page(MinimalHotelData... hotels) {
+        HotelsListResponse response = new HotelsListResponse();
+        response.setData(new ArrayList<>(List.of(hotels)));
+        return response;
+    }
+
+    private MinimalHotelData hotel(String id, String city, int stars, double rating) {
+        MinimalHotelData hotel = new MinimalHotelData();
+        hotel.setId(id);
+        hotel.setName("Hotel " + id);
+        hotel.setCity(city);
+        hotel.setCountryCode("MA");
+        hotel.setStars(stars);
+        hotel.setRating(rating);
+        return hotel;
+    }
+
+    private CatalogHotel catalogHotel(String id, int stars, double rating, String facilityIds, double latitude,
+            double longitude) {
+        CatalogHotel hotel = catalogHotel(id, stars, rating, facilityIds);
+        hotel.setLatitude(latitude);
+        hotel.setLongitude(longitude);
+        return hotel;
+    }
+
+    private CatalogHotel catalogHotel(String id, int stars, double rating, String facilityIds) {
+        CatalogHotel hotel = new CatalogHotel();
+        hotel.setId(id);
+        hotel.setName("Hotel " + id);
+        hotel.setCity("Marrakech");
+        hotel.setCountryCode("MA");
+        hotel.setStars(stars);
+        hotel.setRating(rating);
+        hotel.setFacilityIds(facilityIds);
+        return hotel;
+    }
+}
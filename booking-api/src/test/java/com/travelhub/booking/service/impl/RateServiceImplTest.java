@@ -0,0 +1,254 @@
+package com.travelhub.booking.service.impl;
+
+import com.travelhub.booking.cache.HotelContentCache;
+import com.travelhub.booking.cache.SearchResultCache;
+import com.travelhub.booking.config.HotelContentCacheProperties;
+import com.travelhub.booking.config.SearchResultCacheProperties;
+import com.travelhub.booking.config.RateProperties;
+import com.travelhub.booking.dto.request.HotelRateRequestDto;
+import com.travelhub.booking.dto.request.RateSearchRequestDto;
+import com.travelhub.booking.dto.response.HotelAvailabilityDto;
+import com.travelhub.booking.dto.response.HotelRateResponseDto;
+import com.travelhub.booking.dto.response.RateSearchResponseDto;
+import com.travelhub.booking.mapper.HotelDataMapper;
+import com.travelhub.booking.mapper.RateMapper;
+import com.travelhub.booking.service.HotelCatalogService;
+import com.travelhub.connectors.nuitee.NuiteeApiClient;
+import com.travelhub.connectors.nuitee.NuiteeAsyncApiClient;
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
+import com.travelhub.connectors.nuitee.dto.response.HotelData;
+import com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelRate;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class RateServiceImplTest {
+
+    private NuiteeApiClient nuiteeApiClient;
+    private NuiteeAsyncApiClient nuiteeAsyncApiClient;
+    private RateProperties rateProperties;
+    private RateServiceImpl rateService;
+
+    @BeforeEach
+    public void setUp() {
+        nuiteeApiClient = mock(NuiteeApiClient.class);
+        nuiteeAsyncApiClient = mock(NuiteeAsyncApiClient.class);
+        rateProperties = new RateProperties();
+        rateProperties.setHotelRatesDeadline(Duration.ofMillis(500));
+        rateService = new RateServiceImpl(nuiteeApiClient, nuiteeAsyncApiClient, new RateMapper(),
+                new HotelDataMapper(), rateProperties,
+                new HotelContentCache(new HotelContentCacheProperties(), new SimpleMeterRegistry()),
+                new SearchResultCache(new SearchResultCacheProperties(), new SimpleMeterRegistry(), Runnable::run),
+                mock(HotelCatalogService.class), Runnable::run);
+    }
+
+    @Test
+    public void testGetHotelRates_CombinesDetailsAndRates() {
+        HotelData hotelData = new HotelData();
+        hotelData.setId("lp1a92f");
+        hotelData.setName("Riad");
+        HotelDetailsResponse details = new HotelDetailsResponse();
+        details.setData(hotelData);
+        when(nuiteeAsyncApiClient.getHotelDetails(eq("lp1a92f"), any(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(details));
+        when(nuiteeAsyncApiClient.retrieveHotelRates(any(HotelRatesRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(new HotelRatesResponse()));
+
+        HotelRateResponseDto response = rateService.getHotelRates("lp1a92f", request());
+
+        assertThat(response.getName()).isEqualTo("Riad");
+        assertThat(response.getPhaseTimings()).containsKeys("details", "rates", "mapping", "total");
+    }
+
+    @Test
+    public void testGetHotelRates_DetailsFailure_ReturnsRatesWithoutDetails() {
+        when(nuiteeAsyncApiClient.getHotelDetails(eq("lp1a92f"), any(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null)));
+        when(nuiteeAsyncApiClient.retrieveHotelRates(any(HotelRatesRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(new HotelRatesResponse()));
+
+        HotelRateResponseDto response = rateService.getHotelRates("lp1a92f", request());
+
+        assertThat(response.getHotelId()).isEqualTo("lp1a92f");
+        assertThat(response.getName()).isNull();
+        assertThat(response.getGroupedRates()).isEmpty();
+    }
+
+    @Test
+    public void testGetHotelRates_DetailsTimeout_ReturnsRatesWithinDeadline() {
+        when(nuiteeAsyncApiClient.getHotelDetails(eq("lp1a92f"), any(), anyString(), any()))
+                .thenReturn(new CompletableFuture<>());
+        when(nuiteeAsyncApiClient.retrieveHotelRates(any(HotelRatesRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(new HotelRatesResponse()));
+
+        HotelRateResponseDto response = rateService.getHotelRates("lp1a92f", request());
+
+        assertThat(response.getHotelId()).isEqualTo("lp1a92f");
+        assertThat(response.getPhaseTimings()).doesNotContainKey("details");
+    }
+
+    @Test
+    public void testGetHotelRates_RatesTimeout_ThrowsAndCancelsRates() {
+        CompletableFuture<HotelDetailsResponse> details = new CompletableFuture<>();
+        CompletableFuture<HotelRatesResponse> rates = new CompletableFuture<>();
+        when(nuiteeAsyncApiClient.getHotelDetails(eq("lp1a92f"), any(), anyString(), any())).thenReturn(details);
+        when(nuiteeAsyncApiClient.retrieveHotelRates(any(HotelRatesRequest.class))).thenReturn(rates);
+
+        assertThrows(ResourceAccessException.class, () -> rateService.getHotelRates("lp1a92f", request()));
+        assertThat(rates).isCancelled();
+        // Left running to warm the hotel content cache
+        assertThat(details).isNotDone();
+    }
+
+    @Test
+    public void testSearchRates_PartialResultIsReturnedButNotCached() {
+        HotelsListResponse hotelsList = new HotelsListResponse();
+        hotelsList.setHotelIds(List.of("h1", "h2", "h3"));
+        when(nuiteeApiClient.getHotels(any(HotelsListRequest.class))).thenReturn(hotelsList);
+        HotelRatesResponse partial = rates("h1", "h2");
+        partial.setFailedChunks(1);
+        when(nuiteeAsyncApiClient.retrieveHotelRates(any(HotelRatesRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(partial))
+                .thenReturn(CompletableFuture.completedFuture(rates("h1", "h2", "h3")));
+
+        RateSearchResponseDto first = rateService.searchRates(searchRequest());
+        RateSearchResponseDto second = rateService.searchRates(searchRequest());
+        rateService.searchRates(searchRequest());
+
+        assertThat(first.isPartial()).isTrue();
+        assertThat(first.getHotels()).hasSize(2);
+        assertThat(second.isPartial()).isFalse();
+        assertThat(second.getHotels()).hasSize(3);
+        verify(nuiteeAsyncApiClient, times(2)).retrieveHotelRates(any(HotelRatesRequest.class));
+    }
+
+    @Test
+    public void testSearchRates_TimeoutCancelsTheRatesSearch() {
+        rateProperties.setSearchDeadline(Duration.ofMillis(100));
+        HotelsListResponse hotelsList = new HotelsListResponse();
+        hotelsList.setHotelIds(List.of("h1", "h2"));
+        when(nuiteeApiClient.getHotels(any(HotelsListRequest.class))).thenReturn(hotelsList);
+        CompletableFuture<HotelRatesResponse> rates = new CompletableFuture<>();
+        when(nuiteeAsyncApiClient.retrieveHotelRates(any(HotelRatesRequest.class))).thenReturn(rates);
+
+        assertThrows(ResourceAccessException.class, () -> rateService.searchRates(searchRequest()));
+        assertThat(rates).isCancelled();
+    }
+
+    @Test
+    public void testStreamRates_EmitsHotelsOfEachChunkAndSkipsFailedChunks() {
+        HotelsListResponse hotelsList = new HotelsListResponse();
+        hotelsList.setHotelIds(List.of("h1", "h2", "h3"));
+        when(nuiteeAsyncApiClient.getHotels(any(HotelsListRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(hotelsList));
+        when(nuiteeAsyncApiClient.retrieveHotelRatesInChunks(any(HotelRatesRequest.class))).thenReturn(List.of(
+                CompletableFuture.completedFuture(rates("h1", "h2")),
+                CompletableFuture.failedFuture(new ResourceAccessException("Read timed out"))));
+        List<HotelAvailabilityDto> emitted = new ArrayList<>();
+
+        RateSearchResponseDto summary = rateService.streamRates(searchRequest(), emitted::add).join();
+
+        assertThat(emitted).extracting(HotelAvailabilityDto::getHotelId).containsExactly("h1", "h2");
+        assertThat(summary.getHotels()).isNull();
+    }
+
+    @Test
+    public void testStreamRates_AllChunksFailed_CompletesExceptionally() {
+        HotelsListResponse hotelsList = new HotelsListResponse();
+        hotelsList.setHotelIds(List.of("h1"));
+        when(nuiteeAsyncApiClient.getHotels(any(HotelsListRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(hotelsList));
+        when(nuiteeAsyncApiClient.retrieveHotelRatesInChunks(any(HotelRatesRequest.class))).thenReturn(List.of(
+                CompletableFuture.failedFuture(new ResourceAccessException("Read timed out"))));
+
+        assertThatThrownBy(() -> rateService.streamRates(searchRequest(), hotel -> {
+        }).join()).hasCauseInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    public void testStreamRates_CancelCancelsPendingChunks() {
+        HotelsListResponse hotelsList = new HotelsListResponse();
+        hotelsList.setHotelIds(List.of("h1", "h2"));
+        when(nuiteeAsyncApiClient.getHotels(any(HotelsListRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(hotelsList));
+        CompletableFuture<HotelRatesResponse> pending = new CompletableFuture<>();
+        when(nuiteeAsyncApiClient.retrieveHotelRatesInChunks(any(HotelRatesRequest.class))).thenReturn(List.of(
+                CompletableFuture.completedFuture(rates("h1")), pending));
+        List<HotelAvailabilityDto> emitted = new ArrayList<>();
+
+        CompletableFuture<RateSearchResponseDto> stream = rateService.streamRates(searchRequest(), emitted::add);
+        stream.cancel(true);
+
+        assertThat(pending).isCancelled();
+        assertThat(emitted).extracting(HotelAvailabilityDto::getHotelId).containsExactly("h1");
+    }
+
+    @Test
+    public void testStreamRates_ConsumerFailureAbortsStream() {
+        HotelsListResponse hotelsList = new HotelsListResponse();
+        hotelsList.setHotelIds(List.of("h1", "h2"));
+        when(nuiteeAsyncApiClient.getHotels(any(HotelsListRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(hotelsList));
+        CompletableFuture<HotelRatesResponse> pending = new CompletableFuture<>();
+        when(nuiteeAsyncApiClient.retrieveHotelRatesInChunks(any(HotelRatesRequest.class))).thenReturn(List.of(
+                CompletableFuture.completedFuture(rates("h1")), pending));
+
+        CompletableFuture<RateSearchResponseDto> stream = rateService.streamRates(searchRequest(), hotel -> {
+            throw new UncheckedIOException(new IOException("Broken pipe"));
+        });
+
+        assertThatThrownBy(stream::join).hasCauseInstanceOf(UncheckedIOException.class);
+        assertThat(pending).isCancelled();
+    }
+
+    private HotelRatesResponse rates(String... hotelIds) {
+        List<HotelRate> data = new ArrayList<>();
+        for (String hotelId : hotelIds) {
+            HotelRate hotelRate = new HotelRate();
+            hotelRate.setHotelId(hotelId);
+            data.add(hotelRate);
+        }
+        HotelRatesResponse response = new HotelRatesResponse();
+        response.setData(data);
+        return response;
+    }
+
+    private RateSearchRequestDto searchRequest() {
+        RateSearchRequestDto request = new RateSearchRequestDto();
+        request.setPlaceId("ChIJ");
+        request.setCheckin(LocalDate.of(2025, 6, 1));
+        request.setCheckout(LocalDate.of(2025, 6, 3));
+        return request;
+    }
+
+    private HotelRateRequestDto request() {
+        HotelRateRequestDto request = new HotelRateRequestDto();
+        request.setCheckin(LocalDate.of(2025, 6, 1));
+        request.setCheckout(LocalDate.of(2025, 6, 3));
+        return request;
+    }
+}
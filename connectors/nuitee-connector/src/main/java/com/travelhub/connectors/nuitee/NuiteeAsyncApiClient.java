@@ -0,0 +1,71 @@
+package com.travelhub.connectors.nuitee;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.travelhub.connectors.nuitee.dto.request.BookRequest;
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
+import com.travelhub.connectors.nuitee.dto.request.PrebookRequest;
+import com.travelhub.connectors.nuitee.dto.response.BookResponse;
+import com.travelhub.connectors.nuitee.dto.response.BookingListResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelListResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelReviewsResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import com.travelhub.connectors.nuitee.dto.response.PlaceDetailsResponse;
+import com.travelhub.connectors.nuitee.dto.response.PlaceResponse;
+import com.travelhub.connectors.nuitee.dto.response.PrebookResponse;
+
+/**
+ * Non-blocking counterpart of {@link NuiteeApiClient}. Every operation returns immediately and
+ * completes on the HTTP client's I/O threads, so no request thread is held while LiteAPI responds.
+ * <p>
+ * Futures complete exceptionally with the same exception types the blocking client throws
+ * ({@link org.springframework.web.client.HttpStatusCodeException} for error statuses,
+ * {@link org.springframework.web.client.ResourceAccessException} for I/O failures and timeouts), or with
+ * the rejections described on {@link NuiteeResilience} when an endpoint's bulkhead is full or its circuit open.
+ */
+public interface NuiteeAsyncApiClient {
+        CompletableFuture<HotelListResponse> getHotels(String countryCode, String city, Integer limit,
+                        Integer offset, Double latitude, Double longitude, Integer distance, List<String> hotelIds,
+                        Integer minStars, Integer maxStars, String placeId);
+
+        CompletableFuture<HotelsListResponse> getHotels(HotelsListRequest request);
+
+        /**
+         * Large hotel ID lists are split into chunks of {@code ratesChunkSize} that are fetched in parallel and
+         * merged in request order. Chunks that fail or exceed {@code ratesChunkTimeout} are left out of the
+         * merged response, which then reports them in {@link HotelRatesResponse#getFailedChunks()}. Cancelling the
+         * returned future aborts the chunks not yet complete.
+         */
+        CompletableFuture<HotelRatesResponse> retrieveHotelRates(HotelRatesRequest request);
+
+        /**
+         * Starts one rates request per chunk of {@code ratesChunkSize} hotel IDs and returns the chunk futures in
+         * request order, so callers can consume each chunk as soon as it completes. At most
+         * {@code ratesChunkConcurrency} chunks are in flight at once. Each chunk is bounded by
+         * {@code ratesChunkTimeout} from its start, and cancelling a chunk future aborts its request, or skips it
+         * if it has not started.
+         */
+        List<CompletableFuture<HotelRatesResponse>> retrieveHotelRatesInChunks(HotelRatesRequest request);
+
+        CompletableFuture<PlaceResponse> searchPlaces(String textQuery, String language, String clientIP);
+
+        CompletableFuture<PlaceDetailsResponse> getPlaceDetails(String placeId, String language);
+
+        CompletableFuture<HotelDetailsResponse> getHotelDetails(String hotelId, Integer timeout, String language,
+                        Boolean advancedAccessibilityOnly);
+
+        CompletableFuture<HotelReviewsResponse> getHotelReviews(String hotelId, Integer limit, Integer offset,
+                        Integer timeout, Boolean getSentiment);
+
+        CompletableFuture<PrebookResponse> prebook(PrebookRequest request);
+
+        CompletableFuture<BookResponse> book(BookRequest request);
+
+        CompletableFuture<BookResponse> getBooking(String bookingId);
+
+        CompletableFuture<BookingListResponse> listBookings(String clientReference);
+}
@@ -0,0 +1,394 @@
+package com.travelhub.connectors.nuitee;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelhub.connectors.nuitee.dto.request.BookRequest;
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
+import com.travelhub.connectors.nuitee.dto.request.PrebookRequest;
+import com.travelhub.connectors.nuitee.dto.response.*;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+
+import static com.travelhub.connectors.nuitee.NuiteeQueryParams.BOOKINGS_ENDPOINT;
+import static com.travelhub.connectors.nuitee.NuiteeQueryParams.BOOK_ENDPOINT;
+import static com.travelhub.connectors.nuitee.NuiteeQueryParams.HOTELS_ENDPOINT;
+import static com.travelhub.connectors.nuitee.NuiteeQueryParams.HOTEL_DETAILS_ENDPOINT;
+import static com.travelhub.connectors.nuitee.NuiteeQueryParams.HOTEL_REVIEWS_ENDPOINT;
+import static com.travelhub.connectors.nuitee.NuiteeQueryParams.PLACES_ENDPOINT;
+import static com.travelhub.connectors.nuitee.NuiteeQueryParams.PREBOOK_ENDPOINT;
+import static com.travelhub.connectors.nuitee.NuiteeQueryParams.RATES_ENDPOINT;
+
+@Service
+public class NuiteeAsyncApiClientImpl implements NuiteeAsyncApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(NuiteeAsyncApiClientImpl.class);
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private final CloseableHttpAsyncClient httpClient;
+    private final CloseableHttpAsyncClient bookingHttpClient;
+    private final NuiteeProperties properties;
+    private final ObjectMapper objectMapper;
+    private final NuiteeResilience resilience;
+    private final NuiteeMetrics metrics;
+
+    public NuiteeAsyncApiClientImpl(
+            @Qualifier("nuiteeAsyncHttpClient") CloseableHttpAsyncClient nuiteeAsyncHttpClient,
+            @Qualifier("nuiteeAsyncBookingHttpClient") CloseableHttpAsyncClient nuiteeAsyncBookingHttpClient,
+            NuiteeProperties properties, ObjectMapper objectMapper, NuiteeResilience resilience,
+            NuiteeMetrics metrics) {
+        this.httpClient = nuiteeAsyncHttpClient;
+        this.bookingHttpClient = nuiteeAsyncBookingHttpClient;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.resilience = resilience;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CompletableFuture<HotelListResponse> getHotels(String countryCode, String city, Integer limit,
+            Integer offset, Double latitude, Double longitude, Integer distance, List<String> hotelIds,
+            Integer minStars, Integer maxStars, String placeId) {
+        logger.info("Calling Nuitee hotels API (async) - city: {}, country: {}, placeId: {}", city, countryCode,
+                placeId);
+        URI uri = NuiteeQueryParams.hotels(searchUri(HOTELS_ENDPOINT), countryCode, city, limit, offset, latitude,
+                longitude, distance, hotelIds, minStars, maxStars, placeId).encode().build().toUri();
+        return get(NuiteeResilience.HOTELS, uri, HotelListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<HotelsListResponse> getHotels(HotelsListRequest request) {
+        logger.info("Fetching hotels list (async) with request: placeId={}, city={}, latitude={}, longitude={}",
+                request.getPlaceId(), request.getCityName(), request.getLatitude(), request.getLongitude());
+        URI uri = NuiteeQueryParams.hotelsList(searchUri(HOTELS_ENDPOINT), request).encode().build().toUri();
+        return get(NuiteeResilience.HOTELS, uri, HotelsListResponse.class)
+                .whenComplete((response, ex) -> {
+                    if (ex == null) {
+                        logger.info("Hotels list response received (async) - hotels found: {}",
+                                response != null && response.getData() != null ? response.getData().size() : 0);
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<HotelRatesResponse> retrieveHotelRates(HotelRatesRequest request) {
+        List<String> hotelIds = request.getHotelIds();
+        int chunkSize = properties.getRatesChunkSize();
+        if (hotelIds == null || chunkSize <= 0 || hotelIds.size() <= chunkSize) {
+            return retrieveHotelRatesChunk(request);
+        }
+
+        List<CompletableFuture<HotelRatesResponse>> chunks = retrieveHotelRatesInChunks(request);
+        CompletableFuture<HotelRatesResponse> merged = new CompletableFuture<>();
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).whenComplete((ignored, ex) -> {
+            try {
+                merged.complete(mergeRateChunks(chunks));
+            } catch (RuntimeException e) {
+                merged.completeExceptionally(e);
+            }
+        });
+        // A caller that times out or cancels the merged future aborts the chunks still running or waiting
+        merged.whenComplete((response, ex) -> {
+            if (ex != null) {
+                chunks.forEach(chunk -> chunk.cancel(true));
+            }
+        });
+        return merged;
+    }
+
+    @Override
+    public List<CompletableFuture<HotelRatesResponse>> retrieveHotelRatesInChunks(HotelRatesRequest request) {
+        List<String> hotelIds = request.getHotelIds() != null ? request.getHotelIds() : List.of();
+        int chunkSize = properties.getRatesChunkSize() > 0 ? properties.getRatesChunkSize() : Math.max(1, hotelIds.size());
+
+        List<HotelRatesRequest> requests = new ArrayList<>();
+        for (int from = 0; from < hotelIds.size(); from += chunkSize) {
+            HotelRatesRequest chunk = new HotelRatesRequest();
+            BeanUtils.copyProperties(request, chunk);
+            chunk.setHotelIds(new ArrayList<>(hotelIds.subList(from, Math.min(from + chunkSize, hotelIds.size()))));
+            requests.add(chunk);
+        }
+        List<CompletableFuture<HotelRatesResponse>> chunks = NuiteeRateChunks.start(requests,
+                properties.getRatesChunkConcurrency(), properties.getRatesChunkTimeout(),
+                properties.getRatesChunkPermitWait(), this::retrieveHotelRatesChunk);
+        logger.info("Split rates request for {} hotels into {} chunks", hotelIds.size(), chunks.size());
+        return chunks;
+    }
+
+    private CompletableFuture<HotelRatesResponse> retrieveHotelRatesChunk(HotelRatesRequest request) {
+        logger.info("Calling Nuitee rates API (async) - checkin: {}, checkout: {}, hotelIds: {}",
+                request.getCheckin(), request.getCheckout(),
+                request.getHotelIds() != null ? request.getHotelIds().size() : 0);
+        URI uri = searchUri(RATES_ENDPOINT).build().toUri();
+        CompletableFuture<HotelRatesResponse> future = post(NuiteeResilience.RATES, uri, request,
+                HotelRatesResponse.class);
+        future.whenComplete((response, ex) -> {
+            if (ex == null) {
+                logger.info("Nuitee rates response received (async) - hotels found: {}",
+                        response != null && response.getData() != null ? response.getData().size() : 0);
+            }
+        });
+        // The exchange's own future is returned, so a timeout or cancellation by the caller aborts the request
+        return future;
+    }
+
+    /**
+     * Merges chunk responses in request order. Failed or timed out chunks are skipped so the caller still
+     * gets the hotels that answered, and counted in {@link HotelRatesResponse#getFailedChunks()}; only when every
+     * chunk failed does the merged future fail.
+     */
+    private HotelRatesResponse mergeRateChunks(List<CompletableFuture<HotelRatesResponse>> chunks) {
+        HotelRatesResponse merged = null;
+        List<HotelRate> data = new ArrayList<>();
+        List<HotelInfo> hotels = new ArrayList<>();
+        Throwable firstFailure = null;
+        int failedChunks = 0;
+
+        for (CompletableFuture<HotelRatesResponse> chunk : chunks) {
+            HotelRatesResponse response;
+            try {
+                response = chunk.join();
+            } catch (CompletionException | CancellationException e) {
+                failedChunks++;
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                firstFailure = firstFailure != null ? firstFailure : cause;
+                logger.warn("Rates chunk failed, returning partial results: {}", cause.toString());
+                continue;
+            }
+            if (response == null) {
+                continue;
+            }
+            if (merged == null) {
+                merged = new HotelRatesResponse();
+                merged.setGuestLevel(response.getGuestLevel());
+                merged.setSandbox(response.getSandbox());
+                merged.setSessionId(response.getSessionId());
+            }
+            if (response.getData() != null) {
+                data.addAll(response.getData());
+            }
+            if (response.getHotels() != null) {
+                hotels.addAll(response.getHotels());
+            }
+        }
+
+        if (failedChunks == chunks.size()) {
+            if (firstFailure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ResourceAccessException("All rates chunks failed: " + firstFailure);
+        }
+        if (merged == null) {
+            merged = new HotelRatesResponse();
+        }
+        merged.setData(data);
+        merged.setHotels(hotels);
+        merged.setFailedChunks(failedChunks);
+        logger.info("Merged {} of {} rates chunks - hotels found: {}", chunks.size() - failedChunks,
+                chunks.size(), data.size());
+        return merged;
+    }
+
+    @Override
+    public CompletableFuture<PlaceResponse> searchPlaces(String textQuery, String language, String clientIP) {
+        logger.info("Calling Nuitee places API (async) - textQuery: {}", textQuery);
+        URI uri = NuiteeQueryParams.places(searchUri(PLACES_ENDPOINT), textQuery, language, clientIP)
+                .encode().build().toUri();
+        return get(NuiteeResilience.PLACES, uri, PlaceResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<PlaceDetailsResponse> getPlaceDetails(String placeId, String language) {
+        logger.info("Calling Nuitee place details API (async) - placeId: {}", placeId);
+        UriComponentsBuilder builder = searchUri(PLACES_ENDPOINT).pathSegment(placeId);
+        URI uri = NuiteeQueryParams.placeDetails(builder, language).encode().build().toUri();
+        return get(NuiteeResilience.PLACES, uri, PlaceDetailsResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<HotelDetailsResponse> getHotelDetails(String hotelId, Integer timeout,
+            String language, Boolean advancedAccessibilityOnly) {
+        logger.info("Calling Nuitee hotel details API (async) - hotelId: {}", hotelId);
+        URI uri = NuiteeQueryParams.hotelDetails(searchUri(HOTEL_DETAILS_ENDPOINT), hotelId, timeout, language,
+                advancedAccessibilityOnly).encode().build().toUri();
+        return get(NuiteeResilience.HOTEL_DETAILS, uri, HotelDetailsResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<HotelReviewsResponse> getHotelReviews(String hotelId, Integer limit, Integer offset,
+            Integer timeout, Boolean getSentiment) {
+        logger.info("Calling Nuitee hotel reviews API (async) - hotelId: {}, limit: {}", hotelId, limit);
+        URI uri = NuiteeQueryParams.hotelReviews(searchUri(HOTEL_REVIEWS_ENDPOINT), hotelId, limit, offset,
+                timeout, getSentiment).encode().build().toUri();
+        return get(NuiteeResilience.REVIEWS, uri, HotelReviewsResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<PrebookResponse> prebook(PrebookRequest request) {
+        URI uri = bookingUri(PREBOOK_ENDPOINT).build().toUri();
+        logger.info("Calling Nuitee prebook API (async) - URL: {}, offerId: {}", uri, request.getOfferId());
+        return post(NuiteeResilience.PREBOOK, uri, request, PrebookResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<BookResponse> book(BookRequest request) {
+        URI uri = bookingUri(BOOK_ENDPOINT).build().toUri();
+        logger.info("Calling Nuitee book API (async) - URL: {}, prebookId: {}", uri, request.getPrebookId());
+        return post(NuiteeResilience.BOOK, uri, request, BookResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<BookResponse> getBooking(String bookingId) {
+        URI uri = bookingUri(BOOKINGS_ENDPOINT).pathSegment(bookingId).encode().build().toUri();
+        logger.info("Calling Nuitee getBooking API (async) - URL: {}, bookingId: {}", uri, bookingId);
+        return get(NuiteeResilience.BOOKINGS, uri, BookResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<BookingListResponse> listBookings(String clientReference) {
+        URI uri = NuiteeQueryParams.bookings(bookingUri(BOOKINGS_ENDPOINT), clientReference)
+                .encode().build().toUri();
+        logger.info("Calling Nuitee listBookings API (async) - URL: {}, clientReference: {}", uri,
+                clientReference);
+        return get(NuiteeResilience.BOOKINGS, uri, BookingListResponse.class);
+    }
+
+    private UriComponentsBuilder searchUri(String endpoint) {
+        return UriComponentsBuilder.fromHttpUrl(properties.getBaseUrl()).path(endpoint);
+    }
+
+    private UriComponentsBuilder bookingUri(String endpoint) {
+        return UriComponentsBuilder.fromHttpUrl(properties.getBookingBaseUrl()).path(endpoint);
+    }
+
+    private <T> CompletableFuture<T> get(String endpoint, URI uri, Class<T> responseType) {
+        SimpleHttpRequest request = SimpleRequestBuilder.get(uri)
+                .addHeader(API_KEY_HEADER, properties.getApiKey())
+                .addHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType())
+                .build();
+        return send(endpoint, request, responseType);
+    }
+
+    private <T> CompletableFuture<T> post(String endpoint, URI uri, Object body, Class<T> responseType) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(
+                    new RestClientException("Could not serialize request body for " + uri, e));
+        }
+        SimpleHttpRequest request = SimpleRequestBuilder.post(uri)
+                .addHeader(API_KEY_HEADER, properties.getApiKey())
+                .addHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType())
+                .setBody(payload, ContentType.APPLICATION_JSON)
+                .build();
+        return send(endpoint, request, responseType);
+    }
+
+    private <T> CompletableFuture<T> send(String endpoint, SimpleHttpRequest request, Class<T> responseType) {
+        return metrics.recordAsync(endpoint,
+                () -> resilience.callAsync(endpoint, () -> execute(endpoint, request, responseType)));
+    }
+
+    /**
+     * Booking endpoints use their own connection pool, so they never wait behind search traffic.
+     */
+    private CloseableHttpAsyncClient clientFor(String endpoint) {
+        return switch (endpoint) {
+            case NuiteeResilience.PREBOOK, NuiteeResilience.BOOK, NuiteeResilience.BOOKINGS -> bookingHttpClient;
+            default -> httpClient;
+        };
+    }
+
+    private <T> CompletableFuture<T> execute(String endpoint, SimpleHttpRequest request, Class<T> responseType) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        String description = request.getMethod() + " " + request.getRequestUri();
+
+        Future<SimpleHttpResponse> exchange = clientFor(endpoint).execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                byte[] body = response.getBodyBytes();
+                metrics.recordResponseSize(endpoint, NuiteeMetrics.ASYNC, body != null ? body.length : 0);
+                try {
+                    future.complete(readResponse(response, responseType));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                future.completeExceptionally(new ResourceAccessException(
+                        "I/O error on " + description + ": " + ex.getMessage(),
+                        ex instanceof IOException ioException ? ioException : new IOException(ex)));
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        });
+        // Abort the exchange and release its connection when the caller times out or cancels
+        future.whenComplete((response, ex) -> {
+            if (ex != null) {
+                exchange.cancel(true);
+            }
+        });
+
+        return future;
+    }
+
+    private <T> T readResponse(SimpleHttpResponse response, Class<T> responseType) {
+        byte[] body = response.getBodyBytes();
+        HttpStatusCode status = HttpStatusCode.valueOf(response.getCode());
+
+        if (status.isError()) {
+            HttpHeaders headers = new HttpHeaders();
+            for (Header header : response.getHeaders()) {
+                headers.add(header.getName(), header.getValue());
+            }
+            byte[] errorBody = body != null ? body : new byte[0];
+            if (status.is4xxClientError()) {
+                throw HttpClientErrorException.create(status, response.getReasonPhrase(), headers, errorBody,
+                        StandardCharsets.UTF_8);
+            }
+            throw HttpServerErrorException.create(status, response.getReasonPhrase(), headers, errorBody,
+                    StandardCharsets.UTF_8);
+        }
+
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (IOException e) {
+            throw new RestClientException("Could not read " + responseType.getSimpleName()
+                    + " from Nuitee response", e);
+        }
+    }
+}
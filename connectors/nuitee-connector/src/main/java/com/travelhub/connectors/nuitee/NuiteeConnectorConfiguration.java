@@ -1,10 +1,17 @@
 package com.travelhub.connectors.nuitee;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
@@ -13,32 +20,138 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * Search traffic and booking traffic (prebook, book and bookings) get separate connection pools and timeouts,
+ * so a search spike can never leave a booking call waiting for a connection.
+ */
 @Configuration
 @ComponentScan
 @EnableConfigurationProperties(NuiteeProperties.class)
 public class NuiteeConnectorConfiguration {
 
     @Bean
-    public RestTemplate nuiteeRestTemplate(NuiteeProperties properties, RestTemplateBuilder builder) {
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(properties.getMaxTotalConnections());
-        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnectionsPerRoute());
+    public PoolingHttpClientConnectionManager nuiteeConnectionManager(NuiteeProperties properties) {
+        return connectionManager(properties.getMaxTotalConnections(), properties.getMaxConnectionsPerRoute());
+    }
 
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
-                .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
-                .build();
+    @Bean
+    public PoolingHttpClientConnectionManager nuiteeBookingConnectionManager(NuiteeProperties properties) {
+        return connectionManager(properties.getBookingMaxTotalConnections(),
+                properties.getBookingMaxConnectionsPerRoute());
+    }
 
-        CloseableHttpClient httpClient = HttpClients.custom()
-                .setConnectionManager(connectionManager)
-                .setDefaultRequestConfig(requestConfig)
-                .build();
+    @Bean
+    public PoolingAsyncClientConnectionManager nuiteeAsyncConnectionManager(NuiteeProperties properties) {
+        return asyncConnectionManager(properties.getMaxTotalConnections(), properties.getMaxConnectionsPerRoute());
+    }
+
+    @Bean
+    public PoolingAsyncClientConnectionManager nuiteeAsyncBookingConnectionManager(NuiteeProperties properties) {
+        return asyncConnectionManager(properties.getBookingMaxTotalConnections(),
+                properties.getBookingMaxConnectionsPerRoute());
+    }
+
+    /**
+     * Leased, pending and available connections of every pool, tagged {@code httpclient=<bean name>}.
+     */
+    @Bean
+    public MeterBinder nuiteeConnectionPoolMetrics(
+            @Qualifier("nuiteeConnectionManager") PoolingHttpClientConnectionManager searchPool,
+            @Qualifier("nuiteeBookingConnectionManager") PoolingHttpClientConnectionManager bookingPool,
+            @Qualifier("nuiteeAsyncConnectionManager") PoolingAsyncClientConnectionManager asyncSearchPool,
+            @Qualifier("nuiteeAsyncBookingConnectionManager") PoolingAsyncClientConnectionManager asyncBookingPool) {
+        return registry -> {
+            new PoolingHttpClientConnectionManagerMetricsBinder(searchPool, "nuiteeConnectionManager")
+                    .bindTo(registry);
+            new PoolingHttpClientConnectionManagerMetricsBinder(bookingPool, "nuiteeBookingConnectionManager")
+                    .bindTo(registry);
+            new PoolingHttpClientConnectionManagerMetricsBinder(asyncSearchPool, "nuiteeAsyncConnectionManager")
+                    .bindTo(registry);
+            new PoolingHttpClientConnectionManagerMetricsBinder(asyncBookingPool,
+                    "nuiteeAsyncBookingConnectionManager").bindTo(registry);
+        };
+    }
+
+    @Bean
+    public RestTemplate nuiteeRestTemplate(NuiteeProperties properties, RestTemplateBuilder builder,
+            @Qualifier("nuiteeConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            NuiteeMetrics metrics) {
+        CloseableHttpClient httpClient = httpClient(connectionManager, properties.getConnectTimeout(),
+                properties.getReadTimeout());
 
         return builder
                 .rootUri(properties.getBaseUrl())
                 .defaultHeader("X-API-Key", properties.getApiKey())
                 .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new NuiteeResponseSizeInterceptor(metrics))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate nuiteeBookingRestTemplate(NuiteeProperties properties, RestTemplateBuilder builder,
+            @Qualifier("nuiteeBookingConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            NuiteeMetrics metrics) {
+        CloseableHttpClient httpClient = httpClient(connectionManager, properties.getBookingConnectTimeout(),
+                properties.getBookingReadTimeout());
+
+        return builder
+                .defaultHeader("X-API-Key", properties.getApiKey())
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new NuiteeResponseSizeInterceptor(metrics))
                 .build();
     }
 
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient nuiteeAsyncHttpClient(NuiteeProperties properties,
+            @Qualifier("nuiteeAsyncConnectionManager") PoolingAsyncClientConnectionManager connectionManager) {
+        return asyncHttpClient(connectionManager, properties.getConnectTimeout(), properties.getReadTimeout());
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient nuiteeAsyncBookingHttpClient(NuiteeProperties properties,
+            @Qualifier("nuiteeAsyncBookingConnectionManager") PoolingAsyncClientConnectionManager connectionManager) {
+        return asyncHttpClient(connectionManager, properties.getBookingConnectTimeout(),
+                properties.getBookingReadTimeout());
+    }
+
+    private PoolingHttpClientConnectionManager connectionManager(int maxTotal, int maxPerRoute) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        return connectionManager;
+    }
+
+    private PoolingAsyncClientConnectionManager asyncConnectionManager(int maxTotal, int maxPerRoute) {
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .build();
+    }
+
+    private CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+            Duration connectTimeout, Duration readTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig(connectTimeout, readTimeout))
+                .build();
+    }
+
+    private CloseableHttpAsyncClient asyncHttpClient(PoolingAsyncClientConnectionManager connectionManager,
+            Duration connectTimeout, Duration readTimeout) {
+        CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig(connectTimeout, readTimeout))
+                .build();
+        httpClient.start();
+        return httpClient;
+    }
+
+    private RequestConfig requestConfig(Duration connectTimeout, Duration readTimeout) {
+        return RequestConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .build();
+    }
 }
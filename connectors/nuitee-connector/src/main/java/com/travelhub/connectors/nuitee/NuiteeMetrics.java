@@ -0,0 +1,195 @@
+package com.travelhub.connectors.nuitee;
+
+import com.travelhub.connectors.nuitee.dto.response.HotelListResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Latency, payload size and hotel count of every LiteAPI call, tagged by endpoint (the
+ * {@link NuiteeResilience} instance name) and client ({@code blocking} or {@code async}). Latency is measured
+ * around the bulkhead and circuit breaker, so it includes the wait for a pooled connection; compare it with the
+ * {@code httpcomponents.httpclient.pool.*} gauges to tell pool pressure from upstream slowness.
+ */
+@Component
+public class NuiteeMetrics {
+
+    static final String REQUESTS = "nuitee.client.requests";
+    static final String RESPONSE_SIZE = "nuitee.client.response.size";
+    static final String RESPONSE_HOTELS = "nuitee.client.response.hotels";
+
+    static final String BLOCKING = "blocking";
+    static final String ASYNC = "async";
+
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = { Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5),
+            Duration.ofSeconds(10), Duration.ofSeconds(20) };
+
+    /**
+     * Request paths of each endpoint, most specific first since {@code /data/hotels} also contains
+     * {@code /data/hotel}.
+     */
+    private static final List<String[]> ENDPOINT_PATHS = List.of(
+            new String[] { NuiteeQueryParams.RATES_ENDPOINT, NuiteeResilience.RATES },
+            new String[] { NuiteeQueryParams.PREBOOK_ENDPOINT, NuiteeResilience.PREBOOK },
+            new String[] { NuiteeQueryParams.BOOK_ENDPOINT, NuiteeResilience.BOOK },
+            new String[] { NuiteeQueryParams.BOOKINGS_ENDPOINT, NuiteeResilience.BOOKINGS },
+            new String[] { NuiteeQueryParams.HOTELS_ENDPOINT, NuiteeResilience.HOTELS },
+            new String[] { NuiteeQueryParams.HOTEL_DETAILS_ENDPOINT, NuiteeResilience.HOTEL_DETAILS },
+            new String[] { NuiteeQueryParams.HOTEL_REVIEWS_ENDPOINT, NuiteeResilience.REVIEWS },
+            new String[] { NuiteeQueryParams.PLACES_ENDPOINT, NuiteeResilience.PLACES });
+
+    private final MeterRegistry meterRegistry;
+    // Meters are looked up per call on the hot path, so each one is built and registered only once
+    private final Map<MeterKey, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> responseHotels = new ConcurrentHashMap<>();
+
+    public NuiteeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times a blocking call.
+     */
+    public <T> T record(String endpoint, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T response = call.get();
+            recordCall(endpoint, BLOCKING, start, response, null);
+            return response;
+        } catch (RuntimeException e) {
+            recordCall(endpoint, BLOCKING, start, null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Times a non-blocking call until its future completes. The call's own future is returned.
+     */
+    public <T> CompletableFuture<T> recordAsync(String endpoint, Supplier<CompletableFuture<T>> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future = call.get();
+        future.whenComplete((response, ex) -> recordCall(endpoint, ASYNC, start, response, ex));
+        return future;
+    }
+
+    /**
+     * Records the size of a response body in bytes.
+     */
+    public void recordResponseSize(String endpoint, String client, long bytes) {
+        responseSizes.computeIfAbsent(new MeterKey(endpoint, client, null), key -> DistributionSummary
+                .builder(RESPONSE_SIZE)
+                .description("Size of LiteAPI response bodies")
+                .baseUnit("bytes")
+                .tag("endpoint", key.endpoint())
+                .tag("client", key.client())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry))
+                .record(bytes);
+    }
+
+    /**
+     * Endpoint that serves a request path, or {@code unknown}.
+     */
+    static String endpointOf(String path) {
+        if (path != null) {
+            for (String[] endpointPath : ENDPOINT_PATHS) {
+                if (path.contains(endpointPath[0])) {
+                    return endpointPath[1];
+                }
+            }
+        }
+        return "unknown";
+    }
+
+    private void recordCall(String endpoint, String client, long start, Object response, Throwable failure) {
+        Integer hotels = hotelCount(response);
+        if (hotels != null) {
+            responseHotels.computeIfAbsent(new MeterKey(endpoint, client, null), key -> DistributionSummary
+                    .builder(RESPONSE_HOTELS)
+                    .description("Hotels per LiteAPI response")
+                    .tag("endpoint", key.endpoint())
+                    .tag("client", key.client())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry))
+                    .record(hotels);
+        }
+
+        requestTimers.computeIfAbsent(new MeterKey(endpoint, client, outcome(failure)), key -> Timer
+                .builder(REQUESTS)
+                .description("Latency of LiteAPI calls, including the wait for a connection")
+                .tag("endpoint", key.endpoint())
+                .tag("client", key.client())
+                .tag("outcome", key.outcome())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(meterRegistry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    static String outcome(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause == null) {
+            return "SUCCESS";
+        }
+        if (cause instanceof HttpClientErrorException) {
+            return "CLIENT_ERROR";
+        }
+        if (cause instanceof HttpServerErrorException) {
+            return "SERVER_ERROR";
+        }
+        if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException) {
+            return "REJECTED";
+        }
+        if (cause instanceof CancellationException) {
+            return "CANCELLED";
+        }
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException
+                    || t instanceof ConnectTimeoutException) {
+                return "TIMEOUT";
+            }
+        }
+        return "UNKNOWN";
+    }
+
+    private static Integer hotelCount(Object response) {
+        if (response instanceof HotelRatesResponse rates) {
+            return rates.getData() != null ? rates.getData().size() : 0;
+        }
+        if (response instanceof HotelsListResponse hotels) {
+            return hotels.getData() != null ? hotels.getData().size() : 0;
+        }
+        if (response instanceof HotelListResponse hotels) {
+            return hotels.getData() != null ? hotels.getData().size() : 0;
+        }
+        return null;
+    }
+
+    private record MeterKey(String endpoint, String client, String outcome) {
+    }
+}
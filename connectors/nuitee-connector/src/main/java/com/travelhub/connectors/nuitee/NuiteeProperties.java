@@ -46,6 +46,57 @@ public class NuiteeProperties {
      */
     private int maxConnectionsPerRoute = 20;
 
+    /**
+     * Connection timeout of booking calls (prebook, book and bookings), which use their own connection pool.
+     */
+    private Duration bookingConnectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Read timeout of booking calls. Booking can take much longer than a search, so it is set separately.
+     */
+    private Duration bookingReadTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Max total connections of the booking pool. Search traffic cannot use them.
+     */
+    private int bookingMaxTotalConnections = 40;
+
+    /**
+     * Max connections per route of the booking pool.
+     */
+    private int bookingMaxConnectionsPerRoute = 40;
+
+    /**
+     * Whether identical concurrent hotel details, place details and hotels list calls share one upstream request.
+     */
+    private boolean coalescingEnabled = true;
+
+    /**
+     * How long a caller waits on an identical in-flight request before giving up.
+     */
+    private Duration coalescingTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of hotel IDs sent in one async rates request; larger lists are split and fetched in parallel.
+     */
+    private int ratesChunkSize = 50;
+
+    /**
+     * Timeout of a single rates chunk. Chunks that miss it are left out of the merged response.
+     */
+    private Duration ratesChunkTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of chunks of one rates request in flight at once, so a large search leaves rates bulkhead
+     * permits for the others.
+     */
+    private int ratesChunkConcurrency = 8;
+
+    /**
+     * How long a chunk waits for a rates bulkhead permit before it fails. The wait does not hold a thread.
+     */
+    private Duration ratesChunkPermitWait = Duration.ofMillis(500);
+
     public String getBaseUrl() {
         return baseUrl;
     }
@@ -109,4 +160,84 @@ public class NuiteeProperties {
     public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
         this.maxConnectionsPerRoute = maxConnectionsPerRoute;
     }
+
+    public Duration getBookingConnectTimeout() {
+        return bookingConnectTimeout;
+    }
+
+    public void setBookingConnectTimeout(Duration bookingConnectTimeout) {
+        this.bookingConnectTimeout = bookingConnectTimeout;
+    }
+
+    public Duration getBookingReadTimeout() {
+        return bookingReadTimeout;
+    }
+
+    public void setBookingReadTimeout(Duration bookingReadTimeout) {
+        this.bookingReadTimeout = bookingReadTimeout;
+    }
+
+    public int getBookingMaxTotalConnections() {
+        return bookingMaxTotalConnections;
+    }
+
+    public void setBookingMaxTotalConnections(int bookingMaxTotalConnections) {
+        this.bookingMaxTotalConnections = bookingMaxTotalConnections;
+    }
+
+    public int getBookingMaxConnectionsPerRoute() {
+        return bookingMaxConnectionsPerRoute;
+    }
+
+    public void setBookingMaxConnectionsPerRoute(int bookingMaxConnectionsPerRoute) {
+        this.bookingMaxConnectionsPerRoute = bookingMaxConnectionsPerRoute;
+    }
+
+    public boolean isCoalescingEnabled() {
+        return coalescingEnabled;
+    }
+
+    public void setCoalescingEnabled(boolean coalescingEnabled) {
+        this.coalescingEnabled = coalescingEnabled;
+    }
+
+    public Duration getCoalescingTimeout() {
+        return coalescingTimeout;
+    }
+
+    public void setCoalescingTimeout(Duration coalescingTimeout) {
+        this.coalescingTimeout = coalescingTimeout;
+    }
+
+    public int getRatesChunkSize() {
+        return ratesChunkSize;
+    }
+
+    public void setRatesChunkSize(int ratesChunkSize) {
+        this.ratesChunkSize = ratesChunkSize;
+    }
+
+    public Duration getRatesChunkTimeout() {
+        return ratesChunkTimeout;
+    }
+
+    public void setRatesChunkTimeout(Duration ratesChunkTimeout) {
+        this.ratesChunkTimeout = ratesChunkTimeout;
+    }
+
+    public int getRatesChunkConcurrency() {
+        return ratesChunkConcurrency;
+    }
+
+    public void setRatesChunkConcurrency(int ratesChunkConcurrency) {
+        this.ratesChunkConcurrency = ratesChunkConcurrency;
+    }
+
+    public Duration getRatesChunkPermitWait() {
+        return ratesChunkPermitWait;
+    }
+
+    public void setRatesChunkPermitWait(Duration ratesChunkPermitWait) {
+        this.ratesChunkPermitWait = ratesChunkPermitWait;
+    }
 }
@@ -0,0 +1,158 @@
+package com.travelhub.connectors.nuitee;
+
+import com.travelhub.connectors.nuitee.dto.request.HotelsListRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Query parameter mapping shared by the blocking and non-blocking Nuitee clients, so both
+ * send exactly the same requests upstream.
+ */
+final class NuiteeQueryParams {
+
+    static final String RATES_ENDPOINT = "/hotels/rates";
+    static final String PLACES_ENDPOINT = "/data/places";
+    static final String HOTEL_DETAILS_ENDPOINT = "/data/hotel";
+    static final String HOTEL_REVIEWS_ENDPOINT = "/data/reviews";
+    static final String PREBOOK_ENDPOINT = "/rates/prebook";
+    static final String BOOK_ENDPOINT = "/rates/book";
+    static final String BOOKINGS_ENDPOINT = "/bookings";
+    static final String HOTELS_ENDPOINT = "/data/hotels";
+
+    private NuiteeQueryParams() {
+    }
+
+    static UriComponentsBuilder hotels(UriComponentsBuilder builder, String countryCode, String city,
+            Integer limit, Integer offset, Double latitude, Double longitude, Integer distance,
+            List<String> hotelIds, Integer minStars, Integer maxStars, String placeId) {
+        if (countryCode != null)
+            builder.queryParam("countryCode", countryCode);
+        if (city != null)
+            builder.queryParam("city", city);
+        if (limit != null)
+            builder.queryParam("limit", limit);
+        if (offset != null)
+            builder.queryParam("offset", offset);
+        if (latitude != null)
+            builder.queryParam("latitude", latitude);
+        if (longitude != null)
+            builder.queryParam("longitude", longitude);
+        if (distance != null)
+            builder.queryParam("distance", distance);
+        if (hotelIds != null && !hotelIds.isEmpty())
+            builder.queryParam("hotelIds", String.join(",", hotelIds));
+        if (minStars != null)
+            builder.queryParam("minStars", minStars);
+        if (maxStars != null)
+            builder.queryParam("maxStars", maxStars);
+        if (placeId != null)
+            builder.queryParam("placeId", placeId);
+        return builder;
+    }
+
+    static UriComponentsBuilder hotelsList(UriComponentsBuilder builder, HotelsListRequest request) {
+        if (request.getCountryCode() != null)
+            builder.queryParam("countryCode", request.getCountryCode());
+        if (request.getCityName() != null)
+            builder.queryParam("cityName", request.getCityName());
+        if (request.getHotelName() != null)
+            builder.queryParam("hotelName", request.getHotelName());
+        if (request.getLimit() != null)
+            builder.queryParam("limit", request.getLimit());
+        if (request.getOffset() != null)
+            builder.queryParam("offset", request.getOffset());
+        if (request.getLastUpdatedAt() != null)
+            builder.queryParam("lastUpdatedAt", request.getLastUpdatedAt());
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            builder.queryParam("latitude", request.getLatitude());
+            builder.queryParam("longitude", request.getLongitude());
+            if (request.getRadius() != null)
+                builder.queryParam("radius", request.getRadius());
+        }
+        if (request.getAiSearch() != null)
+            builder.queryParam("aiSearch", request.getAiSearch());
+        if (request.getTimeout() != null)
+            builder.queryParam("timeout", request.getTimeout());
+        if (request.getZip() != null)
+            builder.queryParam("zip", request.getZip());
+        if (request.getMinRating() != null)
+            builder.queryParam("minRating", request.getMinRating());
+        if (request.getMinReviewsCount() != null)
+            builder.queryParam("minReviewsCount", request.getMinReviewsCount());
+        if (request.getFacilityIds() != null)
+            builder.queryParam("facilityIds", request.getFacilityIds());
+        if (request.getHotelTypeIds() != null)
+            builder.queryParam("hotelTypeIds", request.getHotelTypeIds());
+        if (request.getChainIds() != null)
+            builder.queryParam("chainIds", request.getChainIds());
+        if (request.getStrictFacilitiesFiltering() != null)
+            builder.queryParam("strictFacilitiesFiltering", request.getStrictFacilitiesFiltering());
+        if (request.getStarRating() != null)
+            builder.queryParam("starRating", request.getStarRating());
+        if (request.getPlaceId() != null)
+            builder.queryParam("placeId", request.getPlaceId());
+        if (request.getLanguage() != null)
+            builder.queryParam("language", request.getLanguage());
+        if (request.getHotelIds() != null)
+            builder.queryParam("hotelIds", request.getHotelIds());
+        if (request.getAdvancedAccessibilityOnly() != null)
+            builder.queryParam("advancedAccessibilityOnly", request.getAdvancedAccessibilityOnly());
+        return builder;
+    }
+
+    static UriComponentsBuilder places(UriComponentsBuilder builder, String textQuery, String language,
+            String clientIP) {
+        return builder
+                .queryParam("textQuery", textQuery)
+                .queryParam("language", language)
+                .queryParam("clientIP", clientIP);
+    }
+
+    static UriComponentsBuilder placeDetails(UriComponentsBuilder builder, String language) {
+        if (language != null) {
+            builder.queryParam("language", language);
+        }
+        return builder;
+    }
+
+    static UriComponentsBuilder hotelDetails(UriComponentsBuilder builder, String hotelId, Integer timeout,
+            String language, Boolean advancedAccessibilityOnly) {
+        builder.queryParam("hotelId", hotelId);
+        if (timeout != null) {
+            builder.queryParam("timeout", timeout);
+        }
+        if (language != null) {
+            builder.queryParam("language", language);
+        }
+        if (advancedAccessibilityOnly != null) {
+            builder.queryParam("advancedAccessibilityOnly", advancedAccessibilityOnly);
+        }
+        return builder;
+    }
+
+    static UriComponentsBuilder hotelReviews(UriComponentsBuilder builder, String hotelId, Integer limit,
+            Integer offset, Integer timeout, Boolean getSentiment) {
+        builder.queryParam("hotelId", hotelId);
+        if (limit != null) {
+            builder.queryParam("limit", limit);
+        }
+        if (offset != null) {
+            builder.queryParam("offset", offset);
+        }
+        if (timeout != null) {
+            builder.queryParam("timeout", timeout);
+        }
+        if (getSentiment != null) {
+            builder.queryParam("getSentiment", getSentiment);
+        }
+        return builder;
+    }
+
+    static UriComponentsBuilder bookings(UriComponentsBuilder builder, String clientReference) {
+        if (clientReference != null) {
+            builder.queryParam("clientReference", clientReference);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,96 @@
+package com.travelhub.connectors.nuitee;
+
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The chunks of one rates search, at most {@code concurrency} of them in flight at once: each further chunk starts
+ * when an earlier one completes, so one large search cannot take every rates bulkhead permit. A chunk the
+ * bulkhead turns away is tried again, without holding a thread, until its permit wait runs out.
+ * <p>
+ * Every chunk has its own future, created up front in request order. Its timeout runs from the chunk's start.
+ * Cancelling a chunk, or its timing out, aborts its exchange, or skips the chunk if it has not started yet.
+ */
+final class NuiteeRateChunks {
+
+    private static final long PERMIT_RETRY_MILLIS = 20;
+    private final List<HotelRatesRequest> requests;
+    private final Function<HotelRatesRequest, CompletableFuture<HotelRatesResponse>> call;
+    private final Duration timeout;
+    private final Duration permitWait;
+    private final List<CompletableFuture<HotelRatesResponse>> chunks = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    private NuiteeRateChunks(List<HotelRatesRequest> requests, Duration timeout, Duration permitWait,
+            Function<HotelRatesRequest, CompletableFuture<HotelRatesResponse>> call) {
+        this.requests = requests;
+        this.call = call;
+        this.timeout = timeout;
+        this.permitWait = permitWait;
+        for (int i = 0; i < requests.size(); i++) {
+            chunks.add(new CompletableFuture<>());
+        }
+    }
+
+    static List<CompletableFuture<HotelRatesResponse>> start(List<HotelRatesRequest> requests, int concurrency,
+            Duration timeout, Duration permitWait,
+            Function<HotelRatesRequest, CompletableFuture<HotelRatesResponse>> call) {
+        NuiteeRateChunks run = new NuiteeRateChunks(requests, timeout, permitWait, call);
+        for (int lane = 0; lane < Math.min(Math.max(concurrency, 1), requests.size()); lane++) {
+            run.startNext();
+        }
+        return List.copyOf(run.chunks);
+    }
+
+    /**
+     * Starts chunks on this lane until one is still in flight, whose completion carries the lane on. Looping rather
+     * than chaining keeps chunks that complete at once (rejected, or refused by an open circuit) off the stack.
+     */
+    private void startNext() {
+        int index;
+        while ((index = next.getAndIncrement()) < requests.size()) {
+            CompletableFuture<HotelRatesResponse> chunk = chunks.get(index);
+            if (chunk.isDone()) {
+                // Cancelled before its turn came
+                continue;
+            }
+            chunk.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            attempt(index, System.nanoTime() + permitWait.toNanos());
+            if (!chunk.isDone()) {
+                chunk.whenComplete((response, ex) -> startNext());
+                return;
+            }
+        }
+    }
+
+    private void attempt(int index, long permitDeadline) {
+        CompletableFuture<HotelRatesResponse> chunk = chunks.get(index);
+        CompletableFuture<HotelRatesResponse> exchange = call.apply(requests.get(index));
+        chunk.whenComplete((response, ex) -> {
+            if (ex != null) {
+                exchange.cancel(true);
+            }
+        });
+        exchange.whenComplete((response, ex) -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof BulkheadFullException && !chunk.isDone() && System.nanoTime() < permitDeadline) {
+                CompletableFuture.delayedExecutor(PERMIT_RETRY_MILLIS, TimeUnit.MILLISECONDS)
+                        .execute(() -> attempt(index, permitDeadline));
+            } else if (cause != null) {
+                chunk.completeExceptionally(cause);
+            } else {
+                chunk.complete(response);
+            }
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package com.travelhub.connectors.nuitee;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer for idempotent Nuitee reads. While a request is in flight, concurrent callers with the
+ * same operation and request URL wait for it and receive the same deserialized response instead of going
+ * upstream themselves. Callers must therefore treat coalesced responses as read-only.
+ */
+@Component
+public class NuiteeRequestCoalescer implements MeterBinder {
+
+    static final String HOTEL_DETAILS = "hotelDetails";
+    static final String PLACE_DETAILS = "placeDetails";
+    static final String HOTELS_LIST = "hotelsList";
+
+    private static final Logger logger = LoggerFactory.getLogger(NuiteeRequestCoalescer.class);
+    private final NuiteeProperties properties;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> collapsedCalls = new ConcurrentHashMap<>();
+
+    public NuiteeRequestCoalescer(NuiteeProperties properties) {
+        this.properties = properties;
+        for (String operation : new String[] { HOTEL_DETAILS, PLACE_DETAILS, HOTELS_LIST }) {
+            collapsedCalls.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Runs the call, or joins an identical one already in flight.
+     *
+     * @param operation the connector operation, used to tag the collapsed calls count
+     * @param requestKey the normalized request, typically the request URL
+     * @param call the upstream call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String requestKey, Supplier<T> call) {
+        if (!properties.isCoalescingEnabled()) {
+            return call.get();
+        }
+
+        String key = operation + " " + requestKey;
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            collapsedCalls.computeIfAbsent(operation, op -> new LongAdder()).increment();
+            logger.debug("Joining in-flight Nuitee request: {}", key);
+            return (T) await(existing, key);
+        }
+
+        try {
+            T result = call.get();
+            leader.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    /**
+     * Number of calls that were served by another caller's in-flight request.
+     */
+    public long getCollapsedCalls(String operation) {
+        LongAdder count = collapsedCalls.get(operation);
+        return count != null ? count.sum() : 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        collapsedCalls.forEach((operation, count) -> FunctionCounter
+                .builder("nuitee.requests.coalesced", count, LongAdder::sum)
+                .description("Nuitee calls served by an identical in-flight request")
+                .tag("operation", operation)
+                .register(registry));
+    }
+
+    private Object await(CompletableFuture<Object> future, String key) {
+        try {
+            return future.get(properties.getCoalescingTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException("Timed out waiting for in-flight Nuitee request: " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for in-flight Nuitee request: " + key);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.travelhub.connectors.nuitee;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Per-endpoint circuit breakers and bulkheads for LiteAPI calls, so one slow or failing endpoint cannot tie up
+ * the threads and connections the others need. Each endpoint has a circuit breaker and a bulkhead named after
+ * it, configured under {@code resilience4j.circuitbreaker.instances} and {@code resilience4j.bulkhead.instances}.
+ * <p>
+ * The bulkhead is checked first, so calls it rejects do not count as failures of the endpoint. Rejected calls
+ * fail with {@link BulkheadFullException}, and calls refused by an open circuit with
+ * {@link CallNotPermittedException}, without reaching LiteAPI.
+ */
+@Component
+public class NuiteeResilience {
+
+    static final String RATES = "nuiteeRates";
+    static final String HOTEL_DETAILS = "nuiteeHotelDetails";
+    static final String HOTELS = "nuiteeHotels";
+    static final String PLACES = "nuiteePlaces";
+    static final String REVIEWS = "nuiteeReviews";
+    static final String PREBOOK = "nuiteePrebook";
+    static final String BOOK = "nuiteeBook";
+    static final String BOOKINGS = "nuiteeBookings";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public NuiteeResilience(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        // Create every instance up front so all endpoints show up in actuator before their first call
+        for (String endpoint : new String[] { RATES, HOTEL_DETAILS, HOTELS, PLACES, REVIEWS, PREBOOK, BOOK,
+                BOOKINGS }) {
+            circuitBreakerRegistry.circuitBreaker(endpoint);
+            bulkheadRegistry.bulkhead(endpoint);
+        }
+    }
+
+    /**
+     * Runs a blocking call through the endpoint's bulkhead and circuit breaker.
+     */
+    public <T> T call(String endpoint, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(endpoint);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(endpoint);
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+    }
+
+    /**
+     * Starts a non-blocking call through the endpoint's bulkhead and circuit breaker. The call's own future is
+     * returned rather than a decorated copy, so a caller that times out or cancels it still aborts the exchange.
+     * The bulkhead permit is held until that future completes; a cancellation is not recorded as a failure.
+     */
+    public <T> CompletableFuture<T> callAsync(String endpoint, Supplier<CompletableFuture<T>> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(endpoint);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(endpoint);
+        if (!bulkhead.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.onComplete();
+            return CompletableFuture.failedFuture(
+                    CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            bulkhead.onComplete();
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(),
+                    e);
+            return CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, ex) -> {
+            bulkhead.onComplete();
+            long duration = circuitBreaker.getCurrentTimestamp() - start;
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause == null) {
+                circuitBreaker.onResult(duration, circuitBreaker.getTimestampUnit(), result);
+            } else if (cause instanceof CancellationException) {
+                circuitBreaker.releasePermission();
+            } else {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), cause);
+            }
+        });
+        return future;
+    }
+}
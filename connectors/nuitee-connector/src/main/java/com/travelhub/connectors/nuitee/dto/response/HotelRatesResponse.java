@@ -1,5 +1,7 @@
 package com.travelhub.connectors.nuitee.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 
 public class HotelRatesResponse {
@@ -8,6 +10,9 @@ public class HotelRatesResponse {
     private List<HotelInfo> hotels;
     private Boolean sandbox;
     private String sessionId; // Often returned but maybe not in this specific snippet, keeping just in case
+    // Set on a response merged from chunks: how many chunks failed, so their hotels are missing
+    @JsonIgnore
+    private int failedChunks;
 
     public List<HotelRate> getData() {
         return data;
@@ -48,4 +53,20 @@ public class HotelRatesResponse {
     public void setSessionId(String sessionId) {
         this.sessionId = sessionId;
     }
+
+    public int getFailedChunks() {
+        return failedChunks;
+    }
+
+    public void setFailedChunks(int failedChunks) {
+        this.failedChunks = failedChunks;
+    }
+
+    /**
+     * Whether hotels are missing because some chunks of the request failed.
+     */
+    @JsonIgnore
+    public boolean isPartial() {
+        return failedChunks > 0;
+    }
 }
@@ -4,9 +4,11 @@ import com.travelhub.connectors.nuitee.dto.request.BookRequest;
 import com.travelhub.connectors.nuitee.dto.request.PrebookRequest;
 import com.travelhub.connectors.nuitee.dto.response.BookResponse;
 import com.travelhub.connectors.nuitee.dto.response.PrebookResponse;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.client.RestTemplate;
@@ -15,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class NuiteeApiClientImplTest {
@@ -22,15 +25,20 @@ public class NuiteeApiClientImplTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private RestTemplate bookingRestTemplate;
+
     @Mock
     private NuiteeProperties properties;
 
-    @InjectMocks
     private NuiteeApiClientImpl apiClient;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        apiClient = new NuiteeApiClientImpl(restTemplate, bookingRestTemplate, properties,
+                new NuiteeRequestCoalescer(properties), new NuiteeResilience(CircuitBreakerRegistry.ofDefaults(),
+                        BulkheadRegistry.ofDefaults()), new NuiteeMetrics(new SimpleMeterRegistry()));
         when(properties.getBookingBaseUrl()).thenReturn("http://api.nuitee.com");
     }
 
@@ -45,7 +53,7 @@ public class NuiteeApiClientImplTest {
         data.setPrebookId("prebook_abc");
         response.setData(data);
 
-        when(restTemplate.postForObject(eq("http://api.nuitee.com/rates/prebook"), any(PrebookRequest.class),
+        when(bookingRestTemplate.postForObject(eq("http://api.nuitee.com/rates/prebook"), any(PrebookRequest.class),
                 eq(PrebookResponse.class)))
                 .thenReturn(response);
 
@@ -55,7 +63,7 @@ public class NuiteeApiClientImplTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getData().getPrebookId()).isEqualTo("prebook_abc");
-        verify(restTemplate).postForObject(eq("http://api.nuitee.com/rates/prebook"), eq(request),
+        verify(bookingRestTemplate).postForObject(eq("http://api.nuitee.com/rates/prebook"), eq(request),
                 eq(PrebookResponse.class));
     }
 
@@ -70,7 +78,7 @@ public class NuiteeApiClientImplTest {
         data.setBookingId("booking_123");
         response.setData(data);
 
-        when(restTemplate.postForObject(eq("http://api.nuitee.com/rates/book"), any(BookRequest.class),
+        when(bookingRestTemplate.postForObject(eq("http://api.nuitee.com/rates/book"), any(BookRequest.class),
                 eq(BookResponse.class)))
                 .thenReturn(response);
 
@@ -80,7 +88,7 @@ public class NuiteeApiClientImplTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getData().getBookingId()).isEqualTo("booking_123");
-        verify(restTemplate).postForObject(eq("http://api.nuitee.com/rates/book"), eq(request), eq(BookResponse.class));
+        verify(bookingRestTemplate).postForObject(eq("http://api.nuitee.com/rates/book"), eq(request), eq(BookResponse.class));
     }
 
     @Test
@@ -92,7 +100,7 @@ public class NuiteeApiClientImplTest {
         data.setBookingId(bookingId);
         response.setData(data);
 
-        when(restTemplate.getForObject(eq("http://api.nuitee.com/bookings/" + bookingId), eq(BookResponse.class)))
+        when(bookingRestTemplate.getForObject(eq("http://api.nuitee.com/bookings/" + bookingId), eq(BookResponse.class)))
                 .thenReturn(response);
 
         // Act
@@ -101,6 +109,6 @@ public class NuiteeApiClientImplTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getData().getBookingId()).isEqualTo(bookingId);
-        verify(restTemplate).getForObject(eq("http://api.nuitee.com/bookings/" + bookingId), eq(BookResponse.class));
+        verify(bookingRestTemplate).getForObject(eq("http://api.nuitee.com/bookings/" + bookingId), eq(BookResponse.class));
     }
 }
@@ -0,0 +1,282 @@
+package com.travelhub.connectors.nuitee;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.dreamhead.moco.HttpServer;
+import com.github.dreamhead.moco.resource.ContentResource;
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.response.BookResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelRate;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.*;
+import static com.github.dreamhead.moco.Runner.running;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NuiteeAsyncApiClientImplTest {
+
+    private HttpServer server;
+    private CloseableHttpAsyncClient httpClient;
+    private CloseableHttpAsyncClient bookingHttpClient;
+    private NuiteeProperties properties;
+    private ObjectMapper objectMapper;
+    private BulkheadRegistry bulkheadRegistry;
+    private NuiteeResilience resilience;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        server = httpServer();
+        properties = new NuiteeProperties();
+        properties.setApiKey("test-key");
+        properties.setReadTimeout(Duration.ofSeconds(5));
+        properties.setMaxTotalConnections(1);
+        properties.setMaxConnectionsPerRoute(1);
+        NuiteeConnectorConfiguration configuration = new NuiteeConnectorConfiguration();
+        httpClient = configuration.nuiteeAsyncHttpClient(properties,
+                configuration.nuiteeAsyncConnectionManager(properties));
+        bookingHttpClient = configuration.nuiteeAsyncBookingHttpClient(properties,
+                configuration.nuiteeAsyncBookingConnectionManager(properties));
+        meterRegistry = new SimpleMeterRegistry();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .build();
+        bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        resilience = new NuiteeResilience(CircuitBreakerRegistry.of(circuitBreakerConfig), bulkheadRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        httpClient.close();
+        bookingHttpClient.close();
+    }
+
+    @Test
+    public void testRetrieveHotelRates_Success() throws Exception {
+        server.post(and(by(uri("/hotels/rates")), eq(header("X-API-Key"), "test-key"),
+                eq(jsonPath("$.checkin"), "2025-06-01")))
+                .response(json(java.util.Map.of("data", List.of(java.util.Map.of("hotelId", "lp1a92f")))));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+            HotelRatesRequest request = new HotelRatesRequest();
+            request.setHotelIds(List.of("lp1a92f"));
+            request.setCheckin(LocalDate.of(2025, 6, 1));
+            request.setCheckout(LocalDate.of(2025, 6, 3));
+
+            HotelRatesResponse result = apiClient.retrieveHotelRates(request).get(5, TimeUnit.SECONDS);
+
+            assertThat(result.getData()).hasSize(1);
+            assertThat(result.getData().get(0).getHotelId()).isEqualTo("lp1a92f");
+            // Metrics are recorded by a completion callback that may run just after the caller is released
+            awaitRecorded(NuiteeMetrics.REQUESTS);
+            assertThat(meterRegistry.get(NuiteeMetrics.REQUESTS).tag("endpoint", NuiteeResilience.RATES)
+                    .tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get(NuiteeMetrics.RESPONSE_HOTELS).summary().totalAmount()).isEqualTo(1);
+            assertThat(meterRegistry.get(NuiteeMetrics.RESPONSE_SIZE).summary().totalAmount()).isPositive();
+        });
+    }
+
+    @Test
+    public void testRetrieveHotelRates_LargeListIsChunkedAndMergedInOrder() throws Exception {
+        properties.setRatesChunkSize(2);
+        server.post(eq(jsonPath("$.hotelIds[0]"), "h1")).response(rates("h1", "h2"));
+        server.post(eq(jsonPath("$.hotelIds[0]"), "h3")).response(rates("h3", "h4"));
+        server.post(eq(jsonPath("$.hotelIds[0]"), "h5")).response(rates("h5"));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+
+            HotelRatesResponse result = apiClient.retrieveHotelRates(ratesRequest("h1", "h2", "h3", "h4", "h5"))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(result.getData()).extracting(HotelRate::getHotelId)
+                    .containsExactly("h1", "h2", "h3", "h4", "h5");
+            assertThat(result.isPartial()).isFalse();
+        });
+    }
+
+    @Test
+    public void testRetrieveHotelRates_FailedChunkReturnsPartialResults() throws Exception {
+        properties.setRatesChunkSize(2);
+        server.post(eq(jsonPath("$.hotelIds[0]"), "h1")).response(rates("h1", "h2"));
+        server.post(eq(jsonPath("$.hotelIds[0]"), "h3")).response(status(503));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+
+            HotelRatesResponse result = apiClient.retrieveHotelRates(ratesRequest("h1", "h2", "h3"))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(result.getData()).extracting(HotelRate::getHotelId).containsExactly("h1", "h2");
+            assertThat(result.getFailedChunks()).isEqualTo(1);
+            assertThat(result.isPartial()).isTrue();
+        });
+    }
+
+    @Test
+    public void testGetHotelDetails_SendsQueryParameters() throws Exception {
+        server.get(and(by(uri("/data/hotel")), eq(query("hotelId"), "lp1a92f"), eq(query("language"), "fr")))
+                .response(json(java.util.Map.of("data", java.util.Map.of("id", "lp1a92f", "name", "Riad"))));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+
+            HotelDetailsResponse result = apiClient.getHotelDetails("lp1a92f", null, "fr", null)
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(result.getData().getName()).isEqualTo("Riad");
+        });
+    }
+
+    @Test
+    public void testServerError_CompletesExceptionally() throws Exception {
+        server.get(by(uri("/data/hotel"))).response(status(503));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+
+            assertThatThrownBy(() -> apiClient.getHotelDetails("lp1a92f", null, null, null)
+                    .get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(HttpServerErrorException.class);
+            awaitRecorded(NuiteeMetrics.REQUESTS);
+            assertThat(meterRegistry.get(NuiteeMetrics.REQUESTS).tag("endpoint", NuiteeResilience.HOTEL_DETAILS)
+                    .tag("outcome", "SERVER_ERROR").timer().count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void testFailingEndpoint_OpensItsCircuitOnly() throws Exception {
+        server.get(by(uri("/data/hotel"))).response(status(503));
+        server.get(by(uri("/data/reviews"))).response(json(java.util.Map.of("data", List.of())));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> apiClient.getHotelDetails("lp1a92f", null, null, null)
+                        .get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(HttpServerErrorException.class);
+            }
+
+            assertThatThrownBy(() -> apiClient.getHotelDetails("lp1a92f", null, null, null)
+                    .get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(CallNotPermittedException.class);
+            assertThat(apiClient.getHotelReviews("lp1a92f", null, null, null, null).get(5, TimeUnit.SECONDS)
+                    .getData()).isEmpty();
+        });
+    }
+
+    @Test
+    public void testBooking_DoesNotWaitForBusySearchPool() throws Exception {
+        server.get(by(uri("/data/hotel"))).response(latency(3, TimeUnit.SECONDS),
+                json(java.util.Map.of("data", java.util.Map.of())));
+        server.get(by(uri("/bookings/b1")))
+                .response(json(java.util.Map.of("data", java.util.Map.of("bookingId", "b1"))));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+            // The search pool has a single connection, held by this call
+            CompletableFuture<HotelDetailsResponse> search = apiClient.getHotelDetails("lp1a92f", null, null, null);
+
+            BookResponse booking = apiClient.getBooking("b1").get(1, TimeUnit.SECONDS);
+
+            assertThat(booking.getData().getBookingId()).isEqualTo("b1");
+            assertThat(search).isNotDone();
+        });
+    }
+
+    @Test
+    public void testRetrieveHotelRatesInChunks_CancelledChunkAbortsItsExchange() throws Exception {
+        server.post(by(uri("/hotels/rates"))).response(latency(3, TimeUnit.SECONDS), rates("h1"));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(NuiteeResilience.RATES);
+            CompletableFuture<HotelRatesResponse> chunk = apiClient.retrieveHotelRatesInChunks(ratesRequest("h1"))
+                    .get(0);
+            assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls())
+                    .isLessThan(bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+
+            chunk.cancel(true);
+
+            // The exchange itself completed, instead of holding its permit until the response arrives
+            assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls())
+                    .isEqualTo(bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+        });
+    }
+
+    @Test
+    public void testRetrieveHotelRates_CancelledMergeAbortsItsChunks() throws Exception {
+        properties.setRatesChunkSize(1);
+        server.post(by(uri("/hotels/rates"))).response(latency(3, TimeUnit.SECONDS), rates("h1"));
+
+        running(server, () -> {
+            NuiteeAsyncApiClientImpl apiClient = clientFor(server);
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(NuiteeResilience.RATES);
+            CompletableFuture<HotelRatesResponse> merged = apiClient.retrieveHotelRates(ratesRequest("h1", "h2"));
+            assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls())
+                    .isLessThan(bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+
+            merged.cancel(true);
+
+            assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls())
+                    .isEqualTo(bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+        });
+    }
+
+    private void awaitRecorded(String timerName) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            io.micrometer.core.instrument.Timer timer = meterRegistry.find(timerName).timer();
+            if (timer != null && timer.count() > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private HotelRatesRequest ratesRequest(String... hotelIds) {
+        HotelRatesRequest request = new HotelRatesRequest();
+        request.setHotelIds(List.of(hotelIds));
+        request.setCheckin(LocalDate.of(2025, 6, 1));
+        request.setCheckout(LocalDate.of(2025, 6, 3));
+        return request;
+    }
+
+    private ContentResource rates(String... hotelIds) {
+        return json(java.util.Map.of("data", java.util.Arrays.stream(hotelIds)
+                .map(hotelId -> java.util.Map.of("hotelId", hotelId)).toList()));
+    }
+
+    private NuiteeAsyncApiClientImpl clientFor(HttpServer server) {
+        properties.setBaseUrl("http://localhost:" + server.port());
+        properties.setBookingBaseUrl("http://localhost:" + server.port());
+        return new NuiteeAsyncApiClientImpl(httpClient, bookingHttpClient, properties, objectMapper, resilience,
+                new NuiteeMetrics(meterRegistry));
+    }
+}
@@ -0,0 +1,55 @@
+package com.travelhub.connectors.nuitee;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NuiteeMetricsTest {
+
+    @Test
+    public void testOutcome_ClassifiesFailures() {
+        assertThat(NuiteeMetrics.outcome(null)).isEqualTo("SUCCESS");
+        assertThat(NuiteeMetrics.outcome(new HttpClientErrorException(HttpStatus.NOT_FOUND)))
+                .isEqualTo("CLIENT_ERROR");
+        assertThat(NuiteeMetrics.outcome(new CompletionException(new TimeoutException()))).isEqualTo("TIMEOUT");
+        assertThat(NuiteeMetrics.outcome(new ResourceAccessException("I/O error", new SocketTimeoutException())))
+                .isEqualTo("TIMEOUT");
+        assertThat(NuiteeMetrics.outcome(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("b"))))
+                .isEqualTo("REJECTED");
+    }
+
+    @Test
+    public void testRecord_ReusesMeterPerEndpointClientAndOutcome() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NuiteeMetrics metrics = new NuiteeMetrics(meterRegistry);
+
+        metrics.record(NuiteeResilience.RATES, () -> "ok");
+        Timer timer = meterRegistry.get(NuiteeMetrics.REQUESTS).tag("outcome", "SUCCESS").timer();
+        metrics.record(NuiteeResilience.RATES, () -> "ok");
+        metrics.recordResponseSize(NuiteeResilience.RATES, NuiteeMetrics.BLOCKING, 100);
+        metrics.recordResponseSize(NuiteeResilience.RATES, NuiteeMetrics.BLOCKING, 300);
+
+        assertThat(meterRegistry.get(NuiteeMetrics.REQUESTS).tag("outcome", "SUCCESS").timer()).isSameAs(timer);
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(meterRegistry.get(NuiteeMetrics.RESPONSE_SIZE).summary().totalAmount()).isEqualTo(400);
+    }
+
+    @Test
+    public void testEndpointOf_MatchesMostSpecificPath() {
+        assertThat(NuiteeMetrics.endpointOf("/v3.0/data/hotels")).isEqualTo(NuiteeResilience.HOTELS);
+        assertThat(NuiteeMetrics.endpointOf("/v3.0/data/hotel")).isEqualTo(NuiteeResilience.HOTEL_DETAILS);
+        assertThat(NuiteeMetrics.endpointOf("/v3.0/rates/prebook")).isEqualTo(NuiteeResilience.PREBOOK);
+        assertThat(NuiteeMetrics.endpointOf("/v3.0/bookings/b1")).isEqualTo(NuiteeResilience.BOOKINGS);
+    }
+}
@@ -0,0 +1,89 @@
+package com.travelhub.connectors.nuitee;
+
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NuiteeRateChunksTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    public void testStart_KeepsAtMostConcurrencyChunksInFlight() {
+        Map<String, CompletableFuture<HotelRatesResponse>> started = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<HotelRatesResponse>> chunks = NuiteeRateChunks.start(requests(5), 2, TIMEOUT,
+                Duration.ZERO, request -> started.computeIfAbsent(request.getHotelIds().get(0),
+                        hotelId -> new CompletableFuture<>()));
+
+        assertThat(started).containsOnlyKeys("h0", "h1");
+        started.get("h1").complete(new HotelRatesResponse());
+        assertThat(started).containsOnlyKeys("h0", "h1", "h2");
+        assertThat(chunks.get(1)).isCompleted();
+        started.get("h0").complete(new HotelRatesResponse());
+        started.get("h2").complete(new HotelRatesResponse());
+        started.get("h3").complete(new HotelRatesResponse());
+        started.get("h4").complete(new HotelRatesResponse());
+        assertThat(chunks).allMatch(CompletableFuture::isDone);
+    }
+
+    @Test
+    public void testStart_RejectedChunksDoNotStallTheLane() {
+        // Chunks failing at once are looped over, not recursed into
+        List<CompletableFuture<HotelRatesResponse>> chunks = NuiteeRateChunks.start(requests(10_000), 1, TIMEOUT,
+                Duration.ZERO, request -> CompletableFuture.failedFuture(new IllegalStateException("open")));
+
+        assertThat(chunks).allMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    @Test
+    public void testStart_RejectedChunkWaitsForAPermit() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        BulkheadFullException rejected = BulkheadFullException
+                .createBulkheadFullException(Bulkhead.ofDefaults(NuiteeResilience.RATES));
+        HotelRatesResponse response = new HotelRatesResponse();
+
+        List<CompletableFuture<HotelRatesResponse>> chunks = NuiteeRateChunks.start(requests(1), 1, TIMEOUT,
+                Duration.ofSeconds(2), request -> attempts.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(rejected)
+                        : CompletableFuture.completedFuture(response));
+
+        assertThat(chunks.get(0).get(2, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    public void testStart_CancelledChunkIsNotStartedAndInFlightOneIsAborted() {
+        Map<String, CompletableFuture<HotelRatesResponse>> started = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<HotelRatesResponse>> chunks = NuiteeRateChunks.start(requests(3), 1, TIMEOUT,
+                Duration.ZERO, request -> started.computeIfAbsent(request.getHotelIds().get(0),
+                        hotelId -> new CompletableFuture<>()));
+        chunks.get(1).cancel(true);
+        chunks.get(0).cancel(true);
+
+        assertThat(started.get("h0")).isCancelled();
+        assertThat(started).containsOnlyKeys("h0", "h2");
+    }
+
+    private List<HotelRatesRequest> requests(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            HotelRatesRequest request = new HotelRatesRequest();
+            request.setHotelIds(List.of("h" + i));
+            return request;
+        }).toList();
+    }
+}
@@ -0,0 +1,145 @@
+package com.travelhub.connectors.nuitee;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NuiteeRequestCoalescerTest {
+
+    private NuiteeProperties properties;
+    private NuiteeRequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new NuiteeProperties();
+        coalescer = new NuiteeRequestCoalescer(properties);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentIdenticalCalls_ShareOneUpstreamCall() throws Exception {
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Object response = new Object();
+
+        Future<Object> leader = executor.submit(() -> coalescer.execute(NuiteeRequestCoalescer.HOTEL_DETAILS,
+                "/data/hotel?hotelId=lp1a92f", () -> {
+                    upstreamCalls.incrementAndGet();
+                    upstreamStarted.countDown();
+                    await(release);
+                    return response;
+                }));
+        upstreamStarted.await(5, TimeUnit.SECONDS);
+        Future<Object> follower = executor.submit(() -> coalescer.execute(NuiteeRequestCoalescer.HOTEL_DETAILS,
+                "/data/hotel?hotelId=lp1a92f", () -> {
+                    upstreamCalls.incrementAndGet();
+                    return new Object();
+                }));
+        waitForCollapsedCall();
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(upstreamCalls).hasValue(1);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescer.bindTo(registry);
+        assertThat(registry.get("nuitee.requests.coalesced").tag("operation", "hotelDetails")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void testFollower_ReceivesLeaderFailure() throws Exception {
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> coalescer.execute(NuiteeRequestCoalescer.PLACE_DETAILS,
+                "/data/places/ChIJ", () -> {
+                    upstreamStarted.countDown();
+                    await(release);
+                    throw new ResourceAccessException("Read timed out");
+                }));
+        upstreamStarted.await(5, TimeUnit.SECONDS);
+        Future<Object> follower = executor.submit(() -> coalescer.execute(NuiteeRequestCoalescer.PLACE_DETAILS,
+                "/data/places/ChIJ", Object::new));
+        waitForCollapsedCall(NuiteeRequestCoalescer.PLACE_DETAILS);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(ResourceAccessException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    public void testFollower_GivesUpAfterCoalescingTimeout() throws Exception {
+        properties.setCoalescingTimeout(Duration.ofMillis(50));
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(() -> coalescer.execute(NuiteeRequestCoalescer.HOTELS_LIST, "/data/hotels?placeId=x",
+                () -> {
+                    upstreamStarted.countDown();
+                    await(release);
+                    return new Object();
+                }));
+        upstreamStarted.await(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> coalescer.execute(NuiteeRequestCoalescer.HOTELS_LIST, "/data/hotels?placeId=x",
+                Object::new)).isInstanceOf(ResourceAccessException.class);
+        release.countDown();
+    }
+
+    @Test
+    public void testSequentialCalls_AreNotCoalesced() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        coalescer.execute(NuiteeRequestCoalescer.HOTEL_DETAILS, "/data/hotel?hotelId=lp1a92f",
+                upstreamCalls::incrementAndGet);
+        coalescer.execute(NuiteeRequestCoalescer.HOTEL_DETAILS, "/data/hotel?hotelId=lp1a92f",
+                upstreamCalls::incrementAndGet);
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(coalescer.getCollapsedCalls(NuiteeRequestCoalescer.HOTEL_DETAILS)).isZero();
+    }
+
+    private void waitForCollapsedCall() throws InterruptedException {
+        waitForCollapsedCall(NuiteeRequestCoalescer.HOTEL_DETAILS);
+    }
+
+    private void waitForCollapsedCall(String operation) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.getCollapsedCalls(operation) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.travelhub.simulator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class LiteApiSimulatorApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(LiteApiSimulatorApplication.class, args);
+    }
+
+}
@@ -0,0 +1,572 @@
+package com.travelhub.simulator;
+
+import com.travelhub.connectors.nuitee.dto.common.Price;
+import com.travelhub.connectors.nuitee.dto.request.BookRequest;
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.request.PrebookRequest;
+import com.travelhub.connectors.nuitee.dto.response.BedType;
+import com.travelhub.connectors.nuitee.dto.response.BookResponse;
+import com.travelhub.connectors.nuitee.dto.response.BookingHotelInfo;
+import com.travelhub.connectors.nuitee.dto.response.BookingListResponse;
+import com.travelhub.connectors.nuitee.dto.response.CancellationPolicyDetail;
+import com.travelhub.connectors.nuitee.dto.response.CancellationPolicyInfo;
+import com.travelhub.connectors.nuitee.dto.response.CheckinCheckoutTimes;
+import com.travelhub.connectors.nuitee.dto.response.Facility;
+import com.travelhub.connectors.nuitee.dto.response.HotelData;
+import com.travelhub.connectors.nuitee.dto.response.HotelDetailsResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelImage;
+import com.travelhub.connectors.nuitee.dto.response.HotelInfo;
+import com.travelhub.connectors.nuitee.dto.response.HotelRate;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelReviewsResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import com.travelhub.connectors.nuitee.dto.response.Location;
+import com.travelhub.connectors.nuitee.dto.response.MinimalHotelData;
+import com.travelhub.connectors.nuitee.dto.response.Place;
+import com.travelhub.connectors.nuitee.dto.response.PlaceDetails;
+import com.travelhub.connectors.nuitee.dto.response.PlaceDetailsResponse;
+import com.travelhub.connectors.nuitee.dto.response.PlaceResponse;
+import com.travelhub.connectors.nuitee.dto.response.PrebookResponse;
+import com.travelhub.connectors.nuitee.dto.response.Rate;
+import com.travelhub.connectors.nuitee.dto.response.RetailRateDetail;
+import com.travelhub.connectors.nuitee.dto.response.Review;
+import com.travelhub.connectors.nuitee.dto.response.Room;
+import com.travelhub.connectors.nuitee.dto.response.RoomAmenity;
+import com.travelhub.connectors.nuitee.dto.response.RoomPhoto;
+import com.travelhub.connectors.nuitee.dto.response.RoomType;
+import com.travelhub.connectors.nuitee.dto.response.TaxAndFee;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Generates LiteAPI payloads around Marrakech from a fixed catalog of {@link #CATALOG_SIZE} hotels. Content is
+ * derived from the configured seed and the request, so repeated requests get the same hotels, rooms and prices,
+ * and room IDs in rates match the rooms of the hotel details.
+ */
+@Component
+public class PayloadGenerator {
+
+    static final int CATALOG_SIZE = 5000;
+
+    private static final String[] ROOM_NAMES = { "Chambre Double", "Chambre Twin", "Suite Junior", "Riad Suite",
+            "Chambre Familiale", "Chambre Deluxe Vue Piscine", "Chambre Supérieure", "Suite Royale" };
+    private static final String[] BOARDS = { "RO", "BB", "HB", "FB" };
+    private static final String[] BOARD_NAMES = { "Room only", "Bed and breakfast", "Half board", "Full board" };
+    private static final String[] FACILITIES = { "Free WiFi", "Swimming pool", "Spa", "Hammam", "Airport shuttle",
+            "Restaurant", "Bar", "Fitness center", "Roof terrace", "Garden", "Parking", "Room service",
+            "24-hour front desk", "Air conditioning", "Family rooms", "Non-smoking rooms", "Laundry", "Concierge",
+            "Currency exchange", "Tour desk", "Luggage storage", "Heating", "Safe", "Library", "Massage",
+            "Outdoor pool", "Babysitting", "Pets allowed", "Elevator", "Meeting rooms" };
+    private static final String LOREM = "Nestled in the heart of the medina, a short walk from Jemaa el-Fna, this "
+            + "traditional riad offers rooms arranged around a tiled courtyard with a fountain and orange trees. "
+            + "Guests can relax on the roof terrace with views over the Atlas mountains, enjoy a hammam and "
+            + "massage in the spa, or dine on Moroccan specialities prepared with produce from the local souks. ";
+
+    private final SimulatorProperties properties;
+
+    public PayloadGenerator(SimulatorProperties properties) {
+        this.properties = properties;
+    }
+
+    public HotelRatesResponse rates(HotelRatesRequest request) {
+        SimulatorProperties.Payload payload = properties.getPayload();
+        List<String> hotelIds = request.getHotelIds() != null ? request.getHotelIds() : List.of();
+        int nights = request.getCheckin() != null && request.getCheckout() != null
+                ? (int) Math.max(1, ChronoUnit.DAYS.between(request.getCheckin(), request.getCheckout()))
+                : 1;
+
+        List<HotelRate> data = new ArrayList<>();
+        List<HotelInfo> hotels = new ArrayList<>();
+        for (String hotelId : hotelIds) {
+            Random random = random(hotelId, request.getCheckin());
+            if (random.nextDouble() >= payload.getAvailability()) {
+                continue;
+            }
+            HotelRate hotelRate = new HotelRate();
+            hotelRate.setHotelId(hotelId);
+            hotelRate.setEt(10800);
+            hotelRate.setRoomTypes(roomTypes(random, hotelId, nights, request.getCheckin(),
+                    payload.getRoomTypesPerHotel(), payload.getRatesPerRoomType()));
+            data.add(hotelRate);
+
+            MinimalHotelData minimal = minimalHotel(indexOf(hotelId));
+            HotelInfo info = new HotelInfo();
+            info.setId(hotelId);
+            info.setName(minimal.getName());
+            info.setMainPhoto(minimal.getMainPhoto());
+            info.setAddress(minimal.getAddress());
+            info.setRating(BigDecimal.valueOf(minimal.getRating()));
+            info.setReviewCount(minimal.getReviewCount());
+            hotels.add(info);
+        }
+
+        HotelRatesResponse response = new HotelRatesResponse();
+        response.setData(data);
+        response.setHotels(hotels);
+        response.setGuestLevel(0);
+        response.setSandbox(true);
+        response.setSessionId("sim-" + Integer.toHexString(Objects.hash(hotelIds, request.getCheckin())));
+        return response;
+    }
+
+    /**
+     * A page of the catalog. Place and coordinate searches start at a position derived from the search, so
+     * different searches return different hotels; other searches page through the catalog in order.
+     */
+    public HotelsListResponse hotels(String searchKey, String hotelIds, Integer offset, Integer limit) {
+        List<MinimalHotelData> data = new ArrayList<>();
+        if (hotelIds != null && !hotelIds.isBlank()) {
+            for (String hotelId : hotelIds.split(",")) {
+                data.add(minimalHotel(indexOf(hotelId.trim())));
+            }
+        } else {
+            int from = offset != null ? Math.max(0, offset) : 0;
+            int size = limit != null ? limit : properties.getPayload().getHotelsPerSearch();
+            int base = searchKey != null ? Math.floorMod(searchKey.hashCode(), CATALOG_SIZE) : 0;
+            for (int i = from; i < Math.min(CATALOG_SIZE, from + size); i++) {
+                data.add(minimalHotel((base + i) % CATALOG_SIZE));
+            }
+        }
+
+        HotelsListResponse response = new HotelsListResponse();
+        response.setData(data);
+        response.setHotelIds(data.stream().map(MinimalHotelData::getId).toList());
+        return response;
+    }
+
+    public HotelDetailsResponse hotelDetails(String hotelId) {
+        int index = indexOf(hotelId);
+        MinimalHotelData minimal = minimalHotel(index);
+        Random random = random(hotelId, null);
+        SimulatorProperties.Payload payload = properties.getPayload();
+
+        HotelData hotel = new HotelData();
+        hotel.setId(hotelId);
+        hotel.setName(minimal.getName());
+        hotel.setHotelDescription("<p>" + LOREM.repeat(6) + "</p>");
+        hotel.setHotelImportantInformation(LOREM);
+        CheckinCheckoutTimes times = new CheckinCheckoutTimes();
+        times.setCheckin("15:00");
+        times.setCheckout("12:00");
+        hotel.setCheckinCheckoutTimes(times);
+        hotel.setMainPhoto(minimal.getMainPhoto());
+        hotel.setThumbnail(minimal.getThumbnail());
+        hotel.setCountry("ma");
+        hotel.setCity(minimal.getCity());
+        hotel.setStarRating(minimal.getStars());
+        Location location = new Location();
+        location.setLatitude(minimal.getLatitude());
+        location.setLongitude(minimal.getLongitude());
+        hotel.setLocation(location);
+        hotel.setAddress(minimal.getAddress());
+        hotel.setZip("40000");
+        hotel.setCurrency("EUR");
+        hotel.setRating(BigDecimal.valueOf(minimal.getRating()));
+        hotel.setReviewCount(minimal.getReviewCount());
+        hotel.setHotelType("Riad");
+        hotel.setHotelTypeId(204);
+        hotel.setPhone("+212 524 38 " + (10 + index % 90) + " " + (10 + index % 80));
+        hotel.setEmail("contact@riad" + index + ".ma");
+        hotel.setChildAllowed(true);
+        hotel.setPetsAllowed(false);
+
+        List<HotelImage> images = new ArrayList<>();
+        for (int i = 0; i < payload.getImagesPerHotel(); i++) {
+            HotelImage image = new HotelImage();
+            image.setUrl("https://static.cupid.travel/hotels/" + index + "/" + i + ".jpg");
+            image.setUrlHd("https://static.cupid.travel/hotels/hd/" + index + "/" + i + ".jpg");
+            image.setCaption(i == 0 ? "Courtyard" : "Photo " + i);
+            image.setOrder(i);
+            image.setDefaultImage(i == 0);
+            images.add(image);
+        }
+        hotel.setHotelImages(images);
+
+        List<Facility> facilities = new ArrayList<>();
+        List<Integer> facilityIds = new ArrayList<>();
+        List<String> facilityNames = new ArrayList<>();
+        for (int i = 0; i < FACILITIES.length; i++) {
+            if (random.nextInt(3) > 0) {
+                Facility facility = new Facility();
+                facility.setFacilityId(i + 1);
+                facility.setName(FACILITIES[i]);
+                facilities.add(facility);
+                facilityIds.add(i + 1);
+                facilityNames.add(FACILITIES[i]);
+            }
+        }
+        hotel.setFacilities(facilities);
+        hotel.setFacilityIds(facilityIds);
+        hotel.setHotelFacilities(facilityNames);
+
+        List<Room> rooms = new ArrayList<>();
+        for (int r = 0; r < payload.getRoomsPerHotel(); r++) {
+            rooms.add(room(random, hotelId, r));
+        }
+        hotel.setRooms(rooms);
+
+        HotelDetailsResponse response = new HotelDetailsResponse();
+        response.setData(hotel);
+        return response;
+    }
+
+    public PlaceResponse places(String textQuery) {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < properties.getPayload().getPlacesPerSearch(); i++) {
+            String placeId = placeId(textQuery + "#" + i);
+            MinimalHotelData.Location location = new MinimalHotelData.Location();
+            location.setLatitude(BigDecimal.valueOf(31.6258 + i * 0.004));
+            location.setLongitude(BigDecimal.valueOf(-7.9891 - i * 0.004));
+            Place place = new Place();
+            place.setPlaceId(placeId);
+            place.setDisplayName((textQuery != null ? textQuery : "Marrakech") + (i == 0 ? "" : " " + i));
+            place.setLocation(location);
+            place.setTypes(List.of("locality", "political"));
+            places.add(place);
+        }
+        PlaceResponse response = new PlaceResponse();
+        response.setData(places);
+        return response;
+    }
+
+    public PlaceDetailsResponse placeDetails(String placeId) {
+        Location location = new Location();
+        location.setLatitude(BigDecimal.valueOf(31.6258));
+        location.setLongitude(BigDecimal.valueOf(-7.9891));
+        PlaceDetails details = new PlaceDetails();
+        details.setPlaceId(placeId);
+        details.setDescription("Marrakech, Morocco");
+        details.setCity("Marrakech");
+        details.setLocation(location);
+        PlaceDetailsResponse response = new PlaceDetailsResponse();
+        response.setData(details);
+        return response;
+    }
+
+    public HotelReviewsResponse reviews(String hotelId, Integer limit, Integer offset) {
+        Random random = random(hotelId, null);
+        int size = limit != null ? limit : properties.getPayload().getReviewsPerPage();
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Review review = new Review();
+            review.setAverageScore(5 + random.nextInt(50) / 10.0);
+            review.setCountry(random.nextBoolean() ? "fr" : "gb");
+            review.setType(random.nextBoolean() ? "couple" : "family");
+            review.setName("Guest " + ((offset != null ? offset : 0) + i));
+            review.setDate(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(300)).toString());
+            review.setHeadline("A lovely stay in the medina");
+            review.setLanguage("en");
+            review.setPros(LOREM.substring(0, 120 + random.nextInt(150)));
+            review.setCons(random.nextBoolean() ? "Hard to find the first time." : "");
+            review.setSource("Nuitee");
+            reviews.add(review);
+        }
+        HotelReviewsResponse response = new HotelReviewsResponse();
+        response.setData(reviews);
+        response.setTotal(size * 10);
+        return response;
+    }
+
+    public PrebookResponse prebook(PrebookRequest request) {
+        String offerId = request.getOfferId();
+        Random random = random(offerId, null);
+        BigDecimal price = amount(random);
+
+        PrebookResponse.PrebookData data = new PrebookResponse.PrebookData();
+        data.setPrebookId("sim-pb-" + Integer.toHexString(Objects.hashCode(offerId)));
+        data.setOfferId(offerId);
+        data.setHotelId(hotelId(random.nextInt(CATALOG_SIZE)));
+        data.setCurrency("EUR");
+        data.setPrice(price);
+        data.setSuggestedSellingPrice(price.multiply(BigDecimal.valueOf(1.1)).setScale(2, RoundingMode.HALF_UP));
+        data.setCommission(price.multiply(BigDecimal.valueOf(0.08)).setScale(2, RoundingMode.HALF_UP));
+        data.setPriceType("commission");
+        data.setPriceDifferencePercent(BigDecimal.ZERO);
+        data.setCancellationChanged(false);
+        data.setBoardChanged(false);
+        data.setSupplier("nuitee");
+        data.setSupplierId(2);
+        data.setPaymentTypes(List.of("NUITEE_PAY"));
+        data.setTermsAndConditions(LOREM);
+
+        PrebookResponse response = new PrebookResponse();
+        response.setData(data);
+        response.setGuestLevel(0);
+        response.setSandbox(true);
+        return response;
+    }
+
+    public BookResponse book(BookRequest request) {
+        BookResponse response = booking("sim-bk-" + Integer.toHexString(Objects.hashCode(request.getPrebookId())));
+        BookResponse.BookData data = response.getData();
+        data.setPrebookId(request.getPrebookId());
+        data.setClientReference(request.getClientReference());
+        if (request.getGuests() != null && !request.getGuests().isEmpty()) {
+            data.setFirstName(request.getGuests().get(0).getFirstName());
+            data.setLastName(request.getGuests().get(0).getLastName());
+            data.setEmail(request.getGuests().get(0).getEmail());
+        }
+        return response;
+    }
+
+    public BookResponse booking(String bookingId) {
+        Random random = random(bookingId, null);
+        int index = random.nextInt(CATALOG_SIZE);
+        LocalDate checkin = LocalDate.of(2025, 6, 1).plusDays(random.nextInt(180));
+        BigDecimal price = amount(random);
+
+        BookingHotelInfo hotel = new BookingHotelInfo();
+        hotel.setHotelId(hotelId(index));
+        hotel.setName(minimalHotel(index).getName());
+
+        BookResponse.BookData data = new BookResponse.BookData();
+        data.setBookingId(bookingId);
+        data.setSupplierBookingId("SUP" + Integer.toHexString(bookingId.hashCode()));
+        data.setSupplier("nuitee");
+        data.setSupplierId(2);
+        data.setHotelConfirmationCode("HC" + Math.abs(bookingId.hashCode() % 100000));
+        data.setStatus("CONFIRMED");
+        data.setCheckin(checkin.toString());
+        data.setCheckout(checkin.plusDays(1 + random.nextInt(6)).toString());
+        data.setHotel(hotel);
+        data.setHotelId(hotel.getHotelId());
+        data.setHotelName(hotel.getName());
+        data.setPrice(price);
+        data.setCommission(price.multiply(BigDecimal.valueOf(0.08)).setScale(2, RoundingMode.HALF_UP));
+        data.setCurrency("EUR");
+        data.setAdults(2);
+        data.setChildrenCount(0);
+        data.setFirstName("Simulated");
+        data.setLastName("Guest");
+        data.setEmail("guest@example.com");
+        data.setCreatedAt(LocalDateTime.of(2025, 5, 1, 10, 0).plusMinutes(random.nextInt(100_000)));
+        data.setUpdatedAt(data.getCreatedAt());
+        data.setCancellationPolicies(cancellation(price, checkin));
+
+        BookResponse response = new BookResponse();
+        response.setData(data);
+        response.setGuestLevel(0);
+        response.setSandbox(true);
+        return response;
+    }
+
+    public BookingListResponse bookings(String clientReference) {
+        List<BookingListResponse.BookingData> bookings = new ArrayList<>();
+        for (int i = 0; i < properties.getPayload().getBookingsPerClient(); i++) {
+            BookResponse.BookData booking = booking("sim-bk-" + Integer.toHexString(
+                    Objects.hash(clientReference, i))).getData();
+            BookingListResponse.HotelInfo hotel = new BookingListResponse.HotelInfo();
+            hotel.setHotelId(booking.getHotelId());
+            hotel.setName(booking.getHotelName());
+            BookingListResponse.BookingData data = new BookingListResponse.BookingData();
+            data.setBookingId(booking.getBookingId());
+            data.setClientReference(clientReference);
+            data.setStatus(booking.getStatus());
+            data.setCheckin(booking.getCheckin());
+            data.setCheckout(booking.getCheckout());
+            data.setHotel(hotel);
+            data.setPrice(booking.getPrice());
+            data.setCurrency(booking.getCurrency());
+            bookings.add(data);
+        }
+        BookingListResponse response = new BookingListResponse();
+        response.setData(bookings);
+        return response;
+    }
+
+    private MinimalHotelData minimalHotel(int index) {
+        Random random = new Random(properties.getSeed() * 31 + index);
+        MinimalHotelData hotel = new MinimalHotelData();
+        hotel.setId(hotelId(index));
+        hotel.setName("Riad " + ROOM_NAMES[index % ROOM_NAMES.length].split(" ")[0] + " " + index);
+        hotel.setHotelDescription(LOREM);
+        hotel.setHotelType("Riad");
+        hotel.setHotelTypeId(204);
+        hotel.setCurrency("EUR");
+        hotel.setStars(2 + random.nextInt(4));
+        hotel.setLatitude(BigDecimal.valueOf(31.58 + random.nextDouble() * 0.1).setScale(6, RoundingMode.HALF_UP));
+        hotel.setLongitude(BigDecimal.valueOf(-8.05 + random.nextDouble() * 0.1).setScale(6, RoundingMode.HALF_UP));
+        hotel.setAddress(index + " Derb Sidi Bouloukat");
+        hotel.setZip("40000");
+        hotel.setCity("Marrakech");
+        hotel.setCountry("ma");
+        hotel.setCountryCode("MA");
+        hotel.setMainPhoto("https://static.cupid.travel/hotels/" + index + "/0.jpg");
+        hotel.setThumbnail("https://static.cupid.travel/hotels/thumb/" + index + ".jpg");
+        hotel.setRating(6 + random.nextInt(40) / 10.0);
+        hotel.setReviewCount(random.nextInt(2000));
+        hotel.setFacilityIds(List.of(1, 2, 3 + random.nextInt(28)));
+        return hotel;
+    }
+
+    private Room room(Random random, String hotelId, int index) {
+        Room room = new Room();
+        room.setId(index + 1);
+        room.setRoomName(ROOM_NAMES[index % ROOM_NAMES.length]);
+        room.setDescription(LOREM.substring(0, 200));
+        room.setRoomSizeSquare(16 + random.nextInt(40));
+        room.setRoomSizeUnit("m2");
+        room.setHotelId(hotelId);
+        room.setMaxAdults(2 + index % 3);
+        room.setMaxChildren(index % 3);
+        room.setMaxOccupancy(room.getMaxAdults() + room.getMaxChildren());
+        BedType bed = new BedType();
+        bed.setQuantity(1);
+        bed.setBedType(index % 2 == 0 ? "Double bed" : "Twin beds");
+        bed.setBedSize("160-200 cm");
+        room.setBedTypes(List.of(bed));
+        List<RoomAmenity> amenities = new ArrayList<>();
+        for (int a = 0; a < 20; a++) {
+            RoomAmenity amenity = new RoomAmenity();
+            amenity.setAmenitiesId(a + 1);
+            amenity.setName(FACILITIES[a % FACILITIES.length]);
+            amenity.setSort(a);
+            amenities.add(amenity);
+        }
+        room.setRoomAmenities(amenities);
+        List<RoomPhoto> photos = new ArrayList<>();
+        for (int p = 0; p < 5; p++) {
+            RoomPhoto photo = new RoomPhoto();
+            photo.setUrl("https://static.cupid.travel/rooms/" + hotelId + "/" + index + "/" + p + ".jpg");
+            photo.setHdUrl("https://static.cupid.travel/rooms/hd/" + hotelId + "/" + index + "/" + p + ".jpg");
+            photo.setImageDescription(room.getRoomName());
+            photo.setMainPhoto(p == 0);
+            photo.setScore(random.nextInt(100));
+            photos.add(photo);
+        }
+        room.setPhotos(photos);
+        return room;
+    }
+
+    private List<RoomType> roomTypes(Random random, String hotelId, int nights, LocalDate checkin,
+            int roomTypes, int ratesPerRoomType) {
+        int rooms = properties.getPayload().getRoomsPerHotel();
+        List<RoomType> result = new ArrayList<>(roomTypes);
+        for (int t = 0; t < roomTypes; t++) {
+            int board = random.nextInt(BOARDS.length);
+            long mappedRoomId = 1 + random.nextInt(Math.max(1, rooms));
+            BigDecimal offerTotal = BigDecimal.ZERO;
+            List<Rate> rates = new ArrayList<>(ratesPerRoomType);
+            for (int r = 0; r < ratesPerRoomType; r++) {
+                BigDecimal amount = amount(random).multiply(BigDecimal.valueOf(nights));
+                offerTotal = offerTotal.add(amount);
+                rates.add(rate(t, r, board, amount, mappedRoomId, checkin));
+            }
+            RoomType roomType = new RoomType();
+            roomType.setRoomTypeId("rt" + t);
+            roomType.setOfferId("sim-" + hotelId + "-" + t + "-" + Integer.toHexString(random.nextInt()));
+            roomType.setSupplier("nuitee");
+            roomType.setSupplierId(2);
+            roomType.setRates(rates);
+            roomType.setOfferRetailRate(price(offerTotal));
+            roomType.setSuggestedSellingPrice(price(offerTotal.multiply(BigDecimal.valueOf(1.1))
+                    .setScale(2, RoundingMode.HALF_UP)));
+            roomType.setOfferInitialPrice(price(offerTotal));
+            roomType.setPriceType("commission");
+            roomType.setRateType("standard");
+            roomType.setPaymentTypes(List.of("NUITEE_PAY"));
+            result.add(roomType);
+        }
+        return result;
+    }
+
+    private Rate rate(int roomType, int index, int board, BigDecimal amount, long mappedRoomId, LocalDate checkin) {
+        TaxAndFee tax = new TaxAndFee();
+        tax.setIncluded(true);
+        tax.setDescription("City tax");
+        tax.setAmount(BigDecimal.valueOf(4.95));
+        tax.setCurrency("EUR");
+
+        RetailRateDetail retailRate = new RetailRateDetail();
+        retailRate.setTotal(List.of(price(amount)));
+        retailRate.setSuggestedSellingPrice(List.of(price(amount.multiply(BigDecimal.valueOf(1.1))
+                .setScale(2, RoundingMode.HALF_UP))));
+        retailRate.setInitialPrice(List.of(price(amount)));
+        retailRate.setTaxesAndFees(List.of(tax));
+
+        Rate rate = new Rate();
+        rate.setRateId("rate-" + roomType + "-" + index);
+        rate.setOccupancyNumber(1);
+        rate.setName(ROOM_NAMES[(int) (mappedRoomId - 1) % ROOM_NAMES.length]);
+        rate.setMaxOccupancy(3);
+        rate.setAdultCount(2);
+        rate.setChildCount(0);
+        rate.setBoardType(BOARDS[board]);
+        rate.setBoardName(BOARD_NAMES[board]);
+        rate.setPriceType("commission");
+        rate.setCommission(List.of(price(amount.multiply(BigDecimal.valueOf(0.08))
+                .setScale(2, RoundingMode.HALF_UP))));
+        rate.setRetailRate(retailRate);
+        rate.setCancellationPolicies(cancellation(amount, checkin != null ? checkin : LocalDate.now().plusDays(30)));
+        rate.setMappedRoomId(mappedRoomId);
+        rate.setPaymentTypes(List.of("NUITEE_PAY"));
+        rate.setPerks(List.of());
+        return rate;
+    }
+
+    private CancellationPolicyDetail cancellation(BigDecimal amount, LocalDate checkin) {
+        CancellationPolicyInfo info = new CancellationPolicyInfo();
+        info.setCancelTime(checkin.minusDays(3) + " 12:00:00");
+        info.setAmount(amount);
+        info.setCurrency("EUR");
+        info.setType("amount");
+        info.setTimezone("GMT");
+        CancellationPolicyDetail cancellation = new CancellationPolicyDetail();
+        cancellation.setCancelPolicyInfos(List.of(info));
+        cancellation.setRefundableTag("RFN");
+        return cancellation;
+    }
+
+    private Price price(BigDecimal amount) {
+        Price price = new Price();
+        price.setAmount(amount);
+        price.setCurrency("EUR");
+        price.setSource("providerDirect");
+        return price;
+    }
+
+    /**
+     * 60.00 to 459.99 EUR per night.
+     */
+    private BigDecimal amount(Random random) {
+        return BigDecimal.valueOf(6_000 + random.nextInt(40_000), 2);
+    }
+
+    private Random random(String key, Object variant) {
+        return new Random(properties.getSeed() * 31 + Objects.hash(key, variant));
+    }
+
+    private static String placeId(String key) {
+        return "ChIJsim" + Integer.toHexString(Objects.hashCode(key));
+    }
+
+    static String hotelId(int index) {
+        return "lp" + Integer.toHexString(0x1a000 + index);
+    }
+
+    /**
+     * Catalog position of a simulated hotel ID; unknown IDs are mapped onto the catalog.
+     */
+    static int indexOf(String hotelId) {
+        if (hotelId != null && hotelId.startsWith("lp")) {
+            try {
+                int index = Integer.parseInt(hotelId.substring(2), 16) - 0x1a000;
+                if (index >= 0 && index < CATALOG_SIZE) {
+                    return index;
+                }
+            } catch (NumberFormatException ignored) {
+                // fall through to the hash below
+            }
+        }
+        return Math.floorMod(Objects.hashCode(hotelId), CATALOG_SIZE);
+    }
+}
@@ -0,0 +1,74 @@
+package com.travelhub.simulator;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Answers a request after a simulated latency, or with a simulated error. Responses are completed from a
+ * scheduler rather than by sleeping, so thousands of slow responses can be in flight without holding a request
+ * thread each.
+ */
+@Component
+public class SimulatedResponder {
+
+    /**
+     * z-score of the 99th percentile of the standard normal distribution.
+     */
+    private static final double Z_99 = 2.326;
+
+    private final SimulatorProperties properties;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "simulator-latency");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SimulatedResponder(SimulatorProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Builds the payload now and releases it once the endpoint's sampled latency has passed.
+     */
+    public CompletableFuture<ResponseEntity<Object>> respond(String endpoint, Supplier<Object> payload) {
+        SimulatorProperties.Endpoint behaviour = properties.endpoint(endpoint);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        ResponseEntity<Object> response;
+        if (random.nextDouble() < behaviour.getErrorRate()) {
+            HttpStatus status = HttpStatus.valueOf(behaviour.getErrorStatus());
+            response = ResponseEntity.status(status).body(Map.of("error",
+                    Map.of("code", status.value(), "message", "Simulated " + endpoint + " failure")));
+        } else {
+            response = ResponseEntity.ok(payload.get());
+        }
+
+        CompletableFuture<ResponseEntity<Object>> future = new CompletableFuture<>();
+        scheduler.schedule(() -> future.complete(response), sampleLatency(behaviour, random.nextGaussian()).toNanos(),
+                TimeUnit.NANOSECONDS);
+        return future;
+    }
+
+    /**
+     * Log-normal latency through the configured median and p99, for a standard normal {@code gaussian}.
+     */
+    static Duration sampleLatency(SimulatorProperties.Endpoint behaviour, double gaussian) {
+        double median = behaviour.getMedianLatency().toNanos();
+        if (median <= 0) {
+            return Duration.ZERO;
+        }
+        double p99 = Math.max(median, behaviour.getP99Latency().toNanos());
+        double sigma = Math.log(p99 / median) / Z_99;
+        return Duration.ofNanos((long) (median * Math.exp(sigma * gaussian)));
+    }
+}
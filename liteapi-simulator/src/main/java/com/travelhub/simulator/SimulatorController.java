@@ -0,0 +1,85 @@
+package com.travelhub.simulator;
+
+import com.travelhub.connectors.nuitee.dto.request.BookRequest;
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.request.PrebookRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The LiteAPI endpoints called by the Nuitee connector, served under the same paths so that both
+ * {@code travelhub.nuitee.base-url} and {@code travelhub.nuitee.booking-base-url} can point at the simulator.
+ */
+@RestController
+public class SimulatorController {
+
+        private final PayloadGenerator generator;
+        private final SimulatedResponder responder;
+
+        public SimulatorController(PayloadGenerator generator, SimulatedResponder responder) {
+                this.generator = generator;
+                this.responder = responder;
+        }
+
+        @PostMapping("/hotels/rates")
+        public CompletableFuture<ResponseEntity<Object>> rates(@RequestBody HotelRatesRequest request) {
+                return responder.respond("rates", () -> generator.rates(request));
+        }
+
+        @GetMapping("/data/hotels")
+        public CompletableFuture<ResponseEntity<Object>> hotels(@RequestParam(required = false) String placeId,
+                        @RequestParam(required = false) String latitude,
+                        @RequestParam(required = false) String longitude,
+                        @RequestParam(required = false) String hotelIds,
+                        @RequestParam(required = false) Integer offset,
+                        @RequestParam(required = false) Integer limit) {
+                String searchKey = placeId != null ? placeId
+                                : latitude != null && longitude != null ? latitude + "," + longitude : null;
+                return responder.respond("hotels", () -> generator.hotels(searchKey, hotelIds, offset, limit));
+        }
+
+        @GetMapping("/data/hotel")
+        public CompletableFuture<ResponseEntity<Object>> hotel(@RequestParam String hotelId) {
+                return responder.respond("hotel", () -> generator.hotelDetails(hotelId));
+        }
+
+        @GetMapping("/data/places")
+        public CompletableFuture<ResponseEntity<Object>> places(@RequestParam(required = false) String textQuery) {
+                return responder.respond("places", () -> generator.places(textQuery));
+        }
+
+        @GetMapping("/data/places/{placeId}")
+        public CompletableFuture<ResponseEntity<Object>> place(@PathVariable String placeId) {
+                return responder.respond("places", () -> generator.placeDetails(placeId));
+        }
+
+        @GetMapping("/data/reviews")
+        public CompletableFuture<ResponseEntity<Object>> reviews(@RequestParam String hotelId,
+                        @RequestParam(required = false) Integer limit,
+                        @RequestParam(required = false) Integer offset) {
+                return responder.respond("reviews", () -> generator.reviews(hotelId, limit, offset));
+        }
+
+        @PostMapping("/rates/prebook")
+        public CompletableFuture<ResponseEntity<Object>> prebook(@RequestBody PrebookRequest request) {
+                return responder.respond("prebook", () -> generator.prebook(request));
+        }
+
+        @PostMapping("/rates/book")
+        public CompletableFuture<ResponseEntity<Object>> book(@RequestBody BookRequest request) {
+                return responder.respond("book", () -> generator.book(request));
+        }
+
+        @GetMapping("/bookings")
+        public CompletableFuture<ResponseEntity<Object>> bookings(
+                        @RequestParam(required = false) String clientReference) {
+                return responder.respond("bookings", () -> generator.bookings(clientReference));
+        }
+
+        @GetMapping("/bookings/{bookingId}")
+        public CompletableFuture<ResponseEntity<Object>> booking(@PathVariable String bookingId) {
+                return responder.respond("bookings", () -> generator.booking(bookingId));
+        }
+}
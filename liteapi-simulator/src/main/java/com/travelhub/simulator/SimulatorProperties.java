@@ -0,0 +1,242 @@
+package com.travelhub.simulator;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "travelhub.simulator")
+public class SimulatorProperties {
+
+    /**
+     * Seed of the generated content. The same seed and request always produce the same payload.
+     */
+    private long seed = 42;
+
+    /**
+     * Behaviour of endpoints that have no entry in {@code endpoints}.
+     */
+    private Endpoint defaults = new Endpoint();
+
+    /**
+     * Behaviour per endpoint: rates, hotels, hotel, places, reviews, prebook, book and bookings.
+     */
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    /**
+     * Size of the generated payloads.
+     */
+    private Payload payload = new Payload();
+
+    public Endpoint endpoint(String name) {
+        return endpoints.getOrDefault(name, defaults);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public Endpoint getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Endpoint defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Endpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public Payload getPayload() {
+        return payload;
+    }
+
+    public void setPayload(Payload payload) {
+        this.payload = payload;
+    }
+
+    public static class Endpoint {
+
+        /**
+         * Median response latency. Latencies follow a log-normal distribution through the median and the p99.
+         */
+        private Duration medianLatency = Duration.ofMillis(150);
+
+        /**
+         * 99th percentile response latency.
+         */
+        private Duration p99Latency = Duration.ofMillis(800);
+
+        /**
+         * Fraction of requests, between 0 and 1, answered with {@code errorStatus} instead of a payload.
+         */
+        private double errorRate = 0;
+
+        /**
+         * HTTP status of simulated errors.
+         */
+        private int errorStatus = 503;
+
+        public Duration getMedianLatency() {
+            return medianLatency;
+        }
+
+        public void setMedianLatency(Duration medianLatency) {
+            this.medianLatency = medianLatency;
+        }
+
+        public Duration getP99Latency() {
+            return p99Latency;
+        }
+
+        public void setP99Latency(Duration p99Latency) {
+            this.p99Latency = p99Latency;
+        }
+
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        public void setErrorRate(double errorRate) {
+            this.errorRate = errorRate;
+        }
+
+        public int getErrorStatus() {
+            return errorStatus;
+        }
+
+        public void setErrorStatus(int errorStatus) {
+            this.errorStatus = errorStatus;
+        }
+    }
+
+    public static class Payload {
+
+        /**
+         * Fraction of the requested hotels that have availability in a rates response.
+         */
+        private double availability = 0.7;
+
+        /**
+         * Room types (offers) per available hotel in a rates response.
+         */
+        private int roomTypesPerHotel = 6;
+
+        /**
+         * Rates per room type in a rates response.
+         */
+        private int ratesPerRoomType = 4;
+
+        /**
+         * Hotels returned by a hotels list search without a {@code limit}.
+         */
+        private int hotelsPerSearch = 200;
+
+        /**
+         * Rooms in a hotel details response.
+         */
+        private int roomsPerHotel = 12;
+
+        /**
+         * Images in a hotel details response.
+         */
+        private int imagesPerHotel = 40;
+
+        /**
+         * Reviews returned without a {@code limit}.
+         */
+        private int reviewsPerPage = 20;
+
+        /**
+         * Places returned by a text search.
+         */
+        private int placesPerSearch = 5;
+
+        /**
+         * Bookings returned for a client reference.
+         */
+        private int bookingsPerClient = 5;
+
+        public double getAvailability() {
+            return availability;
+        }
+
+        public void setAvailability(double availability) {
+            this.availability = availability;
+        }
+
+        public int getRoomTypesPerHotel() {
+            return roomTypesPerHotel;
+        }
+
+        public void setRoomTypesPerHotel(int roomTypesPerHotel) {
+            this.roomTypesPerHotel = roomTypesPerHotel;
+        }
+
+        public int getRatesPerRoomType() {
+            return ratesPerRoomType;
+        }
+
+        public void setRatesPerRoomType(int ratesPerRoomType) {
+            this.ratesPerRoomType = ratesPerRoomType;
+        }
+
+        public int getHotelsPerSearch() {
+            return hotelsPerSearch;
+        }
+
+        public void setHotelsPerSearch(int hotelsPerSearch) {
+            this.hotelsPerSearch = hotelsPerSearch;
+        }
+
+        public int getRoomsPerHotel() {
+            return roomsPerHotel;
+        }
+
+        public void setRoomsPerHotel(int roomsPerHotel) {
+            this.roomsPerHotel = roomsPerHotel;
+        }
+
+        public int getImagesPerHotel() {
+            return imagesPerHotel;
+        }
+
+        public void setImagesPerHotel(int imagesPerHotel) {
+            this.imagesPerHotel = imagesPerHotel;
+        }
+
+        public int getReviewsPerPage() {
+            return reviewsPerPage;
+        }
+
+        public void setReviewsPerPage(int reviewsPerPage) {
+            this.reviewsPerPage = reviewsPerPage;
+        }
+
+        public int getPlacesPerSearch() {
+            return placesPerSearch;
+        }
+
+        public void setPlacesPerSearch(int placesPerSearch) {
+            this.placesPerSearch = placesPerSearch;
+        }
+
+        public int getBookingsPerClient() {
+            return bookingsPerClient;
+        }
+
+        public void setBookingsPerClient(int bookingsPerClient) {
+            this.bookingsPerClient = bookingsPerClient;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.travelhub.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.travelhub.connectors.nuitee.dto.request.HotelRatesRequest;
+import com.travelhub.connectors.nuitee.dto.response.HotelRate;
+import com.travelhub.connectors.nuitee.dto.response.HotelRatesResponse;
+import com.travelhub.connectors.nuitee.dto.response.HotelsListResponse;
+import com.travelhub.connectors.nuitee.dto.response.Rate;
+import com.travelhub.connectors.nuitee.dto.response.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PayloadGeneratorTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+    private PayloadGenerator generator;
+
+    @BeforeEach
+    public void setUp() {
+        generator = new PayloadGenerator(new SimulatorProperties());
+    }
+
+    @Test
+    public void testRates_SameRequestSamePayload() throws Exception {
+        HotelsListResponse hotels = generator.hotels("ChIJ", null, null, null);
+
+        HotelRatesResponse first = generator.rates(ratesRequest(hotels.getHotelIds()));
+        HotelRatesResponse second = generator.rates(ratesRequest(hotels.getHotelIds()));
+
+        assertThat(hotels.getHotelIds()).hasSize(200);
+        assertThat(first.getData()).hasSizeBetween(100, 180);
+        assertThat(first.getData().get(0).getRoomTypes()).hasSize(6)
+                .allSatisfy(roomType -> assertThat(roomType.getRates()).hasSize(4));
+        assertThat(objectMapper.writeValueAsString(first)).isEqualTo(objectMapper.writeValueAsString(second));
+    }
+
+    @Test
+    public void testRates_MappedRoomsExistInHotelDetails() {
+        HotelRate hotelRate = generator.rates(ratesRequest(generator.hotels(null, null, 0, 10).getHotelIds()))
+                .getData().get(0);
+
+        Set<Long> roomIds = generator.hotelDetails(hotelRate.getHotelId()).getData().getRooms().stream()
+                .map(room -> (long) room.getId())
+                .collect(Collectors.toSet());
+
+        assertThat(hotelRate.getRoomTypes()).flatMap(roomType -> roomType.getRates())
+                .extracting(Rate::getMappedRoomId)
+                .allSatisfy(mappedRoomId -> assertThat(roomIds).contains(mappedRoomId));
+        assertThat(generator.hotelDetails(hotelRate.getHotelId()).getData().getRooms()).extracting(Room::getRoomName)
+                .hasSize(12);
+    }
+
+    @Test
+    public void testHotels_PagingStopsAtEndOfCatalog() {
+        assertThat(generator.hotels(null, null, PayloadGenerator.CATALOG_SIZE - 30, 50).getData()).hasSize(30);
+        assertThat(generator.hotels(null, null, PayloadGenerator.CATALOG_SIZE, 50).getData()).isEmpty();
+        assertThat(generator.hotels(null, "lp1a005,lp1a006", null, null).getHotelIds())
+                .containsExactly("lp1a005", "lp1a006");
+    }
+
+    private HotelRatesRequest ratesRequest(List<String> hotelIds) {
+        HotelRatesRequest request = new HotelRatesRequest();
+        request.setHotelIds(hotelIds);
+        request.setCheckin(LocalDate.of(2026, 3, 10));
+        request.setCheckout(LocalDate.of(2026, 3, 12));
+        return request;
+    }
+}
@@ -0,0 +1,41 @@
+package com.travelhub.simulator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimulatedResponderTest {
+
+    @Test
+    public void testSampleLatency_HitsMedianAndP99() {
+        SimulatorProperties.Endpoint endpoint = new SimulatorProperties.Endpoint();
+        endpoint.setMedianLatency(Duration.ofMillis(200));
+        endpoint.setP99Latency(Duration.ofSeconds(2));
+
+        assertThat(SimulatedResponder.sampleLatency(endpoint, 0)).isEqualTo(Duration.ofMillis(200));
+        assertThat(SimulatedResponder.sampleLatency(endpoint, 2.326).toMillis()).isBetween(1999L, 2001L);
+        assertThat(SimulatedResponder.sampleLatency(endpoint, -2.326).toMillis()).isBetween(19L, 21L);
+    }
+
+    @Test
+    public void testRespond_ErrorRateAnswersWithErrorStatus() {
+        SimulatorProperties properties = new SimulatorProperties();
+        SimulatorProperties.Endpoint failing = new SimulatorProperties.Endpoint();
+        failing.setMedianLatency(Duration.ZERO);
+        failing.setErrorRate(1);
+        failing.setErrorStatus(429);
+        properties.getEndpoints().put("book", failing);
+        properties.getDefaults().setMedianLatency(Duration.ZERO);
+        SimulatedResponder responder = new SimulatedResponder(properties);
+
+        ResponseEntity<Object> failed = responder.respond("book", () -> "booked").join();
+        ResponseEntity<Object> ok = responder.respond("rates", () -> "rates").join();
+
+        assertThat(failed.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(ok.getBody()).isEqualTo("rates");
+    }
+}
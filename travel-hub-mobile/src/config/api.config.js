@@ -5,6 +5,7 @@ const YOUR_COMPUTER_IP = '10.57.212.100'; // Change this to your Mac's IP (e.g.,
 
 export const API_CONFIG = {
   BASE_URL: `http://${YOUR_COMPUTER_IP}:8080/api/v1`,
+  BASE_URL_V2: `http://${YOUR_COMPUTER_IP}:8080/api/v2`,
   TIMEOUT: 30000,
   HEADERS: {
     'Content-Type': 'application/json',
@@ -28,5 +29,6 @@ export const ENDPOINTS = {
   SUBMIT_BOOKING: '/booking/submit',
   GET_BOOKING: (bookingId) => `/booking/${bookingId}`,
   GET_HOTEL_DETAILS: (hotelId) => `/hotels/${hotelId}`,
+  // Served by BASE_URL_V2, which pages the list
   LIST_BOOKINGS: '/booking/list',
 };
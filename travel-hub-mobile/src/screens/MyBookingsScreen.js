@@ -20,6 +20,8 @@ import { fr } from 'date-fns/locale';
 export const MyBookingsScreen = ({ navigation }) => {
     const [bookings, setBookings] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [activeTab, setActiveTab] = useState('reservations'); // 'discover', 'reservations', 'favorites'
     const [userPoints, setUserPoints] = useState(600); // Mock points - replace with actual user data
 
@@ -34,6 +36,7 @@ export const MyBookingsScreen = ({ navigation }) => {
             setLoading(true);
             const response = await ApiService.listBookings();
             setBookings(response.data || []);
+            setNextCursor(response.nextCursor || null);
         } catch (error) {
             console.error('Failed to load bookings:', error);
             Alert.alert('Erreur', 'Impossible de charger les réservations');
@@ -42,6 +45,22 @@ export const MyBookingsScreen = ({ navigation }) => {
         }
     };
 
+    const loadMoreBookings = async () => {
+        if (!nextCursor || loadingMore) {
+            return;
+        }
+        try {
+            setLoadingMore(true);
+            const response = await ApiService.listBookings(nextCursor);
+            setBookings((current) => [...current, ...(response.data || [])]);
+            setNextCursor(response.nextCursor || null);
+        } catch (error) {
+            console.error('Failed to load more bookings:', error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const getStatusConfig = (status) => {
         switch (status?.toUpperCase()) {
 
@@ -300,6 +319,9 @@ export const MyBookingsScreen = ({ navigation }) => {
                     keyExtractor={(item, index) => item.bookingId || `booking-${index}`}
                     contentContainerStyle={styles.listContent}
                     ListEmptyComponent={renderEmptyState}
+                    onEndReached={loadMoreBookings}
+                    onEndReachedThreshold={0.5}
+                    ListFooterComponent={loadingMore ? <ActivityIndicator color="#E85D40" /> : null}
                     showsVerticalScrollIndicator={false}
                 />
             )}
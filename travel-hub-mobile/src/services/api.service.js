@@ -98,8 +98,11 @@ export const ApiService = {
     return apiClient.get(ENDPOINTS.GET_HOTEL_DETAILS(hotelId));
   },
 
-  listBookings: async () => {
-    return apiClient.get(ENDPOINTS.LIST_BOOKINGS);
+  listBookings: async (cursor) => {
+    return apiClient.get(ENDPOINTS.LIST_BOOKINGS, {
+      baseURL: API_CONFIG.BASE_URL_V2,
+      params: cursor ? { cursor } : undefined
+    });
   },
 };
 